@@ -20,11 +20,14 @@ import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.finos.legend.sdlc.serialization.EntityIndex;
 import org.finos.legend.sdlc.serialization.EntitySerializer;
 import org.finos.legend.sdlc.serialization.EntitySerializers;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
@@ -34,6 +37,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Predicate;
 
 @Mojo(name = "process-entities", defaultPhase = LifecyclePhase.COMPILE)
@@ -48,6 +52,34 @@ public class EntityMojo extends AbstractMojo
     @Parameter(defaultValue = "${project.basedir}", readonly = true)
     public File baseDir;
 
+    /**
+     * Number of files to reserialize concurrently. If this is zero or negative, the number of available processors
+     * is used.
+     */
+    @Parameter(defaultValue = "1")
+    public int parallelism;
+
+    /**
+     * Whether to only reserialize files which have changed since the previous execution. Entities whose source files
+     * have been removed are also removed from the output directory.
+     */
+    @Parameter(defaultValue = "false")
+    public boolean incremental;
+
+    /**
+     * Directory where state for incremental reserialization is kept.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/legend-entities")
+    public File incrementalStateDirectory;
+
+    /**
+     * Whether to write an index of the entities in the output directory (see {@link EntityIndex}). When the output
+     * directory is packaged into a jar, the index allows the entities in the jar to be looked up without scanning and
+     * deserializing every entity file. The index only refers to the entity files, which are still written.
+     */
+    @Parameter(defaultValue = "false")
+    public boolean writeIndex;
+
     @Override
     public void execute() throws MojoExecutionException
     {
@@ -56,6 +88,9 @@ public class EntityMojo extends AbstractMojo
         getLog().info("source directories: " + this.sourceDirectories);
         getLog().info("output directory: " + this.outputDirectory);
         getLog().info("base directory: " + this.baseDir);
+        getLog().info("parallelism: " + getParallelism());
+        getLog().info("incremental: " + this.incremental);
+        getLog().info("write index: " + this.writeIndex);
 
         EntitySerializer outputSerializer = EntitySerializers.getDefaultJsonSerializer();
         List<SerializationSpec> serializationSpecs = getSerializationSpecs();
@@ -64,7 +99,7 @@ public class EntityMojo extends AbstractMojo
         {
             long sourceStart = System.nanoTime();
             getLog().info("Reserializing entities from " + serializationSpec.directory + " using serializer \"" + serializationSpec.serializer.getName() + "\" to " + this.outputDirectory);
-            EntityReserializer reserializer = EntityReserializer.newReserializer(serializationSpec.serializer, outputSerializer);
+            EntityReserializer reserializer = EntityReserializer.newReserializer(serializationSpec.serializer, outputSerializer, null, getParallelism(), this.incremental ? getIncrementalStateFile(serializationSpec) : null);
             Predicate<Path> filter = (serializationSpec.fileExtensions == null) ? null : EntityReserializer.getExtensionsFilter(serializationSpec.fileExtensions);
             try
             {
@@ -92,10 +127,44 @@ public class EntityMojo extends AbstractMojo
                 throw new MojoExecutionException(builder.toString(), e);
             }
         }
+        updateIndex();
         long end = System.nanoTime();
         getLog().info(String.format("Finished processing %,d entities (%.9fs)", totalCount, nanoDuration(start, end)));
     }
 
+    private void updateIndex() throws MojoExecutionException
+    {
+        Path entitiesDirectory = this.outputDirectory.toPath().resolve("entities");
+        try
+        {
+            if (!this.writeIndex)
+            {
+                // an index from a previous execution would no longer be up to date
+                if (Files.deleteIfExists(entitiesDirectory.resolve(EntityIndex.INDEX_FILE_NAME)))
+                {
+                    getLog().info("Deleted entity index from " + entitiesDirectory);
+                }
+            }
+            else if (Files.isDirectory(entitiesDirectory))
+            {
+                long indexStart = System.nanoTime();
+                getLog().info("Writing entity index to " + entitiesDirectory);
+                EntityIndex.writeIndex(entitiesDirectory);
+                getLog().info(String.format("Finished writing entity index to %s (%.9fs)", entitiesDirectory, nanoDuration(indexStart, System.nanoTime())));
+            }
+        }
+        catch (Exception e)
+        {
+            StringBuilder builder = new StringBuilder("Error updating entity index in ").append(entitiesDirectory);
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw new MojoExecutionException(builder.toString(), e);
+        }
+    }
+
     private List<SerializationSpec> getSerializationSpecs() throws MojoExecutionException
     {
         Map<String, EntitySerializer> entitySerializers = EntitySerializers.getAvailableSerializersByName();
@@ -197,6 +266,18 @@ public class EntityMojo extends AbstractMojo
         }
     }
 
+    private int getParallelism()
+    {
+        return (this.parallelism > 0) ? this.parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    private Path getIncrementalStateFile(SerializationSpec serializationSpec)
+    {
+        // each source directory, serializer, and set of file extensions has its own state
+        String key = serializationSpec.directory.toAbsolutePath() + "\n" + serializationSpec.serializer.getName() + "\n" + ((serializationSpec.fileExtensions == null) ? "" : Sets.mutable.withAll(serializationSpec.fileExtensions).toSortedList().makeString(","));
+        return this.incrementalStateDirectory.toPath().resolve(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + ".json");
+    }
+
     private static double nanoDuration(long nanoStart, long nanoEnd)
     {
         return (nanoEnd - nanoStart) / 1_000_000_000.0;
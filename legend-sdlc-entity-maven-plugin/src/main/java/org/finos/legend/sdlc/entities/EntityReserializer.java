@@ -14,9 +14,15 @@
 
 package org.finos.legend.sdlc.entities;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.serialization.EntitySerializer;
@@ -25,35 +31,63 @@ import org.slf4j.LoggerFactory;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Predicate;
 
 public class EntityReserializer
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(EntityReserializer.class);
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .build();
+
+    private static final String HASH_ALGORITHM = "SHA-256";
 
     private final EntitySerializer sourceSerializer;
     private final EntitySerializer targetSerializer;
     private final String targetFileExtension;
+    private final int parallelism;
+    private final Path incrementalStateFile;
 
-    private EntityReserializer(EntitySerializer sourceSerializer, EntitySerializer targetSerializer, String targetFileExtension)
+    private EntityReserializer(EntitySerializer sourceSerializer, EntitySerializer targetSerializer, String targetFileExtension, int parallelism, Path incrementalStateFile)
     {
+        if (parallelism <= 0)
+        {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
         this.sourceSerializer = sourceSerializer;
         this.targetSerializer = targetSerializer;
         this.targetFileExtension = (targetFileExtension == null) ? this.targetSerializer.getDefaultFileExtension() : targetFileExtension;
+        this.parallelism = parallelism;
+        this.incrementalStateFile = incrementalStateFile;
     }
 
     public List<String> reserializeDirectoryTree(Path sourceDirectory, Path targetDirectory) throws IOException
@@ -63,15 +97,66 @@ public class EntityReserializer
 
     public List<String> reserializeDirectoryTree(Path sourceDirectory, Predicate<? super Path> filter, Path targetDirectory) throws IOException
     {
-        if (Files.notExists(sourceDirectory))
+        boolean sourceDirectoryExists = Files.exists(sourceDirectory);
+        if (!sourceDirectoryExists && !isIncremental())
         {
             LOGGER.debug("Source directory {} does not exist: no entities reserialized to {}", sourceDirectory, targetDirectory);
             return Collections.emptyList();
         }
 
         Path targetEntitiesDirectory = targetDirectory.resolve("entities");
+        MutableList<Path> sourceFiles = sourceDirectoryExists ? findSourceFiles(sourceDirectory, filter) : Lists.mutable.empty();
+        if (!isIncremental())
+        {
+            return processFiles(sourceFiles, f -> reserializeFile(f, targetEntitiesDirectory, false));
+        }
+
+        ReserializationState previousState = readState();
+        Map<String, FileState> previousFiles = previousState.getSettings().equals(getSettings()) ? previousState.files : Collections.emptyMap();
+        MutableSet<String> previousTargets = Iterate.collect(previousState.files.values(), f -> f.targetFile, Sets.mutable.empty());
+        MutableList<FileState> fileStates = processFiles(sourceFiles, f -> processFileIncrementally(f, sourceDirectory, targetDirectory, targetEntitiesDirectory, previousFiles.get(toRelativePathString(sourceDirectory.relativize(f))), previousTargets));
+
+        ReserializationState newState = new ReserializationState(getSettings(), null);
+        MutableSet<String> currentTargets = Sets.mutable.empty();
+        for (int i = 0; i < sourceFiles.size(); i++)
+        {
+            FileState fileState = fileStates.get(i);
+            if (!currentTargets.add(fileState.targetFile))
+            {
+                throw new IOException("Error serializing entity '" + fileState.entityPath + "' to " + resolve(targetDirectory, fileState.targetFile) + ": target file already exists");
+            }
+            newState.files.put(toRelativePathString(sourceDirectory.relativize(sourceFiles.get(i))), fileState);
+        }
+
+        // remove targets whose sources no longer exist
+        for (String staleTarget : previousTargets.withoutAll(currentTargets))
+        {
+            Path staleTargetFile = resolve(targetDirectory, staleTarget);
+            LOGGER.debug("Deleting {}", staleTargetFile);
+            Files.deleteIfExists(staleTargetFile);
+        }
+
+        writeState(newState);
+        if (LOGGER.isDebugEnabled())
+        {
+            LOGGER.debug("Reused {} of {} previously reserialized entities from {}", fileStates.count(f -> f.reused), fileStates.size(), sourceDirectory);
+        }
+        return fileStates.collect(f -> f.entityPath);
+    }
+
+    public Predicate<Path> getDefaultExtensionFilter()
+    {
+        return getExtensionFilter(this.sourceSerializer.getDefaultFileExtension());
+    }
+
+    private boolean isIncremental()
+    {
+        return this.incrementalStateFile != null;
+    }
 
-        List<String> entityPaths = Lists.mutable.empty();
+    private MutableList<Path> findSourceFiles(Path sourceDirectory, Predicate<? super Path> filter) throws IOException
+    {
+        MutableList<Path> sourceFiles = Lists.mutable.empty();
         Deque<Path> directories = new ArrayDeque<>();
         directories.add(sourceDirectory);
         while (!directories.isEmpty())
@@ -87,25 +172,126 @@ public class EntityReserializer
                     }
                     else if ((filter == null) || filter.test(entry))
                     {
-                        entityPaths.add(reserializeFile(entry, targetEntitiesDirectory));
+                        sourceFiles.add(entry);
                     }
                 }
             }
         }
+        return sourceFiles;
+    }
+
+    /**
+     * Apply a function to each of the source files, returning the results in the same order as the files. If
+     * parallelism is greater than 1, each file is processed as a separate task in a fork-join pool.
+     */
+    private <T> MutableList<T> processFiles(MutableList<Path> sourceFiles, FileProcessor<T> processor) throws IOException
+    {
+        if ((this.parallelism == 1) || (sourceFiles.size() <= 1))
+        {
+            MutableList<T> results = Lists.mutable.ofInitialCapacity(sourceFiles.size());
+            for (Path sourceFile : sourceFiles)
+            {
+                results.add(processor.process(sourceFile));
+            }
+            return results;
+        }
 
-        return entityPaths;
+        ForkJoinPool pool = new ForkJoinPool(Math.min(this.parallelism, sourceFiles.size()));
+        try
+        {
+            MutableList<ForkJoinTask<T>> tasks = sourceFiles.collect(f -> pool.submit(() -> processor.process(f)));
+            MutableList<T> results = Lists.mutable.ofInitialCapacity(tasks.size());
+            for (ForkJoinTask<T> task : tasks)
+            {
+                try
+                {
+                    results.add(task.get());
+                }
+                catch (ExecutionException e)
+                {
+                    tasks.forEach(t -> t.cancel(true));
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException)
+                    {
+                        throw (IOException) cause;
+                    }
+                    if (cause instanceof RuntimeException)
+                    {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error)
+                    {
+                        throw (Error) cause;
+                    }
+                    throw new RuntimeException(cause);
+                }
+                catch (InterruptedException e)
+                {
+                    tasks.forEach(t -> t.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while reserializing entities");
+                }
+            }
+            return results;
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
     }
 
-    public Predicate<Path> getDefaultExtensionFilter()
+    private FileState processFileIncrementally(Path sourceFile, Path sourceDirectory, Path targetDirectory, Path targetEntitiesDirectory, FileState previous, MutableSet<String> previousTargets) throws IOException
     {
-        return getExtensionFilter(this.sourceSerializer.getDefaultFileExtension());
+        BasicFileAttributes attributes = Files.readAttributes(sourceFile, BasicFileAttributes.class);
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        if ((previous != null) && Files.exists(resolve(targetDirectory, previous.targetFile)))
+        {
+            if ((previous.size == size) && (previous.lastModified == lastModified))
+            {
+                LOGGER.debug("Skipping unmodified file {}", sourceFile);
+                return previous.reuse(size, lastModified);
+            }
+            byte[] content = Files.readAllBytes(sourceFile);
+            String hash = computeHash(content);
+            if (previous.hash.equals(hash))
+            {
+                LOGGER.debug("Skipping file with unchanged content {}", sourceFile);
+                return previous.reuse(size, lastModified);
+            }
+            return reserializeFileIncrementally(sourceFile, content, hash, size, lastModified, targetDirectory, targetEntitiesDirectory, previousTargets);
+        }
+        byte[] content = Files.readAllBytes(sourceFile);
+        return reserializeFileIncrementally(sourceFile, content, computeHash(content), size, lastModified, targetDirectory, targetEntitiesDirectory, previousTargets);
     }
 
-    private String reserializeFile(Path sourceFile, Path targetDirectory) throws IOException
+    private FileState reserializeFileIncrementally(Path sourceFile, byte[] content, String hash, long size, long lastModified, Path targetDirectory, Path targetEntitiesDirectory, MutableSet<String> previousTargets) throws IOException
+    {
+        Entity entity = deserialize(sourceFile, new ByteArrayInputStream(content));
+        Path targetFile = this.targetSerializer.filePathForEntity(entity, targetEntitiesDirectory, this.targetFileExtension);
+        String relativeTargetFile = toRelativePathString(targetDirectory.relativize(targetFile));
+        // only overwrite target files previously written from this source directory
+        serialize(entity, targetFile, previousTargets.contains(relativeTargetFile));
+        return new FileState(size, lastModified, hash, entity.getPath(), relativeTargetFile, false);
+    }
+
+    private String reserializeFile(Path sourceFile, Path targetDirectory, boolean overwrite) throws IOException
     {
-        LOGGER.debug("Reading {}", sourceFile);
         Entity entity;
         try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(sourceFile)))
+        {
+            entity = deserialize(sourceFile, inputStream);
+        }
+        Path targetFile = this.targetSerializer.filePathForEntity(entity, targetDirectory, this.targetFileExtension);
+        serialize(entity, targetFile, overwrite);
+        return entity.getPath();
+    }
+
+    private Entity deserialize(Path sourceFile, InputStream inputStream) throws IOException
+    {
+        LOGGER.debug("Reading {}", sourceFile);
+        Entity entity;
+        try
         {
             entity = this.sourceSerializer.deserialize(inputStream);
         }
@@ -126,11 +312,17 @@ public class EntityReserializer
             throw new RuntimeException(message, e);
         }
         LOGGER.debug("Finished reading {} from {}", entity.getPath(), sourceFile);
+        return entity;
+    }
 
-        Path targetFile = this.targetSerializer.filePathForEntity(entity, targetDirectory, this.targetFileExtension);
+    private void serialize(Entity entity, Path targetFile, boolean overwrite) throws IOException
+    {
         LOGGER.debug("Writing {} to {}", entity.getPath(), targetFile);
         Files.createDirectories(targetFile.getParent());
-        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(targetFile, StandardOpenOption.CREATE_NEW)))
+        OpenOption[] openOptions = overwrite ?
+                new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE} :
+                new OpenOption[]{StandardOpenOption.CREATE_NEW};
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(targetFile, openOptions)))
         {
             this.targetSerializer.serialize(entity, outputStream);
         }
@@ -158,12 +350,67 @@ public class EntityReserializer
             throw new RuntimeException(message, e);
         }
         LOGGER.debug("Finished writing {} to {}", entity.getPath(), targetFile);
-        return entity.getPath();
+    }
+
+    private String getSettings()
+    {
+        return this.sourceSerializer.getName() + " -> " + this.targetSerializer.getName() + " (" + this.targetFileExtension + ")";
+    }
+
+    private ReserializationState readState()
+    {
+        if (Files.notExists(this.incrementalStateFile))
+        {
+            return new ReserializationState(null, null);
+        }
+        try (Reader reader = Files.newBufferedReader(this.incrementalStateFile, StandardCharsets.UTF_8))
+        {
+            return JSON_MAPPER.readValue(reader, ReserializationState.class);
+        }
+        catch (Exception e)
+        {
+            // if the state cannot be read, everything will be reserialized
+            LOGGER.warn("Error reading reserialization state from {}: all entities will be reserialized", this.incrementalStateFile, e);
+            return new ReserializationState(null, null);
+        }
+    }
+
+    private void writeState(ReserializationState state) throws IOException
+    {
+        Files.createDirectories(this.incrementalStateFile.getParent());
+        try (Writer writer = Files.newBufferedWriter(this.incrementalStateFile, StandardCharsets.UTF_8))
+        {
+            JSON_MAPPER.writeValue(writer, state);
+        }
+    }
+
+    /**
+     * Create a new reserializer.
+     * <p>
+     * If parallelism is greater than 1, files are reserialized concurrently using up to that many threads. The
+     * source and target serializers must then be safe for concurrent use.
+     * <p>
+     * If incrementalStateFile is non-null, reserialization is incremental: the state of each source file is recorded
+     * in that file, and source files whose size and modification time, or failing that whose content, are unchanged
+     * since the previous reserialization are not reserialized again (so long as the previous target file still
+     * exists). Target files whose source files no longer exist are deleted. Each source directory should be given its
+     * own state file.
+     *
+     * @param sourceSerializer     source serializer
+     * @param targetSerializer     target serializer
+     * @param targetFileExtension  target file extension (optional)
+     * @param parallelism          maximum number of files to reserialize concurrently
+     * @param incrementalStateFile state file for incremental reserialization (optional)
+     * @return reserializer
+     */
+    public static EntityReserializer newReserializer(EntitySerializer sourceSerializer, EntitySerializer targetSerializer, String targetFileExtension, int parallelism, Path incrementalStateFile)
+    {
+        return new EntityReserializer(sourceSerializer, targetSerializer, targetFileExtension, parallelism, incrementalStateFile);
     }
 
     public static EntityReserializer newReserializer(EntitySerializer sourceSerializer, EntitySerializer targetSerializer, String targetFileExtension)
     {
-        return new EntityReserializer(sourceSerializer, targetSerializer, targetFileExtension);
+        return newReserializer(sourceSerializer, targetSerializer, targetFileExtension, 1, null);
     }
 
     public static EntityReserializer newReserializer(EntitySerializer sourceSerializer, EntitySerializer targetSerializer)
@@ -240,4 +487,134 @@ public class EntityReserializer
         }
         return extension;
     }
+
+    private static String computeHash(byte[] content)
+    {
+        MessageDigest messageDigest;
+        try
+        {
+            messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            // SHA-256 is required to be supported by every Java platform
+            throw new RuntimeException(e);
+        }
+        byte[] digest = messageDigest.digest(content);
+        StringBuilder builder = new StringBuilder(digest.length * 2);
+        for (byte b : digest)
+        {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static Path resolve(Path directory, String relativePath)
+    {
+        Path path = directory;
+        for (String name : relativePath.split("/"))
+        {
+            path = path.resolve(name);
+        }
+        return path;
+    }
+
+    private static String toRelativePathString(Path relativePath)
+    {
+        StringBuilder builder = new StringBuilder();
+        relativePath.forEach(name -> ((builder.length() == 0) ? builder : builder.append('/')).append(name));
+        return builder.toString();
+    }
+
+    @FunctionalInterface
+    private interface FileProcessor<T>
+    {
+        T process(Path sourceFile) throws IOException;
+    }
+
+    private static class ReserializationState
+    {
+        private final String settings;
+        private final SortedMap<String, FileState> files;
+
+        @JsonCreator
+        private ReserializationState(@JsonProperty("settings") String settings, @JsonProperty("files") Map<String, FileState> files)
+        {
+            this.settings = settings;
+            this.files = (files == null) ? new TreeMap<>() : new TreeMap<>(files);
+        }
+
+        @JsonProperty("settings")
+        private String getSettings()
+        {
+            return (this.settings == null) ? "" : this.settings;
+        }
+
+        @JsonProperty("files")
+        private Map<String, FileState> getFiles()
+        {
+            return this.files;
+        }
+    }
+
+    private static class FileState
+    {
+        private final long size;
+        private final long lastModified;
+        private final String hash;
+        private final String entityPath;
+        private final String targetFile;
+        private final boolean reused;
+
+        private FileState(long size, long lastModified, String hash, String entityPath, String targetFile, boolean reused)
+        {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+            this.entityPath = entityPath;
+            this.targetFile = targetFile;
+            this.reused = reused;
+        }
+
+        @JsonCreator
+        private FileState(@JsonProperty("size") long size, @JsonProperty("lastModified") long lastModified, @JsonProperty("hash") String hash, @JsonProperty("entityPath") String entityPath, @JsonProperty("targetFile") String targetFile)
+        {
+            this(size, lastModified, hash, entityPath, targetFile, false);
+        }
+
+        private FileState reuse(long newSize, long newLastModified)
+        {
+            return new FileState(newSize, newLastModified, this.hash, this.entityPath, this.targetFile, true);
+        }
+
+        @JsonProperty("size")
+        private long getSize()
+        {
+            return this.size;
+        }
+
+        @JsonProperty("lastModified")
+        private long getLastModified()
+        {
+            return this.lastModified;
+        }
+
+        @JsonProperty("hash")
+        private String getHash()
+        {
+            return this.hash;
+        }
+
+        @JsonProperty("entityPath")
+        private String getEntityPath()
+        {
+            return this.entityPath;
+        }
+
+        @JsonProperty("targetFile")
+        private String getTargetFile()
+        {
+            return this.targetFile;
+        }
+    }
 }
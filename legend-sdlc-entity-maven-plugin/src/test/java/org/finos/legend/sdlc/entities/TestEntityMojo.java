@@ -17,9 +17,11 @@ package org.finos.legend.sdlc.entities;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.testing.MojoRule;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.serialization.EntityIndex;
 import org.finos.legend.sdlc.tools.entity.EntityPaths;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -249,6 +251,33 @@ public class TestEntityMojo
         Assert.assertEquals(expectedMessage, e.getMessage());
     }
 
+    @Test
+    public void testWriteIndex() throws Exception
+    {
+        File projectDir = this.tempFolder.newFolder();
+        copyPomFromResource("poms/write-index.xml", projectDir);
+        MavenProject mavenProject = this.mojoRule.readMavenProject(projectDir);
+        Path outputDir = new File(mavenProject.getBuild().getOutputDirectory()).toPath();
+        Path indexFile = outputDir.resolve("entities").resolve(EntityIndex.INDEX_FILE_NAME);
+
+        // No entities, so no index
+        this.mojoRule.executeMojo(projectDir, GOAL);
+        TestHelper.assertDirectoryEmptyOrNonExistent(outputDir);
+
+        Path srcMain = projectDir.toPath().resolve("src").resolve("main");
+        Path simpleJsonModelDir = TestHelper.getPathFromResource("simple-json-model");
+        TestHelper.copyDirectoryTree(simpleJsonModelDir.resolve("entities"), Files.createDirectories(srcMain.resolve("legend")));
+        this.mojoRule.executeMojo(projectDir, GOAL);
+
+        Map<String, Entity> expectedEntities = TestHelper.loadEntities(simpleJsonModelDir);
+        Assert.assertTrue(Files.isRegularFile(indexFile));
+        EntityIndex index = EntityIndex.open(indexFile);
+        Assert.assertEquals(Sets.mutable.withAll(expectedEntities.keySet()).toSortedList(), index.getEntityPaths());
+        Map<String, Entity> indexedEntities = Maps.mutable.empty();
+        index.getAllEntities().forEach(e -> indexedEntities.put(e.getPath(), e));
+        TestHelper.assertEntitiesByPathEqual(expectedEntities, indexedEntities);
+    }
+
     private void copyPomFromResource(String resourceName, File targetDir) throws IOException
     {
         copyPomFromResource(resourceName, targetDir.toPath());
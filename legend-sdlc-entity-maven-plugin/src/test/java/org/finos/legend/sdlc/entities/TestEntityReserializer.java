@@ -25,9 +25,13 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -112,6 +116,81 @@ public class TestEntityReserializer
                 e.getMessage());
     }
 
+    @Test
+    public void testPureDomainDirectoryInParallel() throws IOException
+    {
+        EntityReserializer reserializer = EntityReserializer.newReserializer(new PureDomainDeserializer(), EntitySerializers.getDefaultJsonSerializer(), null, 4, null);
+        Path sourceDir = TestHelper.getPathFromResource("simple-pure-model");
+        Path targetDir = this.tempFolder.getRoot().toPath().resolve("target");
+
+        Map<String, Entity> expectedEntities = TestHelper.loadEntitiesFromResource("simple-json-model");
+
+        List<String> paths = reserializer.reserializeDirectoryTree(sourceDir, targetDir);
+        Assert.assertEquals(expectedEntities.size(), paths.size());
+        Assert.assertEquals(expectedEntities.keySet(), Sets.mutable.withAll(paths));
+        TestHelper.assertDirectoryTreeFilePaths(
+                Iterate.collect(expectedEntities.keySet(), p -> Paths.get("entities" + targetDir.getFileSystem().getSeparator() + p.replace(EntityPaths.PACKAGE_SEPARATOR, targetDir.getFileSystem().getSeparator()) + ".json"), Sets.mutable.empty()),
+                targetDir);
+
+        Map<String, Entity> actualEntities = TestHelper.loadEntities(targetDir);
+        TestHelper.assertEntitiesByPathEqual(expectedEntities, actualEntities);
+
+        IOException e = Assert.assertThrows(IOException.class, () -> reserializer.reserializeDirectoryTree(sourceDir, targetDir));
+        Assert.assertTrue(e.getMessage(), e.getMessage().endsWith(": target file already exists"));
+    }
+
+    @Test
+    public void testIncrementalReserialization() throws IOException
+    {
+        Path tempRoot = this.tempFolder.getRoot().toPath();
+        Path sourceDir = tempRoot.resolve("source");
+        Path targetDir = tempRoot.resolve("target");
+        Path stateFile = tempRoot.resolve("state").resolve("state.json");
+        TestHelper.copyResourceDirectoryTree("simple-pure-model", sourceDir);
+        EntityReserializer reserializer = EntityReserializer.newReserializer(new PureDomainDeserializer(), EntitySerializers.getDefaultJsonSerializer(), null, 2, stateFile);
+
+        Map<String, Entity> expectedEntities = TestHelper.loadEntitiesFromResource("simple-json-model");
+        Assert.assertEquals(expectedEntities.keySet(), Sets.mutable.withAll(reserializer.reserializeDirectoryTree(sourceDir, targetDir)));
+        Assert.assertTrue(Files.isRegularFile(stateFile));
+        TestHelper.assertEntitiesByPathEqual(expectedEntities, TestHelper.loadEntities(targetDir));
+
+        Path personTarget = targetDir.resolve(Paths.get("entities", "model", "domain", "classes", "Person.json"));
+        Path firmTarget = targetDir.resolve(Paths.get("entities", "model", "domain", "classes", "Firm.json"));
+        Path addressTypeTarget = targetDir.resolve(Paths.get("entities", "model", "domain", "enums", "AddressType.json"));
+        FileTime oldTime = FileTime.fromMillis(0L);
+        for (Path target : Arrays.asList(personTarget, firmTarget, addressTypeTarget))
+        {
+            Files.setLastModifiedTime(target, oldTime);
+        }
+
+        // nothing changed: nothing is rewritten, but all entities are reported
+        Assert.assertEquals(expectedEntities.keySet(), Sets.mutable.withAll(reserializer.reserializeDirectoryTree(sourceDir, targetDir)));
+        Assert.assertEquals(oldTime, Files.getLastModifiedTime(personTarget));
+        Assert.assertEquals(oldTime, Files.getLastModifiedTime(firmTarget));
+
+        // touched but not modified: not rewritten
+        Path personSource = sourceDir.resolve(Paths.get("model", "domain", "classes", "Person.pure"));
+        Files.setLastModifiedTime(personSource, FileTime.fromMillis(Files.getLastModifiedTime(personSource).toMillis() + 10_000L));
+        reserializer.reserializeDirectoryTree(sourceDir, targetDir);
+        Assert.assertEquals(oldTime, Files.getLastModifiedTime(personTarget));
+
+        // modified: rewritten
+        Path firmSource = sourceDir.resolve(Paths.get("model", "domain", "classes", "Firm.pure"));
+        Files.write(firmSource, "\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        reserializer.reserializeDirectoryTree(sourceDir, targetDir);
+        Assert.assertNotEquals(oldTime, Files.getLastModifiedTime(firmTarget));
+        Assert.assertEquals(oldTime, Files.getLastModifiedTime(personTarget));
+        TestHelper.assertEntitiesByPathEqual(expectedEntities, TestHelper.loadEntities(targetDir));
+
+        // deleted: target removed
+        Files.delete(sourceDir.resolve(Paths.get("model", "domain", "enums", "AddressType.pure")));
+        List<String> paths = reserializer.reserializeDirectoryTree(sourceDir, targetDir);
+        Assert.assertFalse(paths.contains("model::domain::enums::AddressType"));
+        Assert.assertEquals(expectedEntities.size() - 1, paths.size());
+        Assert.assertTrue(Files.notExists(addressTypeTarget));
+        Assert.assertEquals(oldTime, Files.getLastModifiedTime(personTarget));
+    }
+
     @Test
     public void testMixedSourceDirectoryWithFiltering() throws IOException
     {
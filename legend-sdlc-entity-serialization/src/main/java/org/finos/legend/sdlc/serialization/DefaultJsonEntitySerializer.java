@@ -16,6 +16,9 @@ package org.finos.legend.sdlc.serialization;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.StreamReadFeature;
 import com.fasterxml.jackson.core.StreamWriteFeature;
 import com.fasterxml.jackson.databind.JavaType;
@@ -29,7 +32,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 public class DefaultJsonEntitySerializer implements EntityTextSerializer
@@ -117,8 +122,118 @@ public class DefaultJsonEntitySerializer implements EntityTextSerializer
         return toEntity(JSON_MAPPER.readValue(content, ENTITY_FILE_TYPE));
     }
 
+    @Override
+    public Entity deserializeLazily(byte[] content) throws IOException
+    {
+        EntityHeader header = deserializeHeader(content);
+        return JsonBytesEntity.newEntity(header.getPath(), header.getClassifierPath(), content);
+    }
+
+    @Override
+    public EntityHeader deserializeHeader(InputStream stream) throws IOException
+    {
+        try (JsonParser parser = JSON_MAPPER.getFactory().createParser(stream))
+        {
+            return readEntityHeader(parser);
+        }
+    }
+
+    @Override
+    public EntityHeader deserializeHeader(byte[] content) throws IOException
+    {
+        try (JsonParser parser = JSON_MAPPER.getFactory().createParser(content))
+        {
+            return readEntityHeader(parser);
+        }
+    }
+
     // Helpers
 
+    private static EntityHeader readEntityHeader(JsonParser parser) throws IOException
+    {
+        // Only classifierPath and the package and name properties of the content are read; everything else is
+        // skipped at the token level without being materialized.
+        if (parser.nextToken() != JsonToken.START_OBJECT)
+        {
+            throw new JsonParseException(parser, "Expected start of entity object");
+        }
+
+        String classifierPath = null;
+        String pkg = null;
+        String name = null;
+        boolean classifierPathFound = false;
+        boolean contentFound = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("classifierPath".equals(fieldName))
+            {
+                classifierPath = readStringValue(parser, token);
+                classifierPathFound = true;
+            }
+            else if ("content".equals(fieldName) && (token == JsonToken.START_OBJECT))
+            {
+                while (parser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                    String contentFieldName = parser.getCurrentName();
+                    JsonToken contentToken = parser.nextToken();
+                    if ("package".equals(contentFieldName))
+                    {
+                        pkg = readStringValue(parser, contentToken);
+                    }
+                    else if ("name".equals(contentFieldName))
+                    {
+                        name = readStringValue(parser, contentToken);
+                    }
+                    else
+                    {
+                        parser.skipChildren();
+                    }
+                }
+                contentFound = true;
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+
+            if (classifierPathFound && contentFound)
+            {
+                break;
+            }
+        }
+
+        if (name == null)
+        {
+            throw new RuntimeException("Could not compute entity path");
+        }
+        return EntityHeader.newEntityHeader(classifierPath, pkg, name);
+    }
+
+    private static String readStringValue(JsonParser parser, JsonToken token) throws IOException
+    {
+        if (token.isScalarValue())
+        {
+            return (token == JsonToken.VALUE_STRING) ? parser.getText() : null;
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    static Map<String, ?> deserializeContent(ByteBuffer content)
+    {
+        try (JsonParser parser = JsonBytesEntity.createParser(JSON_MAPPER.getFactory(), content))
+        {
+            EntityFile entityFile = JSON_MAPPER.readValue(parser, ENTITY_FILE_TYPE);
+            return entityFile.content;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error deserializing entity content", e);
+        }
+    }
+
     private static EntityFile toEntityFile(Entity entity)
     {
         return EntityFile.newEntityFile(entity.getClassifierPath(), entity.getContent());
@@ -0,0 +1,85 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.serialization;
+
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.tools.entity.EntityPaths;
+
+/**
+ * The identifying information of a serialized entity: its classifier path, package, and name. This can be read
+ * without deserializing the full content of the entity (see {@link EntitySerializer#deserializeHeader}).
+ */
+public class EntityHeader
+{
+    private final String classifierPath;
+    private final String packagePath;
+    private final String name;
+
+    private EntityHeader(String classifierPath, String packagePath, String name)
+    {
+        this.classifierPath = classifierPath;
+        this.packagePath = packagePath;
+        this.name = name;
+    }
+
+    public String getClassifierPath()
+    {
+        return this.classifierPath;
+    }
+
+    public String getPackage()
+    {
+        return this.packagePath;
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Get the path of the entity, computed from its package and name. Returns null if the name is not known.
+     *
+     * @return entity path or null
+     */
+    public String getPath()
+    {
+        if (this.name == null)
+        {
+            return null;
+        }
+        return (this.packagePath == null) ? this.name : (this.packagePath + EntityPaths.PACKAGE_SEPARATOR + this.name);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "<EntityHeader classifierPath=" + this.classifierPath + " path=" + getPath() + ">";
+    }
+
+    public static EntityHeader newEntityHeader(String classifierPath, String packagePath, String name)
+    {
+        return new EntityHeader(classifierPath, packagePath, name);
+    }
+
+    public static EntityHeader fromEntity(Entity entity)
+    {
+        String path = entity.getPath();
+        int index = (path == null) ? -1 : path.lastIndexOf(EntityPaths.PACKAGE_SEPARATOR);
+        return (index == -1) ?
+                new EntityHeader(entity.getClassifierPath(), null, path) :
+                new EntityHeader(entity.getClassifierPath(), path.substring(0, index), path.substring(index + EntityPaths.PACKAGE_SEPARATOR.length()));
+    }
+}
@@ -0,0 +1,376 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.serialization;
+
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.tools.entity.EntityPaths;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Prebuilt index of the entities in an entities directory, stored in a single file alongside them (see
+ * {@link #INDEX_FILE_NAME}). The index is a table of entity path, classifier path, and entity file (relative to the
+ * entities directory), sorted by entity path. It does not contain the entities themselves: the content of an entity is
+ * read from its file, and only deserialized, when it is first accessed. Listing entities by path or classifier path
+ * therefore only needs the index. Entities from the index are {@link SerializedEntity}s, so their content can also be
+ * read directly into another type. Lookup by entity path is a binary search, and lookup by package is a range of the
+ * table.
+ * <p>
+ * Instances are safe for concurrent use.
+ */
+public class EntityIndex
+{
+    /**
+     * Name of the index file, relative to the entities directory.
+     */
+    public static final String INDEX_FILE_NAME = "entities.index";
+
+    private static final int MAGIC = 0x4C454958; // "LEIX"
+    private static final int FORMAT_VERSION = 2;
+
+    private static final EntitySerializer ENTITY_SERIALIZER = EntitySerializers.getDefaultJsonSerializer();
+    private static final String ENTITY_FILE_EXTENSION = "." + ENTITY_SERIALIZER.getDefaultFileExtension();
+
+    private final Path entitiesDirectory;
+    private final String[] entityPaths;
+    private final String[] classifierPaths;
+    private final String[] filePaths;
+
+    private EntityIndex(Path entitiesDirectory, String[] entityPaths, String[] classifierPaths, String[] filePaths)
+    {
+        this.entitiesDirectory = entitiesDirectory;
+        this.entityPaths = entityPaths;
+        this.classifierPaths = classifierPaths;
+        this.filePaths = filePaths;
+    }
+
+    public int size()
+    {
+        return this.entityPaths.length;
+    }
+
+    /**
+     * Get the paths of all entities in the index, in sorted order.
+     *
+     * @return entity paths
+     */
+    public List<String> getEntityPaths()
+    {
+        return Collections.unmodifiableList(Arrays.asList(this.entityPaths));
+    }
+
+    public boolean hasEntity(String entityPath)
+    {
+        return indexOf(entityPath) >= 0;
+    }
+
+    /**
+     * Get the classifier path of an entity without deserializing it. Returns null if there is no such entity in the
+     * index.
+     *
+     * @param entityPath entity path
+     * @return classifier path or null
+     */
+    public String getClassifierPath(String entityPath)
+    {
+        int index = indexOf(entityPath);
+        return (index < 0) ? null : this.classifierPaths[index];
+    }
+
+    /**
+     * Get an entity from the index. Returns null if there is no such entity in the index.
+     *
+     * @param entityPath entity path
+     * @return entity or null
+     */
+    public Entity getEntity(String entityPath)
+    {
+        int index = indexOf(entityPath);
+        return (index < 0) ? null : readEntity(index);
+    }
+
+    /**
+     * Get all the entities in the index, in entity path order.
+     *
+     * @return all entities
+     */
+    public Stream<Entity> getAllEntities()
+    {
+        return getEntities(0, this.entityPaths.length);
+    }
+
+    /**
+     * Get all the entities in a package or any of its sub-packages, in entity path order.
+     *
+     * @param packagePath package path
+     * @return entities in the package
+     */
+    public Stream<Entity> getEntitiesInPackage(String packagePath)
+    {
+        if (EntityPaths.PACKAGE_SEPARATOR.equals(packagePath))
+        {
+            return getAllEntities();
+        }
+
+        String prefix = packagePath + EntityPaths.PACKAGE_SEPARATOR;
+        int start = Arrays.binarySearch(this.entityPaths, prefix);
+        if (start < 0)
+        {
+            start = -(start + 1);
+        }
+        int end = start;
+        while ((end < this.entityPaths.length) && this.entityPaths[end].startsWith(prefix))
+        {
+            end++;
+        }
+        return getEntities(start, end);
+    }
+
+    private Stream<Entity> getEntities(int start, int end)
+    {
+        return IntStream.range(start, end).mapToObj(this::readEntity);
+    }
+
+    private int indexOf(String entityPath)
+    {
+        return (entityPath == null) ? -1 : Arrays.binarySearch(this.entityPaths, entityPath);
+    }
+
+    private Entity readEntity(int index)
+    {
+        Path file = this.entitiesDirectory.resolve(this.filePaths[index]);
+        byte[] content;
+        try
+        {
+            content = Files.readAllBytes(file);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error reading entity " + this.entityPaths[index] + " from " + file, e);
+        }
+        return JsonBytesEntity.newEntity(this.entityPaths[index], this.classifierPaths[index], content);
+    }
+
+    /**
+     * Open an index file. Entity files are resolved relative to the directory containing the index file.
+     *
+     * @param indexFile index file
+     * @return entity index
+     * @throws IOException if the file cannot be read or is not a valid index
+     */
+    public static EntityIndex open(Path indexFile) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+        try
+        {
+            return read(indexFile.getParent(), buffer);
+        }
+        catch (BufferUnderflowException | IllegalArgumentException e)
+        {
+            throw new IOException("Invalid entity index: " + indexFile, e);
+        }
+    }
+
+    private static EntityIndex read(Path entitiesDirectory, ByteBuffer buffer) throws IOException
+    {
+        if (buffer.getInt() != MAGIC)
+        {
+            throw new IOException("Not an entity index");
+        }
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION)
+        {
+            throw new IOException("Unsupported entity index version: " + version);
+        }
+        int count = buffer.getInt();
+        if (count < 0)
+        {
+            throw new IOException("Invalid entity count: " + count);
+        }
+        String[] entityPaths = new String[count];
+        String[] classifierPaths = new String[count];
+        String[] filePaths = new String[count];
+        for (int i = 0; i < count; i++)
+        {
+            entityPaths[i] = readString(buffer);
+            classifierPaths[i] = readString(buffer);
+            filePaths[i] = readString(buffer);
+            if (filePaths[i].isEmpty() || filePaths[i].startsWith("/") || Arrays.asList(filePaths[i].split("/")).contains(".."))
+            {
+                throw new IOException("Invalid file path for entity " + entityPaths[i] + ": " + filePaths[i]);
+            }
+        }
+        if (buffer.hasRemaining())
+        {
+            throw new IOException("Unexpected data at end of entity index");
+        }
+        return new EntityIndex(entitiesDirectory, entityPaths, classifierPaths, filePaths);
+    }
+
+    private static String readString(ByteBuffer buffer)
+    {
+        int length = buffer.getInt();
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write an index of all the entity files in an entities directory (including its subdirectories) to
+     * {@link #INDEX_FILE_NAME} in that directory, replacing any existing index. Entities are indexed by the path
+     * recorded in their content. The index refers to the entity files, so they must be kept (and packaged) with it.
+     *
+     * @param entitiesDirectory entities directory
+     * @return index file
+     * @throws IOException if an entity file cannot be read or the index cannot be written
+     */
+    public static Path writeIndex(Path entitiesDirectory) throws IOException
+    {
+        Map<String, IndexEntry> entries = new TreeMap<>();
+        if (Files.isDirectory(entitiesDirectory))
+        {
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(entitiesDirectory, FileVisitOption.FOLLOW_LINKS))
+            {
+                files = stream.filter(EntityIndex::isEntityFile).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files)
+            {
+                EntityHeader header;
+                try
+                {
+                    header = ENTITY_SERIALIZER.deserializeHeader(Files.readAllBytes(file));
+                }
+                catch (Exception e)
+                {
+                    throw new IOException("Error reading entity header from " + file, e);
+                }
+                String entityPath = header.getPath();
+                if ((entityPath == null) || (header.getClassifierPath() == null))
+                {
+                    throw new IOException("Missing entity path or classifier path in " + file);
+                }
+                IndexEntry previous = entries.put(entityPath, new IndexEntry(entityPath, header.getClassifierPath(), toRelativeFilePath(entitiesDirectory, file)));
+                if (previous != null)
+                {
+                    throw new IOException("Multiple files for entity " + entityPath + ": " + entitiesDirectory.resolve(previous.filePath) + " and " + file);
+                }
+            }
+        }
+
+        Path indexFile = entitiesDirectory.resolve(INDEX_FILE_NAME);
+        Files.createDirectories(entitiesDirectory);
+        Path tmpFile = Files.createTempFile(entitiesDirectory, INDEX_FILE_NAME, ".tmp");
+        try
+        {
+            try (OutputStream stream = Files.newOutputStream(tmpFile))
+            {
+                write(new ArrayList<>(entries.values()), stream);
+            }
+            Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        finally
+        {
+            Files.deleteIfExists(tmpFile);
+        }
+        return indexFile;
+    }
+
+    private static void write(List<IndexEntry> entries, OutputStream outputStream) throws IOException
+    {
+        DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        stream.writeInt(MAGIC);
+        stream.writeInt(FORMAT_VERSION);
+        stream.writeInt(entries.size());
+        for (IndexEntry entry : entries)
+        {
+            writeString(stream, entry.entityPath);
+            writeString(stream, entry.classifierPath);
+            writeString(stream, entry.filePath);
+        }
+        stream.flush();
+    }
+
+    private static void writeString(DataOutputStream stream, String string) throws IOException
+    {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        stream.writeInt(bytes.length);
+        stream.write(bytes);
+    }
+
+    private static String toRelativeFilePath(Path entitiesDirectory, Path file)
+    {
+        // use "/" as the separator, so that the index can be read on any file system (e.g., in a jar file)
+        StringBuilder builder = new StringBuilder();
+        entitiesDirectory.relativize(file).forEach(name ->
+        {
+            if (builder.length() > 0)
+            {
+                builder.append('/');
+            }
+            builder.append(name);
+        });
+        return builder.toString();
+    }
+
+    private static boolean isEntityFile(Path path)
+    {
+        Path fileName = path.getFileName();
+        if (fileName == null)
+        {
+            return false;
+        }
+        String name = fileName.toString();
+        return name.regionMatches(true, name.length() - ENTITY_FILE_EXTENSION.length(), ENTITY_FILE_EXTENSION, 0, ENTITY_FILE_EXTENSION.length()) && Files.isRegularFile(path);
+    }
+
+    private static class IndexEntry
+    {
+        private final String entityPath;
+        private final String classifierPath;
+        private final String filePath;
+
+        private IndexEntry(String entityPath, String classifierPath, String filePath)
+        {
+            this.entityPath = entityPath;
+            this.classifierPath = classifierPath;
+            this.filePath = filePath;
+        }
+    }
+}
@@ -41,8 +41,11 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -54,21 +57,40 @@ public class EntityLoader implements AutoCloseable
     private static final EntitySerializer ENTITY_SERIALIZER = EntitySerializers.getDefaultJsonSerializer();
     private static final String ENTITIES_DIRECTORY = "entities";
     private static final String ENTITY_FILE_EXTENSION = "." + ENTITY_SERIALIZER.getDefaultFileExtension();
+    private static final String ENTITY_INDEX_FILE_PATH = ENTITIES_DIRECTORY + "/" + EntityIndex.INDEX_FILE_NAME;
 
     private final List<EntityFileSearch> searchList;
+    private final boolean lazyContent;
 
-    private EntityLoader(List<EntityFileSearch> searchList)
+    private EntityLoader(List<EntityFileSearch> searchList, boolean lazyContent)
     {
         this.searchList = searchList;
+        this.lazyContent = lazyContent;
+    }
+
+    private EntityLoader(List<EntityFileSearch> searchList)
+    {
+        this(searchList, false);
+    }
+
+    /**
+     * Get an entity loader for the same sources as this one, but which defers deserializing the content of entity
+     * files until it is first accessed (see {@link EntitySerializer#deserializeLazily}). This is useful when only the
+     * paths or classifier paths of entities are needed. (Entities from an {@link EntityIndex} always have lazily
+     * deserialized content.) The returned loader shares its sources with this one, so closing either closes both.
+     *
+     * @return entity loader with lazy entity content
+     */
+    public EntityLoader withLazyContent()
+    {
+        return this.lazyContent ? this : new EntityLoader(this.searchList, true);
     }
 
     public Entity getEntity(String entityPath)
     {
         String entityFilePath = entityPathToFilePath(entityPath);
         return this.searchList.stream()
-                .map(s -> s.getPath(entityFilePath))
-                .filter(EntityLoader::isPossiblyEntityFile)
-                .map(EntityLoader::readEntity)
+                .map(s -> s.getEntity(entityPath, entityFilePath, this.lazyContent))
                 .filter(Objects::nonNull)
                 .findFirst()
                 .orElse(null);
@@ -78,7 +100,7 @@ public class EntityLoader implements AutoCloseable
     {
         try
         {
-            return getEntitiesInDirectory(ENTITIES_DIRECTORY);
+            return getEntitiesInPackage(EntityPaths.PACKAGE_SEPARATOR, ENTITIES_DIRECTORY);
         }
         catch (Exception e)
         {
@@ -96,7 +118,7 @@ public class EntityLoader implements AutoCloseable
     {
         try
         {
-            return getEntitiesInDirectory(packagePathToDirectoryPath(packagePath));
+            return getEntitiesInPackage(packagePath, packagePathToDirectoryPath(packagePath));
         }
         catch (Exception e)
         {
@@ -145,13 +167,9 @@ public class EntityLoader implements AutoCloseable
         }
     }
 
-    private Stream<Entity> getEntitiesInDirectory(String directoryPath)
+    private Stream<Entity> getEntitiesInPackage(String packagePath, String directoryPath)
     {
-        return this.searchList.stream()
-                .flatMap(s -> s.getPathsInDirectory(directoryPath))
-                .filter(EntityLoader::isPossiblyEntityFile)
-                .map(EntityLoader::readEntity)
-                .filter(Objects::nonNull);
+        return this.searchList.stream().flatMap(s -> s.getEntities(packagePath, directoryPath, this.lazyContent));
     }
 
     public static EntityLoader newEntityLoader(ClassLoader classLoader)
@@ -230,8 +248,21 @@ public class EntityLoader implements AutoCloseable
         return new EntityLoader(searchList);
     }
 
-    private static Entity readEntity(Path path)
+    private static Entity readEntity(Path path, boolean lazyContent)
     {
+        if (lazyContent)
+        {
+            try
+            {
+                return ENTITY_SERIALIZER.deserializeLazily(Files.readAllBytes(path));
+            }
+            catch (Exception e)
+            {
+                LOGGER.error("Error reading entity from file: {}", path, e);
+                return null;
+            }
+        }
+
         try (InputStream stream = Files.newInputStream(path))
         {
             return ENTITY_SERIALIZER.deserialize(stream);
@@ -243,6 +274,49 @@ public class EntityLoader implements AutoCloseable
         }
     }
 
+    private static Stream<Entity> readEntitiesInDirectories(Stream<Path> directories, boolean lazyContent)
+    {
+        return directories
+                .flatMap(EntityLoader::getDirectoryStream)
+                .filter(EntityLoader::isPossiblyEntityFile)
+                .map(p -> readEntity(p, lazyContent))
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Load the entity index in an entities directory, if there is one. Only indexes in archives (such as jar files)
+     * are used, since a directory on the default file system may have been modified since its index was written (for
+     * example, during a build). Returns null if there is no usable index.
+     *
+     * @param entitiesDirectory entities directory
+     * @return entity index or null
+     */
+    private static EntityIndex loadEntityIndex(Path entitiesDirectory)
+    {
+        if ((entitiesDirectory == null) || (entitiesDirectory.getFileSystem() == FileSystems.getDefault()))
+        {
+            return null;
+        }
+        return loadEntityIndexFile(entitiesDirectory.resolve(EntityIndex.INDEX_FILE_NAME));
+    }
+
+    private static EntityIndex loadEntityIndexFile(Path indexFile)
+    {
+        if ((indexFile == null) || !Files.isRegularFile(indexFile))
+        {
+            return null;
+        }
+        try
+        {
+            return EntityIndex.open(indexFile);
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Error reading entity index {}, entity files will be read instead", indexFile, e);
+            return null;
+        }
+    }
+
     private static String entityPathToFilePath(String entityPath)
     {
         StringBuilder builder = new StringBuilder(ENTITIES_DIRECTORY.length() + entityPath.length() + ENTITY_FILE_EXTENSION.length());
@@ -453,11 +527,26 @@ public class EntityLoader implements AutoCloseable
         Path getPath(String filePath);
 
         Stream<Path> getPathsInDirectory(String dirPath);
+
+        default Entity getEntity(String entityPath, String filePath, boolean lazyContent)
+        {
+            Path path = getPath(filePath);
+            return isPossiblyEntityFile(path) ? readEntity(path, lazyContent) : null;
+        }
+
+        default Stream<Entity> getEntities(String packagePath, String dirPath, boolean lazyContent)
+        {
+            return getPathsInDirectory(dirPath)
+                    .filter(EntityLoader::isPossiblyEntityFile)
+                    .map(p -> readEntity(p, lazyContent))
+                    .filter(Objects::nonNull);
+        }
     }
 
     private static class ClassLoaderEntityFileSearch implements EntityFileSearch
     {
         private final ClassLoader classLoader;
+        private final Map<String, Optional<EntityIndex>> indexes = new ConcurrentHashMap<>();
 
         private ClassLoaderEntityFileSearch(ClassLoader classLoader)
         {
@@ -473,11 +562,52 @@ public class EntityLoader implements AutoCloseable
 
         @Override
         public Stream<Path> getPathsInDirectory(String dirPath)
+        {
+            return getDirectories(dirPath).flatMap(EntityLoader::getDirectoryStream);
+        }
+
+        @Override
+        public Stream<Entity> getEntities(String packagePath, String dirPath, boolean lazyContent)
+        {
+            List<Path> indexedDirectories = new ArrayList<>();
+            List<EntityIndex> entityIndexes = new ArrayList<>();
+            getResources(ENTITY_INDEX_FILE_PATH).forEach(url ->
+            {
+                Path indexFile = getPathFromURL(url);
+                if (indexFile != null)
+                {
+                    EntityIndex index = this.indexes.computeIfAbsent(url.toString(), k -> Optional.ofNullable(loadEntityIndex(indexFile.getParent()))).orElse(null);
+                    if (index != null)
+                    {
+                        indexedDirectories.add(indexFile.getParent());
+                        entityIndexes.add(index);
+                    }
+                }
+            });
+            if (entityIndexes.isEmpty())
+            {
+                return EntityFileSearch.super.getEntities(packagePath, dirPath, lazyContent);
+            }
+
+            // entities in directories with an index are read from the index, and the rest from files
+            Stream<Path> unindexedDirectories = getDirectories(dirPath).filter(d -> indexedDirectories.stream().noneMatch(d::startsWith));
+            return Stream.concat(entityIndexes.stream().flatMap(i -> i.getEntitiesInPackage(packagePath)), readEntitiesInDirectories(unindexedDirectories, lazyContent));
+        }
+
+        private Stream<Path> getDirectories(String dirPath)
+        {
+            return getResources(dirPath)
+                    .map(EntityLoader::getPathFromURL)
+                    .filter(Objects::nonNull)
+                    .filter(Files::isDirectory);
+        }
+
+        private Stream<URL> getResources(String name)
         {
             Enumeration<URL> urls;
             try
             {
-                urls = this.classLoader.getResources(dirPath);
+                urls = this.classLoader.getResources(name);
             }
             catch (IOException ignore)
             {
@@ -496,11 +626,7 @@ public class EntityLoader implements AutoCloseable
                 {
                     return urls.nextElement();
                 }
-            }, 0), false)
-                    .map(EntityLoader::getPathFromURL)
-                    .filter(Objects::nonNull)
-                    .filter(Files::isDirectory)
-                    .flatMap(EntityLoader::getDirectoryStream);
+            }, 0), false);
         }
 
         @Override
@@ -512,12 +638,28 @@ public class EntityLoader implements AutoCloseable
     private static class DirectoryEntityFileSearch implements EntityFileSearch
     {
         private final Path directory;
+        private boolean indexLoaded = false;
+        private EntityIndex index;
 
         private DirectoryEntityFileSearch(Path directory)
         {
             this.directory = directory;
         }
 
+        @Override
+        public Entity getEntity(String entityPath, String filePath, boolean lazyContent)
+        {
+            EntityIndex entityIndex = getIndex();
+            return (entityIndex == null) ? EntityFileSearch.super.getEntity(entityPath, filePath, lazyContent) : entityIndex.getEntity(entityPath);
+        }
+
+        @Override
+        public Stream<Entity> getEntities(String packagePath, String dirPath, boolean lazyContent)
+        {
+            EntityIndex entityIndex = getIndex();
+            return (entityIndex == null) ? EntityFileSearch.super.getEntities(packagePath, dirPath, lazyContent) : entityIndex.getEntitiesInPackage(packagePath);
+        }
+
         @Override
         public Path getPath(String filePath)
         {
@@ -531,6 +673,16 @@ public class EntityLoader implements AutoCloseable
             return Files.isDirectory(resolvedPath) ? EntityLoader.getDirectoryStream(resolvedPath) : Stream.empty();
         }
 
+        private synchronized EntityIndex getIndex()
+        {
+            if (!this.indexLoaded)
+            {
+                this.index = loadEntityIndex(this.directory.resolve(ENTITIES_DIRECTORY));
+                this.indexLoaded = true;
+            }
+            return this.index;
+        }
+
         @Override
         public void close() throws Exception
         {
@@ -169,4 +169,49 @@ public interface EntitySerializer
     {
         return deserialize(new ByteArrayInputStream(content));
     }
+
+    /**
+     * Deserialize an entity from a byte array, deferring deserialization of its content until it is first accessed
+     * (see {@link Entity#newLazyEntity}). This is intended for callers which may only need the path or classifier
+     * path of the entity. Errors in the content may not be detected until it is accessed, in which case they are
+     * reported as {@link java.io.UncheckedIOException}. Implementations may return a {@link SerializedEntity}, whose
+     * content can also be read directly into another type. The default implementation deserializes the whole entity
+     * immediately.
+     *
+     * @param content input bytes
+     * @return deserialized entity
+     * @throws IOException if an I/O error occurs
+     */
+    default Entity deserializeLazily(byte[] content) throws IOException
+    {
+        return deserialize(content);
+    }
+
+    /**
+     * Deserialize only the header of an entity (its classifier path, package, and name) from an input stream. This
+     * is intended for filtering entities without deserializing their full content. Serializers may implement this
+     * more efficiently than full deserialization; the default implementation deserializes the whole entity. Note that
+     * this need not validate the parts of the serialization it does not read.
+     *
+     * @param stream input stream
+     * @return entity header
+     * @throws IOException if an I/O error occurs
+     */
+    default EntityHeader deserializeHeader(InputStream stream) throws IOException
+    {
+        return EntityHeader.fromEntity(deserialize(stream));
+    }
+
+    /**
+     * Deserialize only the header of an entity (its classifier path, package, and name) from a byte array. See
+     * {@link #deserializeHeader(InputStream)} for more details.
+     *
+     * @param content input bytes
+     * @return entity header
+     * @throws IOException if an I/O error occurs
+     */
+    default EntityHeader deserializeHeader(byte[] content) throws IOException
+    {
+        return deserializeHeader(new ByteArrayInputStream(content));
+    }
 }
@@ -0,0 +1,152 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.serialization;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Map;
+
+/**
+ * Entity backed by its serialization in the format of {@link DefaultJsonEntitySerializer}. The path and classifier
+ * path are known up front; the content is only deserialized when it is needed.
+ */
+class JsonBytesEntity implements SerializedEntity
+{
+    private final ByteBuffer bytes;
+    private final Entity lazyEntity;
+
+    private JsonBytesEntity(String path, String classifierPath, ByteBuffer bytes)
+    {
+        this.bytes = bytes;
+        this.lazyEntity = Entity.newLazyEntity(path, classifierPath, () -> DefaultJsonEntitySerializer.deserializeContent(bytes));
+    }
+
+    @Override
+    public String getPath()
+    {
+        return this.lazyEntity.getPath();
+    }
+
+    @Override
+    public String getClassifierPath()
+    {
+        return this.lazyEntity.getClassifierPath();
+    }
+
+    @Override
+    public Map<String, ?> getContent()
+    {
+        return this.lazyEntity.getContent();
+    }
+
+    @Override
+    public <T> T readContent(ObjectMapper objectMapper, Class<T> type) throws IOException
+    {
+        try (JsonParser parser = createParser(objectMapper.getFactory(), this.bytes))
+        {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+            {
+                throw new JsonParseException(parser, "Expected start of entity object");
+            }
+            T content = null;
+            boolean contentFound = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if ("content".equals(fieldName))
+                {
+                    content = objectMapper.readValue(parser, type);
+                    contentFound = true;
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+            }
+            // read to the end, so that a malformed entity is rejected just as it is by getContent()
+            if ((parser.currentToken() != JsonToken.END_OBJECT) || (parser.nextToken() != null))
+            {
+                throw new JsonParseException(parser, "Expected end of entity object");
+            }
+            if (!contentFound)
+            {
+                throw new JsonParseException(parser, "No content found");
+            }
+            return content;
+        }
+        catch (JsonParseException e)
+        {
+            throw new UncheckedIOException("Error deserializing content of entity " + getPath(), e);
+        }
+    }
+
+    @Override
+    public void writeSerialized(OutputStream stream) throws IOException
+    {
+        if (this.bytes.hasArray())
+        {
+            stream.write(this.bytes.array(), this.bytes.arrayOffset() + this.bytes.position(), this.bytes.remaining());
+        }
+        else
+        {
+            Channels.newChannel(stream).write(this.bytes.duplicate());
+        }
+    }
+
+    /**
+     * Create a parser for the remaining bytes of a buffer, without modifying the buffer or copying its contents.
+     *
+     * @param factory JSON factory
+     * @param bytes   byte buffer
+     * @return parser
+     * @throws IOException if the parser cannot be created
+     */
+    static JsonParser createParser(JsonFactory factory, ByteBuffer bytes) throws IOException
+    {
+        return bytes.hasArray() ?
+                factory.createParser(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining()) :
+                factory.createParser(new ByteBufferBackedInputStream(bytes.duplicate()));
+    }
+
+    static JsonBytesEntity newEntity(String path, String classifierPath, byte[] bytes)
+    {
+        return new JsonBytesEntity(path, classifierPath, ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Create an entity backed by the remaining bytes of a buffer. The buffer must not be modified afterwards.
+     *
+     * @param path           entity path
+     * @param classifierPath entity classifier path
+     * @param bytes          serialized entity
+     * @return entity
+     */
+    static JsonBytesEntity newEntity(String path, String classifierPath, ByteBuffer bytes)
+    {
+        return new JsonBytesEntity(path, classifierPath, bytes.slice());
+    }
+}
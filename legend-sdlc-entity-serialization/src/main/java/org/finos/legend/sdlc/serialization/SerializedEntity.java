@@ -0,0 +1,51 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An entity which retains its serialized form, so that its content can be read directly into some other type (such
+ * as a protocol class) without first being materialized as a {@link java.util.Map}. The content is still available
+ * through {@link #getContent()}, where it is deserialized on first access.
+ */
+public interface SerializedEntity extends Entity
+{
+    /**
+     * Read the content of the entity as an instance of the given type, using the given object mapper. This reads
+     * directly from the serialized form of the entity, and does not materialize {@link #getContent()}.
+     *
+     * @param objectMapper object mapper
+     * @param type         target type
+     * @param <T>          target type
+     * @return content as an instance of type
+     * @throws IOException                     if the content cannot be read as the given type
+     * @throws java.io.UncheckedIOException if the serialized form is malformed (as with {@link #getContent()})
+     */
+    <T> T readContent(ObjectMapper objectMapper, Class<T> type) throws IOException;
+
+    /**
+     * Write the serialized form of the entity, as it was read, to the given stream. This neither deserializes nor
+     * validates it. It is useful for computing a hash of the entity without materializing {@link #getContent()}.
+     *
+     * @param stream output stream
+     * @throws IOException if an error occurs writing to the stream
+     */
+    void writeSerialized(OutputStream stream) throws IOException;
+}
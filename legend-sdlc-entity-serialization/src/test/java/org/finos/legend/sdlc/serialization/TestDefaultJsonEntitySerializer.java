@@ -14,6 +14,15 @@
 
 package org.finos.legend.sdlc.serialization;
 
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
 public class TestDefaultJsonEntitySerializer extends TestEntityTextSerializer<DefaultJsonEntitySerializer>
 {
     @Override
@@ -33,4 +42,64 @@ public class TestDefaultJsonEntitySerializer extends TestEntityTextSerializer<De
     {
         return "json";
     }
+
+    @Test
+    public void testDeserializeHeaderFieldOrder() throws IOException
+    {
+        String json = "{\"content\": {\"properties\": [{\"name\": \"prop\", \"type\": \"String\"}], \"name\": \"MyClass\", \"nested\": {\"name\": \"other\", \"package\": \"other\"}, \"package\": \"model::domain\"}, " +
+                "\"extra\": [1, 2, {\"classifierPath\": \"other\"}], " +
+                "\"classifierPath\": \"meta::pure::metamodel::type::Class\"}";
+        EntityHeader header = this.serializer.deserializeHeader(json.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals("meta::pure::metamodel::type::Class", header.getClassifierPath());
+        Assert.assertEquals("model::domain", header.getPackage());
+        Assert.assertEquals("MyClass", header.getName());
+        Assert.assertEquals("model::domain::MyClass", header.getPath());
+    }
+
+    @Test
+    public void testDeserializeHeaderNoPackage() throws IOException
+    {
+        String json = "{\"classifierPath\": \"meta::pure::metamodel::type::Class\", \"content\": {\"name\": \"MyClass\"}}";
+        EntityHeader header = this.serializer.deserializeHeader(json.getBytes(StandardCharsets.UTF_8));
+        Assert.assertNull(header.getPackage());
+        Assert.assertEquals("MyClass", header.getPath());
+    }
+
+    @Test
+    public void testDeserializeLazily() throws IOException
+    {
+        byte[] json = ("{\"classifierPath\": \"meta::pure::metamodel::type::Class\", " +
+                "\"content\": {\"_type\": \"class\", \"name\": \"MyClass\", \"package\": \"model::domain\", \"properties\": [{\"name\": \"prop\", \"type\": \"String\"}]}}").getBytes(StandardCharsets.UTF_8);
+        Entity expected = this.serializer.deserialize(json);
+        Entity lazy = this.serializer.deserializeLazily(json);
+        Assert.assertEquals("model::domain::MyClass", lazy.getPath());
+        Assert.assertEquals("meta::pure::metamodel::type::Class", lazy.getClassifierPath());
+        Assert.assertEquals(expected.getContent(), lazy.getContent());
+        Assert.assertSame(lazy.getContent(), lazy.getContent());
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ((SerializedEntity) lazy).writeSerialized(stream);
+        Assert.assertArrayEquals(json, stream.toByteArray());
+    }
+
+    @Test
+    public void testDeserializeLazilyInvalidContent() throws IOException
+    {
+        // the header is valid, but the rest is not: this is only detected when the content is accessed
+        byte[] json = "{\"classifierPath\": \"meta::pure::metamodel::type::Class\", \"content\": {\"name\": \"MyClass\", \"package\": \"model::domain\"}, \"extra\": ".getBytes(StandardCharsets.UTF_8);
+        Entity lazy = this.serializer.deserializeLazily(json);
+        Assert.assertEquals("model::domain::MyClass", lazy.getPath());
+        Assert.assertEquals("meta::pure::metamodel::type::Class", lazy.getClassifierPath());
+        Assert.assertThrows(UncheckedIOException.class, lazy::getContent);
+
+        Assert.assertThrows(IOException.class, () -> this.serializer.deserializeLazily("[]".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testDeserializeHeaderInvalid()
+    {
+        Assert.assertThrows(IOException.class, () -> this.serializer.deserializeHeader("[]".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertThrows(IOException.class, () -> this.serializer.deserializeHeader("{\"classifierPath\": ".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertThrows(RuntimeException.class, () -> this.serializer.deserializeHeader("{\"classifierPath\": \"a::B\", \"content\": {}}".getBytes(StandardCharsets.UTF_8)));
+    }
 }
@@ -0,0 +1,154 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.serialization;
+
+import org.finos.legend.sdlc.domain.model.TestTools;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.tools.entity.EntityPaths;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TestEntityIndex
+{
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testWriteAndRead() throws IOException
+    {
+        List<Entity> entities = Arrays.asList(
+                TestTools.newClassEntity("EmptyClass", "model::domain"),
+                TestTools.newClassEntity("ClassWith1Property", "model::domain::sub", TestTools.newProperty("prop1", "String", 0, 1)),
+                TestTools.newEnumerationEntity("MusicGenre", "model::domainx", "CLASSICAL", "DIXIELAND"),
+                TestTools.newClassEntity("OtherClass", "other")
+        );
+        Path entitiesDir = writeEntities(entities);
+        Files.write(entitiesDir.resolve("not_an_entity.txt"), "not an entity".getBytes(StandardCharsets.UTF_8));
+
+        Path indexFile = EntityIndex.writeIndex(entitiesDir);
+        Assert.assertEquals(entitiesDir.resolve(EntityIndex.INDEX_FILE_NAME), indexFile);
+
+        EntityIndex index = EntityIndex.open(indexFile);
+        Assert.assertEquals(entities.size(), index.size());
+        Assert.assertEquals(Arrays.asList("model::domain::EmptyClass", "model::domain::sub::ClassWith1Property", "model::domainx::MusicGenre", "other::OtherClass"), index.getEntityPaths());
+        for (Entity entity : entities)
+        {
+            Assert.assertTrue(entity.getPath(), index.hasEntity(entity.getPath()));
+            Assert.assertEquals(entity.getPath(), entity.getClassifierPath(), index.getClassifierPath(entity.getPath()));
+            TestTools.assertEntitiesEquivalent(entity, index.getEntity(entity.getPath()));
+        }
+        Assert.assertFalse(index.hasEntity("not::an::Entity"));
+        Assert.assertNull(index.getClassifierPath("not::an::Entity"));
+        Assert.assertNull(index.getEntity("not::an::Entity"));
+
+        TestTools.assertEntitiesEquivalent(entities, index.getAllEntities().collect(Collectors.toList()));
+        TestTools.assertEntitiesEquivalent(entities, index.getEntitiesInPackage(EntityPaths.PACKAGE_SEPARATOR).collect(Collectors.toList()));
+        TestTools.assertEntitiesEquivalent(entities.subList(0, 2), index.getEntitiesInPackage("model::domain").collect(Collectors.toList()));
+        TestTools.assertEntitiesEquivalent(entities.subList(1, 2), index.getEntitiesInPackage("model::domain::sub").collect(Collectors.toList()));
+        TestTools.assertEntitiesEquivalent(entities.subList(0, 3), index.getEntitiesInPackage("model").collect(Collectors.toList()));
+        Assert.assertEquals(Collections.emptyList(), index.getEntitiesInPackage("model::dom").collect(Collectors.toList()));
+        Assert.assertEquals(Collections.emptyList(), index.getEntitiesInPackage("non::existent::package").collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testRewriteIndex() throws IOException
+    {
+        Path entitiesDir = writeEntities(Collections.singletonList(TestTools.newClassEntity("EmptyClass", "model::domain")));
+        EntityIndex.writeIndex(entitiesDir);
+
+        Entity newEntity = TestTools.newClassEntity("EmptyClass2", "model::domain");
+        writeEntities(entitiesDir.getParent(), Collections.singletonList(newEntity));
+        EntityIndex index = EntityIndex.open(EntityIndex.writeIndex(entitiesDir));
+        Assert.assertEquals(Arrays.asList("model::domain::EmptyClass", "model::domain::EmptyClass2"), index.getEntityPaths());
+        TestTools.assertEntitiesEquivalent(newEntity, index.getEntity(newEntity.getPath()));
+    }
+
+    @Test
+    public void testEmptyIndex() throws IOException
+    {
+        EntityIndex index = EntityIndex.open(EntityIndex.writeIndex(this.tempFolder.getRoot().toPath().resolve("entities")));
+        Assert.assertEquals(0, index.size());
+        Assert.assertEquals(Collections.emptyList(), index.getAllEntities().collect(Collectors.toList()));
+        Assert.assertNull(index.getEntity("model::domain::EmptyClass"));
+    }
+
+    @Test
+    public void testDuplicateEntity() throws IOException
+    {
+        Entity entity = TestTools.newClassEntity("EmptyClass", "model::domain");
+        Path entitiesDir = writeEntities(Collections.singletonList(entity));
+        Files.write(entitiesDir.resolve("Duplicate.json"), EntitySerializers.getDefaultJsonSerializer().serializeToBytes(entity));
+        IOException e = Assert.assertThrows(IOException.class, () -> EntityIndex.writeIndex(entitiesDir));
+        Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Multiple files for entity model::domain::EmptyClass"));
+    }
+
+    @Test
+    public void testContentReadFromEntityFiles() throws IOException
+    {
+        Entity entity = TestTools.newClassEntity("EmptyClass", "model::domain");
+        Entity otherEntity = TestTools.newClassEntity("OtherClass", "model::domain");
+        Path entitiesDir = writeEntities(Arrays.asList(entity, otherEntity));
+        Path indexFile = EntityIndex.writeIndex(entitiesDir);
+
+        // the index holds no content, so it is much smaller than the entities it indexes
+        long entityFilesSize = Files.size(entitiesDir.resolve("model/domain/EmptyClass.json")) + Files.size(entitiesDir.resolve("model/domain/OtherClass.json"));
+        Assert.assertTrue(Files.size(indexFile) < entityFilesSize);
+
+        EntityIndex index = EntityIndex.open(indexFile);
+        Files.delete(entitiesDir.resolve("model/domain/OtherClass.json"));
+        TestTools.assertEntitiesEquivalent(entity, index.getEntity(entity.getPath()));
+        Assert.assertEquals(otherEntity.getClassifierPath(), index.getClassifierPath(otherEntity.getPath()));
+        Assert.assertThrows(UncheckedIOException.class, () -> index.getEntity(otherEntity.getPath()));
+    }
+
+    @Test
+    public void testInvalidIndex() throws IOException
+    {
+        Path file = this.tempFolder.newFile().toPath();
+        Files.write(file, "{\"not\": \"an index\"}".getBytes(StandardCharsets.UTF_8));
+        Assert.assertThrows(IOException.class, () -> EntityIndex.open(file));
+
+        Files.write(file, new byte[0]);
+        Assert.assertThrows(IOException.class, () -> EntityIndex.open(file));
+    }
+
+    private Path writeEntities(List<Entity> entities) throws IOException
+    {
+        return writeEntities(this.tempFolder.newFolder().toPath(), entities);
+    }
+
+    private Path writeEntities(Path root, List<Entity> entities) throws IOException
+    {
+        Path entitiesDir = root.resolve("entities");
+        EntitySerializer serializer = EntitySerializers.getDefaultJsonSerializer();
+        for (Entity entity : entities)
+        {
+            serializer.serializeToFile(entity, entitiesDir);
+        }
+        return entitiesDir;
+    }
+}
@@ -136,6 +136,23 @@ abstract class TestEntityLoader
         Assert.assertEquals(Collections.emptyList(), nonExistentPkgEntities);
     }
 
+    @Test
+    public void testLazyContent()
+    {
+        EntityLoader lazyLoader = this.entityLoader.withLazyContent();
+        Assert.assertSame(lazyLoader, lazyLoader.withLazyContent());
+        for (Entity entity : this.testEntities)
+        {
+            Entity loadedEntity = lazyLoader.getEntity(entity.getPath());
+            Assert.assertNotNull(entity.getPath(), loadedEntity);
+            TestTools.assertEntitiesEquivalent(entity, loadedEntity);
+        }
+        Assert.assertNull(lazyLoader.getEntity("not::an::Entity"));
+
+        List<Entity> loadedEntities = lazyLoader.getAllEntities().collect(Collectors.toList());
+        TestTools.assertEntitiesEquivalent(this.testEntities, loadedEntities);
+    }
+
     protected abstract EntityLoader createEntityLoaderFromFiles(Map<String, byte[]> fileContentByPath) throws IOException;
 
     protected void registerCloseable(AutoCloseable closeable)
@@ -75,6 +75,20 @@ public abstract class TestEntitySerializer<T extends EntitySerializer>
         testSerialization(this::serializeWithStream, this.serializer::deserialize);
     }
 
+    @Test
+    public void testDeserializeHeader() throws IOException
+    {
+        for (Entity entity : getTestEntities())
+        {
+            byte[] bytes = this.serializer.serializeToBytes(entity);
+            assertHeader(entity, this.serializer.deserializeHeader(bytes));
+            try (InputStream stream = new ByteArrayInputStream(bytes))
+            {
+                assertHeader(entity, this.serializer.deserializeHeader(stream));
+            }
+        }
+    }
+
     @Test
     public void testSerializationToFile() throws IOException
     {
@@ -177,6 +191,15 @@ public abstract class TestEntitySerializer<T extends EntitySerializer>
         }
     }
 
+    private static void assertHeader(Entity expected, EntityHeader actual)
+    {
+        String path = expected.getPath();
+        Assert.assertEquals(path, expected.getClassifierPath(), actual.getClassifierPath());
+        Assert.assertEquals(path, expected.getContent().get("package"), actual.getPackage());
+        Assert.assertEquals(path, expected.getContent().get("name"), actual.getName());
+        Assert.assertEquals(path, actual.getPath());
+    }
+
     private static void assertEntitiesEqualButNotSame(String message, Entity expected, Entity actual)
     {
         Assert.assertNotSame(message, expected, actual);
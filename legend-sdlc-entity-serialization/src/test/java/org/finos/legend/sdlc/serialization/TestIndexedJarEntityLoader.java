@@ -0,0 +1,49 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.serialization;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TestIndexedJarEntityLoader extends TestEntityLoaderWithZipFile
+{
+    @Override
+    protected EntityLoader createEntityLoaderFromFiles(Map<String, byte[]> fileContentByPath) throws IOException
+    {
+        Path dir = this.tempFolder.newFolder().toPath();
+        for (Map.Entry<String, byte[]> entry : fileContentByPath.entrySet())
+        {
+            Path filePath = dir.resolve(entry.getKey());
+            Files.createDirectories(filePath.getParent());
+            Files.write(filePath, entry.getValue());
+        }
+        Path indexFile = EntityIndex.writeIndex(dir.resolve("entities"));
+
+        // the index refers to the entity files, so they are packaged with it
+        Map<String, byte[]> jarContent = new HashMap<>(fileContentByPath);
+        jarContent.put("entities/" + EntityIndex.INDEX_FILE_NAME, Files.readAllBytes(indexFile));
+        Path jarPath = writeToTempZipFile(jarContent);
+        return EntityLoader.newEntityLoader(jarPath);
+    }
+
+    @Override
+    protected boolean isJar()
+    {
+        return true;
+    }
+}
@@ -43,6 +43,7 @@ import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.generation.artifact.ArtifactGenerationFactory;
 import org.finos.legend.sdlc.generation.artifact.ArtifactGenerationResult;
 import org.finos.legend.sdlc.language.pure.compiler.toPureGraph.PureModelBuilder;
+import org.finos.legend.sdlc.language.pure.compiler.toPureGraph.PureModelCache;
 import org.finos.legend.sdlc.serialization.EntityLoader;
 import org.finos.legend.sdlc.tools.entity.EntityPaths;
 
@@ -97,7 +98,7 @@ public class FileGenerationMojo extends AbstractMojo
         long modelStart = System.nanoTime();
         getLog().info("Start loading model");
         PureModelBuilder pureModelBuilder = PureModelBuilder.newBuilder();
-        try (EntityLoader allEntities = EntityLoader.newEntityLoader(Thread.currentThread().getContextClassLoader()))
+        try (EntityLoader allEntities = EntityLoader.newEntityLoader(Thread.currentThread().getContextClassLoader()).withLazyContent())
         {
             pureModelBuilder.addEntitiesIfPossible(allEntities.getAllEntities());
         }
@@ -117,7 +118,7 @@ public class FileGenerationMojo extends AbstractMojo
         }
 
         getLog().info("Compiling model");
-        PureModelBuilder.PureModelWithContextData pureModelWithContextData = pureModelBuilder.withSDLC(buildSDLCInfo()).withProtocol(buildProtocol()).build();
+        PureModelBuilder.PureModelWithContextData pureModelWithContextData = pureModelBuilder.withSDLC(buildSDLCInfo()).withProtocol(buildProtocol()).buildWithCache(PureModelCache.getSharedCache());
         PureModelContextData pureModelContextData = pureModelWithContextData.getPureModelContextData();
         PureModel pureModel = pureModelWithContextData.getPureModel();
         long modelEnd = System.nanoTime();
@@ -311,7 +312,7 @@ public class FileGenerationMojo extends AbstractMojo
         Set<String> resolvedElementsByPath;
         if (elementFilter.directories != null)
         {
-            try (EntityLoader directoriesLoader = EntityLoader.newEntityLoader(elementFilter.directories))
+            try (EntityLoader directoriesLoader = EntityLoader.newEntityLoader(elementFilter.directories).withLazyContent())
             {
                 resolvedElementsByPath = directoriesLoader.getAllEntities().map(Entity::getPath).filter(elementsByPath::contains).collect(Collectors.toCollection(Sets.mutable::empty));
             }
@@ -31,6 +31,7 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.Package
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.generationSpecification.GenerationSpecification;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.language.pure.compiler.toPureGraph.PureModelBuilder;
+import org.finos.legend.sdlc.language.pure.compiler.toPureGraph.PureModelCache;
 import org.finos.legend.sdlc.protocol.pure.v1.PureToEntityConverter;
 import org.finos.legend.sdlc.serialization.EntityLoader;
 import org.finos.legend.sdlc.serialization.EntitySerializer;
@@ -84,7 +85,7 @@ public class ModelGenerationMojo extends AbstractMojo
         long modelStart = System.nanoTime();
         getLog().info("Start loading model");
         PureModelBuilder pureModelBuilder = PureModelBuilder.newBuilder();
-        try (EntityLoader allEntities = EntityLoader.newEntityLoader(Thread.currentThread().getContextClassLoader()))
+        try (EntityLoader allEntities = EntityLoader.newEntityLoader(Thread.currentThread().getContextClassLoader()).withLazyContent())
         {
             pureModelBuilder.addEntitiesIfPossible(allEntities.getAllEntities());
             int entityCount = pureModelBuilder.getElementCount();
@@ -101,7 +102,7 @@ public class ModelGenerationMojo extends AbstractMojo
         {
             throw new MojoExecutionException("Error loading entities from model", e);
         }
-        PureModelBuilder.PureModelWithContextData pureModelWithContextData = pureModelBuilder.build();
+        PureModelBuilder.PureModelWithContextData pureModelWithContextData = pureModelBuilder.buildWithCache(PureModelCache.getSharedCache());
         PureModelContextData pureModelContextData = pureModelWithContextData.getPureModelContextData();
         PureModel pureModel = pureModelWithContextData.getPureModel();
         long modelEnd = System.nanoTime();
@@ -198,7 +199,7 @@ public class ModelGenerationMojo extends AbstractMojo
         Set<String> generationSpecPaths;
         if (generationSpec.directories != null)
         {
-            try (EntityLoader directoriesLoader = EntityLoader.newEntityLoader(generationSpec.directories))
+            try (EntityLoader directoriesLoader = EntityLoader.newEntityLoader(generationSpec.directories).withLazyContent())
             {
                 generationSpecPaths = directoriesLoader.getAllEntities()
                         .filter(e -> GENERATION_SPECIFICATION_CLASSIFIER_PATH.equals(e.getClassifierPath()))
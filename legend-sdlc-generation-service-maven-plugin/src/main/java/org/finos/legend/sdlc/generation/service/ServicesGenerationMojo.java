@@ -39,6 +39,7 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.service
 import org.finos.legend.pure.generated.Root_meta_pure_extension_Extension;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.language.pure.compiler.toPureGraph.PureModelBuilder;
+import org.finos.legend.sdlc.language.pure.compiler.toPureGraph.PureModelCache;
 import org.finos.legend.sdlc.protocol.pure.v1.EntityToPureConverter;
 import org.finos.legend.sdlc.serialization.EntityLoader;
 import org.finos.legend.sdlc.tools.entity.EntityPaths;
@@ -49,6 +50,11 @@ import java.util.Comparator;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.lang.model.SourceVersion;
 
@@ -70,6 +76,13 @@ public class ServicesGenerationMojo extends AbstractMojo
     @Parameter(defaultValue = "${project.build.outputDirectory}")
     private File resourceOutputDirectory;
 
+    /**
+     * Number of services to generate concurrently. If this is zero or negative, the number of available processors
+     * is used.
+     */
+    @Parameter(defaultValue = "1")
+    private int parallelism;
+
     @Override
     public void execute() throws MojoExecutionException
     {
@@ -88,6 +101,7 @@ public class ServicesGenerationMojo extends AbstractMojo
         getLog().info("package prefix: " + ((this.packagePrefix == null) ? null : ('"' + this.packagePrefix + '"')));
         getLog().info("Java source output directory: " + this.javaSourceOutputDirectory);
         getLog().info("resource output directory: " + this.resourceOutputDirectory);
+        getLog().info("parallelism: " + getParallelism());
 
         if ((this.packagePrefix != null) && !SourceVersion.isName(this.packagePrefix))
         {
@@ -98,7 +112,7 @@ public class ServicesGenerationMojo extends AbstractMojo
         long modelStart = System.nanoTime();
 
         PureModelBuilder pureModelBuilder = PureModelBuilder.newBuilder();
-        try (EntityLoader allEntities = EntityLoader.newEntityLoader(Thread.currentThread().getContextClassLoader()))
+        try (EntityLoader allEntities = EntityLoader.newEntityLoader(Thread.currentThread().getContextClassLoader()).withLazyContent())
         {
             pureModelBuilder.addEntitiesIfPossible(allEntities.getAllEntities());
         }
@@ -119,7 +133,7 @@ public class ServicesGenerationMojo extends AbstractMojo
         PureModelBuilder.PureModelWithContextData pureModelWithContextData;
         try
         {
-            pureModelWithContextData = pureModelBuilder.build();
+            pureModelWithContextData = pureModelBuilder.buildWithCache(PureModelCache.getSharedCache());
         }
         catch (Exception e)
         {
@@ -146,34 +160,114 @@ public class ServicesGenerationMojo extends AbstractMojo
         if (servicesByPath.isEmpty())
         {
             getLog().info("Found 0 services for generation");
+            return;
         }
-        else if (getLog().isInfoEnabled())
+        if (getLog().isInfoEnabled())
         {
             getLog().info(servicesByPath.keySet().stream().sorted().collect(Collectors.joining(", ", "Found " + servicesByPath.size() + " services for generation: ", "")));
         }
 
-        for (Service service : servicesByPath.values())
+        MutableList<PlanGeneratorExtension> extensions = Lists.mutable.withAll(ServiceLoader.load(PlanGeneratorExtension.class));
+        RichIterable<? extends Root_meta_pure_extension_Extension> routerExtensions = extensions.flatCollect(e -> e.getExtraExtensions(pureModel));
+        MutableList<PlanTransformer> planTransformers = extensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers);
+
+        // Generate services in a consistent order, so that the ServiceRunner provider-configuration file is stable
+        MutableList<Service> services = Lists.mutable.withAll(servicesByPath.values()).sortThis(Comparator.comparing(PackageableElement::getPath));
+        int threadCount = Math.min(getParallelism(), services.size());
+        getLog().info("Generating execution artifacts using " + threadCount + " thread" + ((threadCount == 1) ? "" : "s"));
+        MutableList<String> serviceRunnerClassNames;
+        if (threadCount == 1)
         {
-            getLog().info("Generating execution artifacts for " + service.getPath());
-            long serviceStart = System.nanoTime();
-            try
-            {
-                MutableList<PlanGeneratorExtension> extensions = Lists.mutable.withAll(ServiceLoader.load(PlanGeneratorExtension.class));
-                RichIterable<? extends Root_meta_pure_extension_Extension> routerExtensions = extensions.flatCollect(e -> e.getExtraExtensions(pureModel));
-                MutableList<PlanTransformer> planTransformers = extensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers);
-                ServiceExecutionGenerator.newGenerator(service, pureModel, this.packagePrefix, this.javaSourceOutputDirectory.toPath(), this.resourceOutputDirectory.toPath(), jsonMapper, routerExtensions, planTransformers, null).generate();
-            }
-            catch (Exception e)
+            serviceRunnerClassNames = Lists.mutable.ofInitialCapacity(services.size());
+            for (Service service : services)
             {
-                throw new MojoExecutionException("Error generating execution artifacts for " + service.getPath(), e);
+                serviceRunnerClassNames.add(generateServiceExecutionArtifacts(service, pureModel, jsonMapper, routerExtensions, planTransformers));
             }
-            long serviceEnd = System.nanoTime();
-            getLog().info(String.format("Finished generating execution artifacts for %s (%.9fs)", service.getPath(), (serviceEnd - serviceStart) / 1_000_000_000.0));
+        }
+        else
+        {
+            serviceRunnerClassNames = generateServiceExecutionArtifactsInParallel(services, threadCount, pureModel, jsonMapper, routerExtensions, planTransformers);
+        }
+
+        try
+        {
+            ServiceExecutionGenerator.writeServiceRunnerProviderConfiguration(this.resourceOutputDirectory.toPath(), serviceRunnerClassNames);
+        }
+        catch (Exception e)
+        {
+            throw new MojoExecutionException("Error writing ServiceRunner provider-configuration file", e);
         }
         long end = System.nanoTime();
         getLog().info(String.format("Finished generating execution artifacts for %d services (%.9fs)", servicesByPath.size(), (end - start) / 1_000_000_000.0));
     }
 
+    private MutableList<String> generateServiceExecutionArtifactsInParallel(MutableList<Service> services, int threadCount, PureModel pureModel, JsonMapper jsonMapper, RichIterable<? extends Root_meta_pure_extension_Extension> routerExtensions, MutableList<PlanTransformer> planTransformers) throws MojoExecutionException
+    {
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, r ->
+        {
+            Thread thread = new Thread(r, "service-generation-" + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try
+        {
+            MutableList<Future<String>> futures = services.collect(service -> executor.submit(() -> generateServiceExecutionArtifacts(service, pureModel, jsonMapper, routerExtensions, planTransformers)));
+            MutableList<String> serviceRunnerClassNames = Lists.mutable.ofInitialCapacity(futures.size());
+            for (Future<String> future : futures)
+            {
+                try
+                {
+                    serviceRunnerClassNames.add(future.get());
+                }
+                catch (ExecutionException e)
+                {
+                    futures.forEach(f -> f.cancel(true));
+                    Throwable cause = e.getCause();
+                    if (cause instanceof MojoExecutionException)
+                    {
+                        throw (MojoExecutionException) cause;
+                    }
+                    throw new MojoExecutionException("Error generating execution artifacts", cause);
+                }
+                catch (InterruptedException e)
+                {
+                    futures.forEach(f -> f.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw new MojoExecutionException("Interrupted while generating execution artifacts", e);
+                }
+            }
+            return serviceRunnerClassNames;
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private String generateServiceExecutionArtifacts(Service service, PureModel pureModel, JsonMapper jsonMapper, RichIterable<? extends Root_meta_pure_extension_Extension> routerExtensions, MutableList<PlanTransformer> planTransformers) throws MojoExecutionException
+    {
+        getLog().info("Generating execution artifacts for " + service.getPath());
+        long serviceStart = System.nanoTime();
+        String serviceRunnerClassName;
+        try
+        {
+            serviceRunnerClassName = ServiceExecutionGenerator.newGenerator(service, pureModel, this.packagePrefix, this.javaSourceOutputDirectory.toPath(), this.resourceOutputDirectory.toPath(), jsonMapper, routerExtensions, planTransformers, null).generateExecutionArtifacts();
+        }
+        catch (Exception e)
+        {
+            throw new MojoExecutionException("Error generating execution artifacts for " + service.getPath(), e);
+        }
+        long serviceEnd = System.nanoTime();
+        getLog().info(String.format("Finished generating execution artifacts for %s (%.9fs)", service.getPath(), (serviceEnd - serviceStart) / 1_000_000_000.0));
+        return serviceRunnerClassName;
+    }
+
+    private int getParallelism()
+    {
+        return (this.parallelism > 0) ? this.parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
     private void filterServicesByIncludes(Map<String, Service> servicesByPath) throws MojoExecutionException
     {
         if (this.inclusions != null)
@@ -49,6 +49,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Collections;
 import javax.lang.model.SourceVersion;
 
 public class ServiceExecutionGenerator
@@ -82,6 +83,21 @@ public class ServiceExecutionGenerator
     }
 
     public void generate() throws IOException
+    {
+        String serviceRunnerClassName = generateExecutionArtifacts();
+        writeServiceRunnerProviderConfiguration(this.resourceOutputDirectory, Collections.singletonList(serviceRunnerClassName));
+    }
+
+    /**
+     * Generate the execution artifacts for the service (execution plan resource and Java classes), without
+     * registering the service execution class in the {@link ServiceRunner} provider-configuration file. This allows
+     * services to be generated concurrently, with the provider-configuration file written once for all of them (see
+     * {@link #writeServiceRunnerProviderConfiguration}).
+     *
+     * @return the name of the generated service execution class, which should be registered as a {@link ServiceRunner}
+     * @throws IOException if an I/O error occurs
+     */
+    public String generateExecutionArtifacts() throws IOException
     {
         if ((this.service._package == null) || this.service._package.isEmpty())
         {
@@ -117,13 +133,31 @@ public class ServiceExecutionGenerator
         GeneratedJavaClass generatedJavaClass = ServiceExecutionClassGenerator.newGenerator(this.service, this.packagePrefix, getExecutionPlanResourceName()).generate();
         writeJavaClass(generatedJavaClass);
 
-        // Append the class reference to ServiceRunner provider-configuration file
-        Path serviceRunnerProviderConfigFilePath = getServiceRunnerProviderConfigurationFilePath();
+        return generatedJavaClass.getName();
+    }
+
+    /**
+     * Append class references to the {@link ServiceRunner} provider-configuration file in the given resource output
+     * directory, creating the file if necessary. All the class references are written at once.
+     *
+     * @param resourceOutputDirectory resource output directory
+     * @param serviceRunnerClassNames names of service execution classes to register
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeServiceRunnerProviderConfiguration(Path resourceOutputDirectory, Iterable<String> serviceRunnerClassNames) throws IOException
+    {
+        StringBuilder builder = new StringBuilder();
+        serviceRunnerClassNames.forEach(n -> builder.append(n).append("\n"));
+        if (builder.length() == 0)
+        {
+            return;
+        }
+
+        Path serviceRunnerProviderConfigFilePath = getServiceRunnerProviderConfigurationFilePath(resourceOutputDirectory);
         Files.createDirectories(serviceRunnerProviderConfigFilePath.getParent());
         try (Writer writer = Files.newBufferedWriter(serviceRunnerProviderConfigFilePath, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND))
         {
-            writer.write(generatedJavaClass.getName());
-            writer.write("\n");
+            writer.write(builder.toString());
         }
     }
 
@@ -182,11 +216,11 @@ public class ServiceExecutionGenerator
         return this.resourceOutputDirectory.resolve(getExecutionPlanRelativePath(this.resourceOutputDirectory.getFileSystem().getSeparator()));
     }
 
-    private Path getServiceRunnerProviderConfigurationFilePath()
+    private static Path getServiceRunnerProviderConfigurationFilePath(Path resourceOutputDirectory)
     {
-        String separator = this.resourceOutputDirectory.getFileSystem().getSeparator();
+        String separator = resourceOutputDirectory.getFileSystem().getSeparator();
         String relativePath = "META-INF" + separator + "services" + separator + ServiceRunner.class.getCanonicalName();
-        return this.resourceOutputDirectory.resolve(relativePath);
+        return resourceOutputDirectory.resolve(relativePath);
     }
 
     private String getExecutionPlanResourceName()
@@ -76,6 +76,7 @@ import java.time.temporal.Temporal;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -83,6 +84,9 @@ import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import javax.tools.DiagnosticCollector;
@@ -334,6 +338,48 @@ public class TestServiceExecutionGenerator
         }
     }
 
+    @Test
+    public void testGenerateExecutionArtifactsConcurrently() throws Exception
+    {
+        String packagePrefix = "org.finos";
+        ImmutableList<? extends Root_meta_pure_extension_Extension> extensions = Lists.mutable.withAll(ServiceLoader.load(PlanGeneratorExtension.class)).flatCollect(e -> e.getExtraExtensions(PURE_MODEL)).toImmutable();
+        List<Service> services = Lists.mutable.withAll(getAllServices()).sortThis(Comparator.comparing(PackageableElement::getPath));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<String> serviceRunnerClassNames;
+        try
+        {
+            List<Future<String>> futures = Lists.mutable.empty();
+            for (Service service : services)
+            {
+                futures.add(executor.submit(() -> ServiceExecutionGenerator.newGenerator(service, PURE_MODEL, packagePrefix, this.generatedSourcesDirectory, this.classesDirectory, null, extensions, LegendPlanTransformers.transformers, "vX_X_X").generateExecutionArtifacts()));
+            }
+            serviceRunnerClassNames = Lists.mutable.empty();
+            for (Future<String> future : futures)
+            {
+                serviceRunnerClassNames.add(future.get());
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        List<String> expectedClassNames = services.stream().map(s -> packagePrefix + "." + s.getPath().replace(EntityPaths.PACKAGE_SEPARATOR, ".")).collect(Collectors.toList());
+        Assert.assertEquals(expectedClassNames, serviceRunnerClassNames);
+
+        // the provider-configuration file is only written when requested
+        Path providerConfigFile = this.classesDirectory.resolve("META-INF").resolve("services").resolve(ServiceRunner.class.getCanonicalName());
+        Assert.assertFalse(Files.exists(providerConfigFile));
+        ServiceExecutionGenerator.writeServiceRunnerProviderConfiguration(this.classesDirectory, serviceRunnerClassNames);
+        Assert.assertEquals(expectedClassNames, Files.readAllLines(providerConfigFile, StandardCharsets.UTF_8));
+
+        // further class names are appended
+        ServiceExecutionGenerator.writeServiceRunnerProviderConfiguration(this.classesDirectory, Collections.singletonList("org.finos.Other"));
+        List<String> expectedWithOther = Lists.mutable.withAll(expectedClassNames).with("org.finos.Other");
+        Assert.assertEquals(expectedWithOther, Files.readAllLines(providerConfigFile, StandardCharsets.UTF_8));
+    }
+
     private static void assertServiceVariables(ServiceRunner runner, ServiceVariable... serviceVariables)
     {
         List<ServiceVariable> parameters = runner.getServiceVariables();
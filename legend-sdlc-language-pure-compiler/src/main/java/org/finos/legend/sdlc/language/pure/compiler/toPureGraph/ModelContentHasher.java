@@ -0,0 +1,188 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.language.pure.compiler.toPureGraph;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.protocol.pure.v1.PureProtocolObjectMapperFactory;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.serialization.SerializedEntity;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+
+/**
+ * Computes a hash of the content a Pure model is built from, for use as a {@link PureModelCache} key. Entities are
+ * hashed from their serialized form where they have one (see {@link SerializedEntity}), so that lazily loaded content
+ * is not materialized just to compute the hash. The result does not depend on the order of the entities or elements.
+ */
+class ModelContentHasher
+{
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    // several values are written to the same stream, so the mappers must not close it
+    private static final ObjectMapper CONTENT_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+    private static final ObjectMapper PROTOCOL_MAPPER = PureProtocolObjectMapperFactory.getNewObjectMapper()
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+    private ModelContentHasher()
+    {
+    }
+
+    /**
+     * Compute the hash of the given entities and elements, together with the given additional values (such as SDLC
+     * and protocol information), which are serialized with the Pure protocol object mapper.
+     *
+     * @param entities         entities
+     * @param elements         packageable elements
+     * @param additionalValues additional values to include (may contain nulls)
+     * @return hex string of the hash
+     */
+    static String computeHash(Iterable<? extends Entity> entities, Iterable<? extends PackageableElement> elements, Object... additionalValues)
+    {
+        MutableList<ElementHash> elementHashes = Lists.mutable.empty();
+        entities.forEach(entity -> elementHashes.add(new ElementHash(entity.getPath(), digestEntity(entity))));
+        elements.forEach(element -> elementHashes.add(new ElementHash(element.getPath(), digestValue(element.getPath(), element))));
+        elementHashes.sortThis(Comparator.comparing(h -> h.path));
+
+        MessageDigest messageDigest = newMessageDigest();
+        try (OutputStream stream = new DigestOutputStream(NullOutputStream.INSTANCE, messageDigest))
+        {
+            for (Object value : additionalValues)
+            {
+                PROTOCOL_MAPPER.writeValue(stream, value);
+                stream.write(0);
+            }
+            for (ElementHash elementHash : elementHashes)
+            {
+                writeString(stream, elementHash.path);
+                stream.write(elementHash.hash);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error computing hash of model content", e);
+        }
+        return toHexString(messageDigest.digest());
+    }
+
+    private static byte[] digestEntity(Entity entity)
+    {
+        MessageDigest messageDigest = newMessageDigest();
+        try (OutputStream stream = new DigestOutputStream(NullOutputStream.INSTANCE, messageDigest))
+        {
+            writeString(stream, entity.getPath());
+            writeString(stream, entity.getClassifierPath());
+            if (entity instanceof SerializedEntity)
+            {
+                ((SerializedEntity) entity).writeSerialized(stream);
+            }
+            else
+            {
+                CONTENT_MAPPER.writeValue(stream, entity.getContent());
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error computing hash of entity " + entity.getPath(), e);
+        }
+        return messageDigest.digest();
+    }
+
+    private static byte[] digestValue(String path, Object value)
+    {
+        MessageDigest messageDigest = newMessageDigest();
+        try (OutputStream stream = new DigestOutputStream(NullOutputStream.INSTANCE, messageDigest))
+        {
+            PROTOCOL_MAPPER.writeValue(stream, value);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error computing hash of element " + path, e);
+        }
+        return messageDigest.digest();
+    }
+
+    private static void writeString(OutputStream stream, String string) throws IOException
+    {
+        if (string != null)
+        {
+            stream.write(string.getBytes(StandardCharsets.UTF_8));
+        }
+        stream.write(0);
+    }
+
+    private static MessageDigest newMessageDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            // SHA-256 is required to be supported by every Java platform
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String toHexString(byte[] bytes)
+    {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes)
+        {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static class ElementHash
+    {
+        private final String path;
+        private final byte[] hash;
+
+        private ElementHash(String path, byte[] hash)
+        {
+            this.path = path;
+            this.hash = hash;
+        }
+    }
+
+    private static class NullOutputStream extends OutputStream
+    {
+        private static final NullOutputStream INSTANCE = new NullOutputStream();
+
+        @Override
+        public void write(int b)
+        {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len)
+        {
+        }
+    }
+}
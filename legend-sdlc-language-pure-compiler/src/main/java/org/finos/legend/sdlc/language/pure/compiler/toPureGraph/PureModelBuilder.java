@@ -14,6 +14,8 @@
 
 package org.finos.legend.sdlc.language.pure.compiler.toPureGraph;
 
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.protocol.Protocol;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
@@ -28,6 +30,11 @@ import java.util.stream.Stream;
 public class PureModelBuilder
 {
     private final PureModelContextDataBuilder contextDataBuilder = PureModelContextDataBuilder.newBuilder();
+    // what has been added, so that a cache key can be computed without serializing the Pure model context data
+    private final MutableList<Entity> entities = Lists.mutable.empty();
+    private final MutableList<PackageableElement> elements = Lists.mutable.empty();
+    private SDLC sdlc;
+    private Protocol protocol;
 
     private PureModelBuilder()
     {
@@ -41,6 +48,7 @@ public class PureModelBuilder
     public void addPackageableElement(PackageableElement element)
     {
         this.contextDataBuilder.addPackageableElement(element);
+        this.elements.add(element);
     }
 
     public PureModelBuilder withPackageableElement(PackageableElement element)
@@ -52,6 +60,7 @@ public class PureModelBuilder
     public void addEntity(Entity entity)
     {
         this.contextDataBuilder.addEntity(entity);
+        this.entities.add(entity);
     }
 
     public PureModelBuilder withEntity(Entity entity)
@@ -62,7 +71,7 @@ public class PureModelBuilder
 
     public void addEntities(Stream<? extends Entity> entities)
     {
-        this.contextDataBuilder.addEntities(entities);
+        entities.forEach(this::addEntity);
     }
 
     public PureModelBuilder withEntities(Stream<? extends Entity> entities)
@@ -73,7 +82,7 @@ public class PureModelBuilder
 
     public void addEntities(Iterable<? extends Entity> entities)
     {
-        this.contextDataBuilder.addEntities(entities);
+        entities.forEach(this::addEntity);
     }
 
     public PureModelBuilder withEntities(Iterable<? extends Entity> entities)
@@ -84,7 +93,10 @@ public class PureModelBuilder
 
     public void addEntities(Entity... entities)
     {
-        this.contextDataBuilder.addEntities(entities);
+        for (Entity entity : entities)
+        {
+            addEntity(entity);
+        }
     }
 
     public PureModelBuilder withEntities(Entity... entities)
@@ -95,7 +107,12 @@ public class PureModelBuilder
 
     public boolean addEntityIfPossible(Entity entity)
     {
-        return this.contextDataBuilder.addEntityIfPossible(entity);
+        if (this.contextDataBuilder.addEntityIfPossible(entity))
+        {
+            this.entities.add(entity);
+            return true;
+        }
+        return false;
     }
 
     public PureModelBuilder withEntityIfPossible(Entity entity)
@@ -106,7 +123,7 @@ public class PureModelBuilder
 
     public void addEntitiesIfPossible(Stream<? extends Entity> entities)
     {
-        this.contextDataBuilder.addEntitiesIfPossible(entities);
+        entities.forEach(this::addEntityIfPossible);
     }
 
     public PureModelBuilder withEntitiesIfPossible(Stream<? extends Entity> entities)
@@ -117,7 +134,7 @@ public class PureModelBuilder
 
     public void addEntitiesIfPossible(Iterable<? extends Entity> entities)
     {
-        this.contextDataBuilder.addEntitiesIfPossible(entities);
+        entities.forEach(this::addEntityIfPossible);
     }
 
     public PureModelBuilder withEntitiesIfPossible(Iterable<? extends Entity> entities)
@@ -128,7 +145,10 @@ public class PureModelBuilder
 
     public void addEntitiesIfPossible(Entity... entities)
     {
-        this.contextDataBuilder.addEntitiesIfPossible(entities);
+        for (Entity entity : entities)
+        {
+            addEntityIfPossible(entity);
+        }
     }
 
     public PureModelBuilder withEntitiesIfPossible(Entity... entities)
@@ -140,12 +160,14 @@ public class PureModelBuilder
     public PureModelBuilder withSDLC(SDLC sdlc)
     {
         this.contextDataBuilder.withSDLC(sdlc);
+        this.sdlc = sdlc;
         return this;
     }
 
     public PureModelBuilder withProtocol(Protocol protocol)
     {
         this.contextDataBuilder.withProtocol(protocol);
+        this.protocol = protocol;
         return this;
     }
 
@@ -161,6 +183,35 @@ public class PureModelBuilder
         return new PureModelWithContextData(pureModel, pureModelContextData);
     }
 
+    /**
+     * Build the Pure model context data and get the corresponding compiled Pure model from the given cache, compiling
+     * it only if the cache does not already hold it.
+     *
+     * @param cache Pure model cache
+     * @return Pure model with context data
+     */
+    public PureModelWithContextData buildWithCache(PureModelCache cache)
+    {
+        return buildWithCache(null, cache);
+    }
+
+    /**
+     * Build the Pure model context data and get the corresponding compiled Pure model from the given cache, compiling
+     * it only if the cache does not already hold it. The cache key is a hash of the entities and elements added to
+     * the builder (see {@link PureModelCache}).
+     *
+     * @param classLoader class loader for compilation (may be null)
+     * @param cache       Pure model cache
+     * @return Pure model with context data
+     */
+    public PureModelWithContextData buildWithCache(ClassLoader classLoader, PureModelCache cache)
+    {
+        PureModelContextData pureModelContextData = this.contextDataBuilder.build();
+        String contentHash = ModelContentHasher.computeHash(this.entities, this.elements, this.sdlc, this.protocol);
+        PureModel pureModel = cache.getPureModel(contentHash, classLoader, () -> buildPureModel(pureModelContextData, classLoader));
+        return new PureModelWithContextData(pureModel, pureModelContextData);
+    }
+
     public PureModel buildPureModel()
     {
         return buildPureModel(null);
@@ -176,7 +227,7 @@ public class PureModelBuilder
         return new PureModelBuilder();
     }
 
-    private static PureModel buildPureModel(PureModelContextData pureModelContextData, ClassLoader classLoader)
+    static PureModel buildPureModel(PureModelContextData pureModelContextData, ClassLoader classLoader)
     {
         return new PureModel(pureModelContextData, null, classLoader, DeploymentMode.PROD);
     }
@@ -0,0 +1,213 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.language.pure.compiler.toPureGraph;
+
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of compiled Pure models, keyed by a hash of the entities and elements they were built from (see
+ * {@link PureModelBuilder#buildWithCache(PureModelCache)}). This allows a model to be compiled once and reused by
+ * everything that needs it within the lifetime of the cache. The hash is computed from the serialized form of the
+ * entities where they have one, so computing it costs much less than building the {@link PureModelContextData}.
+ * Models are only softly referenced, so the garbage collector may reclaim them when memory is short, in which case
+ * they are compiled again on next use.
+ * <p>
+ * The shared cache (see {@link #getSharedCache()}) lives as long as the class loader which loaded this class. A
+ * compiled model cannot be used with engine classes from another class loader. In a Maven build, this means compiled
+ * models are only reused across executions of the same plugin: Maven reuses a plugin's class realm for all of its
+ * executions in a session, but each plugin has its own realm.
+ */
+public class PureModelCache
+{
+    private static final int DEFAULT_MAX_ENTRIES = 2;
+    private static final PureModelCache SHARED_CACHE = new PureModelCache(DEFAULT_MAX_ENTRIES);
+
+    private final Map<CacheKey, CompletableFuture<SoftReference<PureModel>>> models;
+    private final AtomicLong hitCount = new AtomicLong(0L);
+    private final AtomicLong missCount = new AtomicLong(0L);
+
+    private PureModelCache(int maxEntries)
+    {
+        if (maxEntries <= 0)
+        {
+            throw new IllegalArgumentException("Invalid maxEntries: " + maxEntries);
+        }
+        this.models = new LinkedHashMap<CacheKey, CompletableFuture<SoftReference<PureModel>>>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CompletableFuture<SoftReference<PureModel>>> eldest)
+            {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Get the Pure model for the given content hash and class loader, compiling it if there is no such model in the
+     * cache. If the same model is requested concurrently, it is only compiled once.
+     *
+     * @param contentHash hash of the content the model is compiled from
+     * @param classLoader class loader for compilation (may be null)
+     * @param compiler    compiles the model
+     * @return compiled Pure model
+     */
+    PureModel getPureModel(String contentHash, ClassLoader classLoader, Supplier<PureModel> compiler)
+    {
+        CacheKey key = new CacheKey(contentHash, classLoader);
+        while (true)
+        {
+            CompletableFuture<SoftReference<PureModel>> future;
+            boolean compile;
+            synchronized (this.models)
+            {
+                future = this.models.get(key);
+                compile = (future == null) || isCollected(future);
+                if (compile)
+                {
+                    future = new CompletableFuture<>();
+                    this.models.put(key, future);
+                }
+            }
+
+            if (!compile)
+            {
+                PureModel pureModel;
+                try
+                {
+                    pureModel = future.join().get();
+                }
+                catch (CompletionException e)
+                {
+                    Throwable cause = e.getCause();
+                    throw (cause instanceof RuntimeException) ? (RuntimeException) cause : e;
+                }
+                if (pureModel != null)
+                {
+                    this.hitCount.incrementAndGet();
+                    return pureModel;
+                }
+                // the model was collected after it was compiled, so try again
+                continue;
+            }
+
+            this.missCount.incrementAndGet();
+            try
+            {
+                PureModel pureModel = compiler.get();
+                future.complete(new SoftReference<>(pureModel));
+                return pureModel;
+            }
+            catch (Throwable t)
+            {
+                // do not cache failures
+                synchronized (this.models)
+                {
+                    this.models.remove(key, future);
+                }
+                future.completeExceptionally(t);
+                throw t;
+            }
+        }
+    }
+
+    public long getHitCount()
+    {
+        return this.hitCount.get();
+    }
+
+    public long getMissCount()
+    {
+        return this.missCount.get();
+    }
+
+    public int size()
+    {
+        synchronized (this.models)
+        {
+            return this.models.size();
+        }
+    }
+
+    public void clear()
+    {
+        synchronized (this.models)
+        {
+            this.models.clear();
+        }
+    }
+
+    private static boolean isCollected(CompletableFuture<SoftReference<PureModel>> future)
+    {
+        return future.isDone() && !future.isCompletedExceptionally() && (future.join().get() == null);
+    }
+
+    /**
+     * Get the shared cache, which lives as long as the class loader which loaded this class.
+     *
+     * @return shared cache
+     */
+    public static PureModelCache getSharedCache()
+    {
+        return SHARED_CACHE;
+    }
+
+    public static PureModelCache newCache(int maxEntries)
+    {
+        return new PureModelCache(maxEntries);
+    }
+
+    private static class CacheKey
+    {
+        private final String contentHash;
+        private final ClassLoader classLoader;
+
+        private CacheKey(String contentHash, ClassLoader classLoader)
+        {
+            this.contentHash = contentHash;
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof CacheKey))
+            {
+                return false;
+            }
+            CacheKey that = (CacheKey) other;
+            return this.contentHash.equals(that.contentHash) && (this.classLoader == that.classLoader);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.contentHash.hashCode() ^ Objects.hashCode(this.classLoader);
+        }
+    }
+}
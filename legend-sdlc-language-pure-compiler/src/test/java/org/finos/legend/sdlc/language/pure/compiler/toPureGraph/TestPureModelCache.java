@@ -0,0 +1,134 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.language.pure.compiler.toPureGraph;
+
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.serialization.EntityLoader;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class TestPureModelCache
+{
+    private EntityLoader entityLoader;
+
+    @Before
+    public void setUpEntityLoader() throws Exception
+    {
+        URI resourceURI = Objects.requireNonNull(getClass().getClassLoader().getResource("pure-model-context-data-builder-test-model")).toURI();
+        this.entityLoader = EntityLoader.newEntityLoader(resourceURI);
+    }
+
+    @After
+    public void tearDownEntityLoader() throws Exception
+    {
+        if (this.entityLoader != null)
+        {
+            this.entityLoader.close();
+        }
+    }
+
+    @Test
+    public void testBuildWithCache()
+    {
+        PureModelCache cache = PureModelCache.newCache(2);
+
+        PureModelBuilder.PureModelWithContextData first = PureModelBuilder.newBuilder().withEntities(this.entityLoader.getAllEntities()).buildWithCache(cache);
+        Assert.assertNotNull(first.getPureModel().getClass("model::domain::Source"));
+        Assert.assertEquals(0, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+
+        PureModelBuilder.PureModelWithContextData second = PureModelBuilder.newBuilder().withEntities(this.entityLoader.getAllEntities()).buildWithCache(cache);
+        Assert.assertSame(first.getPureModel(), second.getPureModel());
+        Assert.assertEquals(3, second.getPureModelContextData().getElements().size());
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testLazyEntities() throws Exception
+    {
+        PureModelCache cache = PureModelCache.newCache(2);
+
+        URI resourceURI = Objects.requireNonNull(getClass().getClassLoader().getResource("pure-model-context-data-builder-test-model")).toURI();
+        try (EntityLoader lazyEntityLoader = EntityLoader.newEntityLoader(resourceURI).withLazyContent())
+        {
+            PureModelBuilder.PureModelWithContextData first = PureModelBuilder.newBuilder().withEntities(lazyEntityLoader.getAllEntities()).buildWithCache(cache);
+
+            // the order in which entities are added does not affect the cache key
+            List<Entity> entities = lazyEntityLoader.getAllEntities().collect(Collectors.toList());
+            Collections.reverse(entities);
+            PureModelBuilder.PureModelWithContextData second = PureModelBuilder.newBuilder().withEntities(entities).buildWithCache(cache);
+            Assert.assertSame(first.getPureModel(), second.getPureModel());
+        }
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testDifferentContent()
+    {
+        PureModelCache cache = PureModelCache.newCache(1);
+
+        List<Entity> entities = this.entityLoader.getAllEntities().collect(Collectors.toList());
+        PureModel allModel = PureModelBuilder.newBuilder().withEntities(entities).buildWithCache(cache).getPureModel();
+        PureModel classesOnlyModel = PureModelBuilder.newBuilder().withEntities(entities.stream().filter(e -> e.getPath().startsWith("model::domain::"))).buildWithCache(cache).getPureModel();
+        Assert.assertNotSame(allModel, classesOnlyModel);
+        Assert.assertEquals(0, cache.getHitCount());
+        Assert.assertEquals(2, cache.getMissCount());
+
+        // the cache only holds one entry, so the first model has been evicted
+        Assert.assertEquals(1, cache.size());
+        Assert.assertNotSame(allModel, PureModelBuilder.newBuilder().withEntities(entities).buildWithCache(cache).getPureModel());
+        Assert.assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void testFailureNotCached()
+    {
+        PureModelCache cache = PureModelCache.newCache(2);
+
+        RuntimeException e = Assert.assertThrows(RuntimeException.class, () -> cache.getPureModel("some-hash", null, () ->
+        {
+            throw new RuntimeException("compilation failed");
+        }));
+        Assert.assertEquals("compilation failed", e.getMessage());
+        Assert.assertEquals(0, cache.size());
+
+        AtomicInteger compileCount = new AtomicInteger(0);
+        PureModelContextData pureModelContextData = PureModelBuilder.newBuilder().withEntities(this.entityLoader.getAllEntities()).build().getPureModelContextData();
+        Assert.assertNotNull(cache.getPureModel("some-hash", null, () -> countingCompile(pureModelContextData, compileCount)));
+        Assert.assertNotNull(cache.getPureModel("some-hash", null, () -> countingCompile(pureModelContextData, compileCount)));
+        Assert.assertEquals(1, compileCount.get());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    private static PureModel countingCompile(PureModelContextData pureModelContextData, AtomicInteger compileCount)
+    {
+        compileCount.incrementAndGet();
+        return PureModelBuilder.buildPureModel(pureModelContextData, null);
+    }
+}
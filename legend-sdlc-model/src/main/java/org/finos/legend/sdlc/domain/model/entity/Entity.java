@@ -15,6 +15,8 @@
 package org.finos.legend.sdlc.domain.model.entity;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 public interface Entity
 {
@@ -47,4 +49,20 @@ public interface Entity
             }
         };
     }
+
+    /**
+     * Create an entity whose content is computed on first access. This allows entities to be listed by path or
+     * classifier path without paying the cost of materializing their content. The content supplier is called at most
+     * once (unless it throws), and it is released once the content has been computed. Any exception thrown by the
+     * supplier is propagated to the caller of {@link #getContent()}.
+     *
+     * @param path            entity path
+     * @param classifierPath  entity classifier path
+     * @param contentSupplier supplier of entity content
+     * @return entity with lazily computed content
+     */
+    static Entity newLazyEntity(String path, String classifierPath, Supplier<? extends Map<String, ?>> contentSupplier)
+    {
+        return new LazyEntity(path, classifierPath, Objects.requireNonNull(contentSupplier, "content supplier may not be null"));
+    }
 }
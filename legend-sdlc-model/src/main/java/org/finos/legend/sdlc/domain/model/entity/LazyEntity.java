@@ -0,0 +1,78 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.domain.model.entity;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+class LazyEntity implements Entity
+{
+    private final String path;
+    private final String classifierPath;
+    private Supplier<? extends Map<String, ?>> contentSupplier;
+    private volatile Map<String, ?> content;
+
+    LazyEntity(String path, String classifierPath, Supplier<? extends Map<String, ?>> contentSupplier)
+    {
+        this.path = path;
+        this.classifierPath = classifierPath;
+        this.contentSupplier = contentSupplier;
+    }
+
+    @Override
+    public String getPath()
+    {
+        return this.path;
+    }
+
+    @Override
+    public String getClassifierPath()
+    {
+        return this.classifierPath;
+    }
+
+    @Override
+    public Map<String, ?> getContent()
+    {
+        Map<String, ?> result = this.content;
+        if (result == null)
+        {
+            synchronized (this)
+            {
+                result = this.content;
+                if ((result == null) && (this.contentSupplier != null))
+                {
+                    result = this.contentSupplier.get();
+                    this.content = result;
+                    this.contentSupplier = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Whether the content of this entity has been computed.
+     *
+     * @return whether content has been computed
+     */
+    boolean isContentMaterialized()
+    {
+        synchronized (this)
+        {
+            return this.contentSupplier == null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.domain.model.entity;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestLazyEntity
+{
+    @Test
+    public void testContentComputedOnce()
+    {
+        AtomicInteger count = new AtomicInteger(0);
+        Map<String, ?> content = Collections.singletonMap("name", "MyClass");
+        Entity entity = Entity.newLazyEntity("model::MyClass", "meta::pure::metamodel::type::Class", () ->
+        {
+            count.incrementAndGet();
+            return content;
+        });
+        Assert.assertEquals("model::MyClass", entity.getPath());
+        Assert.assertEquals("meta::pure::metamodel::type::Class", entity.getClassifierPath());
+        Assert.assertEquals(0, count.get());
+        Assert.assertFalse(((LazyEntity) entity).isContentMaterialized());
+
+        Assert.assertSame(content, entity.getContent());
+        Assert.assertSame(content, entity.getContent());
+        Assert.assertEquals(1, count.get());
+        Assert.assertTrue(((LazyEntity) entity).isContentMaterialized());
+    }
+
+    @Test
+    public void testNullContent()
+    {
+        AtomicInteger count = new AtomicInteger(0);
+        Entity entity = Entity.newLazyEntity("model::MyClass", "meta::pure::metamodel::type::Class", () ->
+        {
+            count.incrementAndGet();
+            return null;
+        });
+        Assert.assertNull(entity.getContent());
+        Assert.assertNull(entity.getContent());
+        Assert.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void testContentSupplierFailure()
+    {
+        AtomicInteger count = new AtomicInteger(0);
+        Entity entity = Entity.newLazyEntity("model::MyClass", "meta::pure::metamodel::type::Class", () ->
+        {
+            if (count.incrementAndGet() == 1)
+            {
+                throw new IllegalStateException("failed");
+            }
+            return Collections.emptyMap();
+        });
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, entity::getContent);
+        Assert.assertEquals("failed", e.getMessage());
+
+        // failures are not cached
+        Assert.assertEquals(Collections.emptyMap(), entity.getContent());
+        Assert.assertEquals(2, count.get());
+    }
+
+    @Test
+    public void testNullSupplier()
+    {
+        Assert.assertThrows(NullPointerException.class, () -> Entity.newLazyEntity("model::MyClass", "meta::pure::metamodel::type::Class", null));
+    }
+}
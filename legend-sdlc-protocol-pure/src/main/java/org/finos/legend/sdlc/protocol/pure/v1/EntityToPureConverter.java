@@ -18,6 +18,7 @@ import org.finos.legend.engine.protocol.pure.v1.PureProtocolObjectMapperFactory;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.protocol.EntityToProtocolConverter;
+import org.finos.legend.sdlc.serialization.SerializedEntity;
 
 public class EntityToPureConverter extends EntityToProtocolConverter<PackageableElement>
 {
@@ -31,4 +32,16 @@ public class EntityToPureConverter extends EntityToProtocolConverter<Packageable
     {
         return PackageableElement.class;
     }
+
+    @Override
+    protected boolean canConvertDirectly(Entity entity)
+    {
+        return entity instanceof SerializedEntity;
+    }
+
+    @Override
+    protected PackageableElement convertDirectly(Entity entity, Class<? extends PackageableElement> targetClass) throws Exception
+    {
+        return ((SerializedEntity) entity).readContent(getObjectMapper(), targetClass);
+    }
 }
@@ -14,6 +14,8 @@
 
 package org.finos.legend.sdlc.protocol.pure.v1;
 
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
@@ -38,18 +40,34 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
+/**
+ * Entity serializer for Pure grammar. Instances are safe for concurrent use: each thread uses its own grammar parser
+ * and composer, while the protocol converters are shared.
+ * <p>
+ * To parse or compose many entities at once, use {@link #deserializeAll} or {@link #serializeAllToStrings}, which
+ * split the work into batches processed by a pool of worker threads.
+ */
 public class PureEntitySerializer implements EntityTextSerializer
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(PureEntitySerializer.class);
 
+    // number of batches per worker thread, so that uneven batches do not leave threads idle
+    private static final int BATCHES_PER_THREAD = 4;
+
     private final PureToEntityConverter pureToEntityConverter = new PureToEntityConverter();
-    private final PureGrammarParser pureParser = PureGrammarParser.newInstance();
+    private final ThreadLocal<PureGrammarParser> pureParser = ThreadLocal.withInitial(PureGrammarParser::newInstance);
 
     private final EntityToPureConverter entityToPureConverter = new EntityToPureConverter();
-    private final PureGrammarComposer pureComposer = PureGrammarComposer.newInstance(PureGrammarComposerContext.Builder.newInstance()
+    private final ThreadLocal<PureGrammarComposer> pureComposer = ThreadLocal.withInitial(() -> PureGrammarComposer.newInstance(PureGrammarComposerContext.Builder.newInstance()
             .withRenderStyle(RenderStyle.PRETTY)
-            .build());
+            .build()));
 
     @Override
     public String getName()
@@ -131,7 +149,21 @@ public class PureEntitySerializer implements EntityTextSerializer
     private String serializeToString(PackageableElement element)
     {
         PureModelContextData pureModelContextData = PureModelContextData.newPureModelContextData(null, null, Collections.singletonList(element));
-        return this.pureComposer.renderPureModelContextData(pureModelContextData);
+        return this.pureComposer.get().renderPureModelContextData(pureModelContextData);
+    }
+
+    /**
+     * Serialize many entities to Pure grammar text, using up to the given number of threads. The results are in the
+     * same order as the entities. If any entity cannot be serialized, the exception for the first such entity is
+     * thrown.
+     *
+     * @param entities    entities to serialize
+     * @param parallelism maximum number of threads to use
+     * @return Pure grammar text for each entity
+     */
+    public List<String> serializeAllToStrings(List<? extends Entity> entities, int parallelism)
+    {
+        return processInBatches(entities, parallelism, this::serializeToString);
     }
 
     @Override
@@ -154,9 +186,91 @@ public class PureEntitySerializer implements EntityTextSerializer
         return this.pureToEntityConverter.toEntity(element);
     }
 
+    /**
+     * Deserialize many entities from Pure grammar text, using up to the given number of threads. The results are in
+     * the same order as the contents. If any content cannot be deserialized, the exception for the first such content
+     * is thrown.
+     *
+     * @param contents    Pure grammar text for each entity
+     * @param parallelism maximum number of threads to use
+     * @return deserialized entities
+     */
+    public List<Entity> deserializeAll(List<String> contents, int parallelism)
+    {
+        return processInBatches(contents, parallelism, this::deserialize);
+    }
+
+    private <T, R> List<R> processInBatches(List<T> inputs, int parallelism, Function<? super T, ? extends R> function)
+    {
+        if (parallelism <= 0)
+        {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
+
+        int size = inputs.size();
+        if ((parallelism == 1) || (size <= 1))
+        {
+            return ListIterate.collect(inputs, function::apply);
+        }
+
+        int batchCount = Math.min(size, parallelism * BATCHES_PER_THREAD);
+        int threadCount = Math.min(parallelism, batchCount);
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, r ->
+        {
+            Thread thread = new Thread(r, "pure-entity-serializer-" + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try
+        {
+            MutableList<Future<MutableList<R>>> futures = Lists.mutable.ofInitialCapacity(batchCount);
+            for (int i = 0; i < batchCount; i++)
+            {
+                // contiguous batches, with sizes differing by at most one
+                List<T> batch = inputs.subList((int) ((long) size * i / batchCount), (int) ((long) size * (i + 1) / batchCount));
+                futures.add(executor.submit(() -> ListIterate.collect(batch, function::apply)));
+            }
+
+            MutableList<R> results = Lists.mutable.ofInitialCapacity(size);
+            for (Future<MutableList<R>> future : futures)
+            {
+                try
+                {
+                    results.addAll(future.get());
+                }
+                catch (ExecutionException e)
+                {
+                    futures.forEach(f -> f.cancel(true));
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException)
+                    {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error)
+                    {
+                        throw (Error) cause;
+                    }
+                    throw new RuntimeException(cause);
+                }
+                catch (InterruptedException e)
+                {
+                    futures.forEach(f -> f.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted", e);
+                }
+            }
+            return results;
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
     private PackageableElement deserializeToElement(String content)
     {
-        PureModelContextData pureModelContextData = this.pureParser.parseModel(
+        PureModelContextData pureModelContextData = this.pureParser.get().parseModel(
                 content,
                 // NOTE: remove source information to optimize model size for storage
                 false
@@ -0,0 +1,131 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.protocol.pure.v1;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.protocol.pure.v1.PureProtocolObjectMapperFactory;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Reads {@link PureModelContextData} JSON incrementally, such as that written by {@link PureModelContextDataWriter}.
+ * Elements are deserialized one at a time as they are read from the stream, and can be passed to a consumer rather
+ * than collected, so that the full set of elements never needs to be held in memory.
+ */
+public class PureModelContextDataReader
+{
+    private static final String ELEMENTS_FIELD = "elements";
+
+    private final ObjectMapper objectMapper;
+
+    private PureModelContextDataReader(ObjectMapper objectMapper)
+    {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Read PureModelContextData from the stream, including all of its elements.
+     *
+     * @param stream input stream
+     * @return PureModelContextData
+     * @throws IOException if an error occurs reading or deserializing
+     */
+    public PureModelContextData read(InputStream stream) throws IOException
+    {
+        MutableList<PackageableElement> elements = Lists.mutable.empty();
+        PureModelContextData envelope = read(stream, elements::add);
+        PureModelContextData.Builder builder = PureModelContextData.newBuilder();
+        builder.setSerializer(envelope.serializer);
+        builder.setOrigin(envelope.origin);
+        builder.addElements(elements);
+        return builder.build();
+    }
+
+    /**
+     * Read PureModelContextData from the stream, passing each element to the consumer as soon as it is read. The
+     * returned PureModelContextData contains everything from the stream other than the elements.
+     *
+     * @param stream          input stream
+     * @param elementConsumer element consumer
+     * @return PureModelContextData envelope, with no elements
+     * @throws IOException if an error occurs reading or deserializing
+     */
+    public PureModelContextData read(InputStream stream, Consumer<? super PackageableElement> elementConsumer) throws IOException
+    {
+        try (JsonParser parser = this.objectMapper.getFactory().createParser(stream))
+        {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+            {
+                throw new JsonParseException(parser, "Expected start of Pure model context data object");
+            }
+
+            ObjectNode envelope = this.objectMapper.createObjectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (ELEMENTS_FIELD.equals(fieldName))
+                {
+                    if (token == JsonToken.START_ARRAY)
+                    {
+                        JsonToken elementToken;
+                        while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY)
+                        {
+                            if (elementToken == null)
+                            {
+                                throw new JsonParseException(parser, "Unexpected end of input in elements");
+                            }
+                            elementConsumer.accept(this.objectMapper.readValue(parser, PackageableElement.class));
+                        }
+                    }
+                    else if (token != JsonToken.VALUE_NULL)
+                    {
+                        throw new JsonParseException(parser, "Expected array of elements, found " + token);
+                    }
+                }
+                else
+                {
+                    envelope.set(fieldName, this.objectMapper.readTree(parser));
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT)
+            {
+                throw new JsonParseException(parser, "Expected end of Pure model context data object");
+            }
+            envelope.putArray(ELEMENTS_FIELD);
+            return this.objectMapper.treeToValue(envelope, PureModelContextData.class);
+        }
+    }
+
+    public static PureModelContextDataReader newReader()
+    {
+        return newReader(PureProtocolObjectMapperFactory.getNewObjectMapper());
+    }
+
+    public static PureModelContextDataReader newReader(ObjectMapper objectMapper)
+    {
+        return new PureModelContextDataReader(objectMapper);
+    }
+}
@@ -0,0 +1,168 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.protocol.pure.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.finos.legend.engine.protocol.Protocol;
+import org.finos.legend.engine.protocol.pure.v1.PureProtocolObjectMapperFactory;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.context.SDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Writes {@link PureModelContextData} JSON incrementally, one element at a time, so that the full set of elements
+ * never needs to be held in memory. The output can be read by anything that reads PureModelContextData JSON, including
+ * {@link PureModelContextDataReader}.
+ * <p>
+ * The envelope (everything other than the elements) is written when the writer is created, and the element array and
+ * envelope are completed when it is closed. The underlying stream is not closed. If the writer is not closed (e.g.,
+ * because of an error), the output will not be valid JSON.
+ */
+public class PureModelContextDataWriter implements Closeable
+{
+    private static final String ELEMENTS_FIELD = "elements";
+
+    private final JsonGenerator generator;
+    private final ObjectWriter elementWriter;
+    private final EntityToPureConverter converter;
+    private int elementCount = 0;
+    private boolean closed = false;
+
+    private PureModelContextDataWriter(JsonGenerator generator, ObjectWriter elementWriter, EntityToPureConverter converter)
+    {
+        this.generator = generator;
+        this.elementWriter = elementWriter;
+        this.converter = converter;
+    }
+
+    public int getElementCount()
+    {
+        return this.elementCount;
+    }
+
+    public void writePackageableElement(PackageableElement element) throws IOException
+    {
+        checkOpen();
+        this.elementWriter.writeValue(this.generator, element);
+        this.elementCount++;
+    }
+
+    public void writeEntity(Entity entity) throws IOException
+    {
+        writePackageableElement(this.converter.fromEntity(entity));
+    }
+
+    public boolean writeEntityIfPossible(Entity entity) throws IOException
+    {
+        Optional<PackageableElement> element = this.converter.fromEntityIfPossible(entity);
+        if (element.isPresent())
+        {
+            writePackageableElement(element.get());
+            return true;
+        }
+        return false;
+    }
+
+    public void flush() throws IOException
+    {
+        this.generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if (!this.closed)
+        {
+            this.closed = true;
+            try
+            {
+                this.generator.writeEndArray();
+                this.generator.writeEndObject();
+            }
+            finally
+            {
+                this.generator.close();
+            }
+        }
+    }
+
+    private void checkOpen()
+    {
+        if (this.closed)
+        {
+            throw new IllegalStateException("Writer is closed");
+        }
+    }
+
+    public static PureModelContextDataWriter newWriter(OutputStream stream, Protocol protocol, SDLC sdlc) throws IOException
+    {
+        return newWriter(stream, PureProtocolObjectMapperFactory.getNewObjectMapper(), new EntityToPureConverter(), protocol, sdlc);
+    }
+
+    /**
+     * Create a new writer, and write the PureModelContextData envelope to the stream. The envelope is the same as for
+     * the PureModelContextData built by {@link PureModelContextDataBuilder} with the given protocol and SDLC info.
+     *
+     * @param stream       output stream
+     * @param objectMapper object mapper for writing the envelope and elements
+     * @param converter    converter for entities
+     * @param protocol     protocol (optional)
+     * @param sdlc         SDLC info (optional)
+     * @return writer
+     * @throws IOException if an error occurs writing the envelope
+     */
+    public static PureModelContextDataWriter newWriter(OutputStream stream, ObjectMapper objectMapper, EntityToPureConverter converter, Protocol protocol, SDLC sdlc) throws IOException
+    {
+        PureModelContextData envelope = PureModelContextDataBuilder.newBuilder(converter)
+                .withProtocol(protocol)
+                .withSDLC(sdlc)
+                .build();
+        JsonNode envelopeNode = objectMapper.valueToTree(envelope);
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(stream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartObject();
+        if (envelopeNode instanceof ObjectNode)
+        {
+            for (Iterator<Map.Entry<String, JsonNode>> fields = envelopeNode.fields(); fields.hasNext(); )
+            {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!ELEMENTS_FIELD.equals(field.getKey()))
+                {
+                    generator.writeFieldName(field.getKey());
+                    objectMapper.writeTree(generator, field.getValue());
+                }
+            }
+        }
+        generator.writeFieldName(ELEMENTS_FIELD);
+        generator.writeStartArray();
+
+        ObjectWriter elementWriter = objectMapper.writerFor(PackageableElement.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return new PureModelContextDataWriter(generator, elementWriter, converter);
+    }
+}
@@ -18,9 +18,15 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.Package
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.domain.Class;
 import org.finos.legend.sdlc.domain.model.TestTools;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.serialization.EntitySerializer;
+import org.finos.legend.sdlc.serialization.EntitySerializers;
+import org.finos.legend.sdlc.serialization.SerializedEntity;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Optional;
 
@@ -66,4 +72,44 @@ public class TestEntityToPureConverter
         Optional<PackageableElement> nothing = this.converter.fromEntityIfPossible(Entity.newEntity("note::a::real::PureEntity", "meta::unknown::NotAClassifier", Collections.emptyMap()));
         Assert.assertFalse(nothing.isPresent());
     }
+
+    @Test
+    public void testFromSerializedEntity() throws IOException
+    {
+        Entity entity = TestTools.newClassEntity("EmptyClass", "model::test");
+        EntitySerializer serializer = EntitySerializers.getDefaultJsonSerializer();
+        Entity serializedEntity = serializer.deserializeLazily(serializer.serializeToBytes(entity));
+        Assert.assertTrue(serializedEntity instanceof SerializedEntity);
+
+        PackageableElement result = this.converter.fromEntity(serializedEntity);
+        Assert.assertTrue(result instanceof Class);
+        Class resultClass = (Class) result;
+        Assert.assertEquals("EmptyClass", resultClass.name);
+        Assert.assertEquals("model::test", resultClass._package);
+        Assert.assertEquals(Collections.singletonList("meta::pure::metamodel::type::Any"), resultClass.superTypes);
+        Assert.assertEquals(Collections.emptyList(), resultClass.properties);
+
+        Optional<PackageableElement> optionalResult = this.converter.fromEntityIfPossible(serializedEntity);
+        Assert.assertTrue(optionalResult.isPresent());
+        Assert.assertEquals("EmptyClass", optionalResult.get().name);
+
+        Entity unknownEntity = serializer.deserializeLazily(serializer.serializeToBytes(Entity.newEntity("not::a::real::PureEntity", "meta::unknown::NotAClassifier", Collections.emptyMap())));
+        Assert.assertThrows(IllegalArgumentException.class, () -> this.converter.fromEntity(unknownEntity));
+        Assert.assertFalse(this.converter.fromEntityIfPossible(unknownEntity).isPresent());
+    }
+
+    @Test
+    public void testFromMalformedSerializedEntity() throws IOException
+    {
+        EntitySerializer serializer = EntitySerializers.getDefaultJsonSerializer();
+        String json = new String(serializer.serializeToBytes(TestTools.newClassEntity("EmptyClass", "model::test")), StandardCharsets.UTF_8).trim();
+        // the header can be read, but the entity as a whole is malformed
+        Entity malformedEntity = serializer.deserializeLazily((json.substring(0, json.length() - 1) + ", \"extra\": }").getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals("model::test::EmptyClass", malformedEntity.getPath());
+
+        Assert.assertThrows(UncheckedIOException.class, malformedEntity::getContent);
+        Assert.assertThrows(IllegalArgumentException.class, () -> this.converter.fromEntity(malformedEntity));
+        UncheckedIOException e = Assert.assertThrows(UncheckedIOException.class, () -> this.converter.fromEntityIfPossible(malformedEntity));
+        Assert.assertEquals("Error deserializing content of entity model::test::EmptyClass", e.getMessage());
+    }
 }
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.core.StreamWriteFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
@@ -35,6 +36,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.regex.Pattern;
 
 public class TestPureEntitySerializer
@@ -128,6 +130,53 @@ public class TestPureEntitySerializer
         }
     }
 
+    @Test
+    public void testBulkSerialization()
+    {
+        String[][] names = {{"class", "TestClass"}, {"association", "TestAssociation"}, {"enumeration", "TestEnumeration"}, {"mapping", "m2m", "TestMapping"}, {"mapping", "relational", "TestMapping"}};
+        List<String> pureCodes = Lists.mutable.empty();
+        List<Entity> entities = Lists.mutable.empty();
+        for (int i = 0; i < 10; i++)
+        {
+            for (String[] name : names)
+            {
+                String baseName = buildResourceName(name);
+                pureCodes.add(readTextFromResource(baseName + ".pure"));
+                entities.add(readEntityFromJsonResource(baseName + "_full.json"));
+            }
+        }
+
+        List<Entity> deserialized = this.pureSerializer.deserializeAll(pureCodes, 4);
+        Assert.assertEquals(pureCodes.size(), deserialized.size());
+        for (int i = 0; i < pureCodes.size(); i++)
+        {
+            assertEntitiesEqual(this.pureSerializer.deserialize(pureCodes.get(i)), deserialized.get(i));
+            assertEntitiesEqual(entities.get(i), deserialized.get(i));
+        }
+
+        List<String> serialized = this.pureSerializer.serializeAllToStrings(entities, 4);
+        Assert.assertEquals(entities.size(), serialized.size());
+        for (int i = 0; i < entities.size(); i++)
+        {
+            assertTextEquivalent(pureCodes.get(i), serialized.get(i));
+        }
+
+        Assert.assertEquals(serialized, this.pureSerializer.serializeAllToStrings(entities, 1));
+    }
+
+    @Test
+    public void testBulkDeserializationError()
+    {
+        List<String> pureCodes = Lists.mutable.with(
+                readTextFromResource(buildResourceName("class", "TestClass") + ".pure"),
+                readTextFromResource(buildResourceName("association", "TestAssociation") + ".pure"),
+                readTextFromResource(buildResourceName("class", "TestBadClass") + ".pure"),
+                readTextFromResource(buildResourceName("enumeration", "TestEnumeration") + ".pure"),
+                readTextFromResource(buildResourceName("association", "TestBadAssociation") + ".pure"));
+        EngineException e = Assert.assertThrows(EngineException.class, () -> this.pureSerializer.deserializeAll(pureCodes, 3));
+        Assert.assertEquals("PARSER error at [5:3]: Unexpected token '{'", EngineException.buildPrettyErrorMessage(e.getMessage(), e.getSourceInformation(), e.getErrorType()));
+    }
+
     private void testSerialize(String... names)
     {
         String baseName = buildResourceName(names);
@@ -0,0 +1,141 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.protocol.pure.v1;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.protocol.Protocol;
+import org.finos.legend.engine.protocol.pure.v1.PureProtocolObjectMapperFactory;
+import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.PackageableElement;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.serialization.EntityLoader;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TestPureModelContextDataWriter
+{
+    private static final ObjectMapper OBJECT_MAPPER = PureProtocolObjectMapperFactory.getNewObjectMapper();
+
+    private static MutableList<Entity> entities;
+
+    @BeforeClass
+    public static void loadEntities() throws Exception
+    {
+        try (EntityLoader entityLoader = EntityLoader.newEntityLoader(Paths.get(Objects.requireNonNull(TestPureModelContextDataWriter.class.getClassLoader().getResource("pure-model-context-data-builder-test-model")).toURI()));
+             Stream<Entity> stream = entityLoader.getAllEntities())
+        {
+            entities = Lists.mutable.withAll(stream.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testEmpty() throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (PureModelContextDataWriter writer = PureModelContextDataWriter.newWriter(bytes, null, null))
+        {
+            Assert.assertEquals(0, writer.getElementCount());
+        }
+        assertJsonEquals(PureModelContextDataBuilder.newBuilder().build(), bytes.toByteArray());
+
+        PureModelContextData pureModelContextData = PureModelContextDataReader.newReader().read(new ByteArrayInputStream(bytes.toByteArray()));
+        Assert.assertNull(pureModelContextData.serializer);
+        Assert.assertEquals(Collections.emptyList(), pureModelContextData.getElements());
+    }
+
+    @Test
+    public void testWriteEntities() throws Exception
+    {
+        Protocol protocol = new Protocol("pure", "vX_X_X");
+        AlloySDLC sdlc = newSDLC("someProject", "1234567890abcdef");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (PureModelContextDataWriter writer = PureModelContextDataWriter.newWriter(bytes, protocol, sdlc))
+        {
+            for (Entity entity : entities)
+            {
+                Assert.assertTrue(entity.getPath(), writer.writeEntityIfPossible(entity));
+            }
+            Assert.assertEquals(entities.size(), writer.getElementCount());
+        }
+
+        PureModelContextData expected = PureModelContextDataBuilder.newBuilder()
+                .withProtocol(protocol)
+                .withSDLC(sdlc)
+                .withEntities(entities)
+                .build();
+        assertJsonEquals(expected, bytes.toByteArray());
+
+        // standard deserialization
+        PureModelContextData standard = OBJECT_MAPPER.readValue(bytes.toByteArray(), PureModelContextData.class);
+        assertJsonEquals(expected, OBJECT_MAPPER.writeValueAsBytes(standard));
+
+        // full read
+        PureModelContextData read = PureModelContextDataReader.newReader().read(new ByteArrayInputStream(bytes.toByteArray()));
+        Assert.assertEquals(protocol, read.serializer);
+        assertJsonEquals(expected, OBJECT_MAPPER.writeValueAsBytes(read));
+
+        // streaming read
+        MutableList<PackageableElement> elements = Lists.mutable.empty();
+        PureModelContextData envelope = PureModelContextDataReader.newReader().read(new ByteArrayInputStream(bytes.toByteArray()), elements::add);
+        Assert.assertEquals(protocol, envelope.serializer);
+        Assert.assertEquals(Collections.emptyList(), envelope.getElements());
+        Assert.assertEquals(entities.collect(Entity::getPath), elements.collect(PackageableElement::getPath));
+        PureProtocolHelper.assertElementsEqual(
+                expected.getElements().stream().map(PureProtocolHelper::serializeForComparison).collect(Collectors.toList()),
+                elements);
+    }
+
+    @Test
+    public void testUnclosedWriterOutputIsInvalid() throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PureModelContextDataWriter writer = PureModelContextDataWriter.newWriter(bytes, new Protocol("pure", "vX_X_X"), newSDLC("someProject", "1234567890abcdef"));
+        writer.writeEntity(entities.get(0));
+        writer.flush();
+        Assert.assertThrows(JsonProcessingException.class, () -> OBJECT_MAPPER.readValue(bytes.toByteArray(), PureModelContextData.class));
+        Assert.assertThrows(JsonProcessingException.class, () -> PureModelContextDataReader.newReader().read(new ByteArrayInputStream(bytes.toByteArray())));
+
+        writer.close();
+        Assert.assertEquals(1, OBJECT_MAPPER.readValue(bytes.toByteArray(), PureModelContextData.class).getElements().size());
+        Assert.assertThrows(IllegalStateException.class, () -> writer.writeEntity(entities.get(0)));
+    }
+
+    private static void assertJsonEquals(PureModelContextData expected, byte[] actual) throws Exception
+    {
+        Assert.assertEquals(OBJECT_MAPPER.valueToTree(expected), OBJECT_MAPPER.readTree(actual));
+    }
+
+    private static AlloySDLC newSDLC(String project, String revisionOrVersionId)
+    {
+        AlloySDLC sdlc = new AlloySDLC();
+        sdlc.project = project;
+        sdlc.baseVersion = revisionOrVersionId;
+        return sdlc;
+    }
+}
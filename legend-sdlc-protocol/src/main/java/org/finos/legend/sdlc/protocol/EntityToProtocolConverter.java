@@ -17,6 +17,7 @@ package org.finos.legend.sdlc.protocol;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 
+import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.Optional;
 
@@ -36,8 +37,9 @@ public abstract class EntityToProtocolConverter<T>
             throw new IllegalArgumentException("Cannot convert null entity");
         }
 
-        Map<String, ?> content = entity.getContent();
-        if (content == null)
+        boolean convertDirectly = canConvertDirectly(entity);
+        Map<String, ?> content = convertDirectly ? null : entity.getContent();
+        if (!convertDirectly && (content == null))
         {
             throw new IllegalArgumentException("Could not convert entity " + entity.getPath() + " with classifier " + entity.getClassifierPath() + ": null content");
         }
@@ -50,7 +52,7 @@ public abstract class EntityToProtocolConverter<T>
 
         try
         {
-            return this.objectMapper.convertValue(content, targetClass);
+            return convertDirectly ? convertDirectly(entity, targetClass) : this.objectMapper.convertValue(content, targetClass);
         }
         catch (Exception e)
         {
@@ -64,19 +66,34 @@ public abstract class EntityToProtocolConverter<T>
         }
     }
 
+    /**
+     * Convert an entity if possible, returning an empty optional if it has no appropriate target class or its content
+     * cannot be converted to that class. An error reading the content of the entity (for example, because it is
+     * malformed) is not a conversion failure, and is thrown whether the content is read through
+     * {@link Entity#getContent()} or by {@link #convertDirectly}.
+     *
+     * @param entity entity
+     * @return converted entity, if possible
+     */
     public Optional<T> fromEntityIfPossible(Entity entity)
     {
         if (entity != null)
         {
-            Map<String, ?> content = entity.getContent();
-            if (content != null)
+            boolean convertDirectly = canConvertDirectly(entity);
+            Map<String, ?> content = convertDirectly ? null : entity.getContent();
+            if (convertDirectly || (content != null))
             {
                 Class<? extends T> targetClass = getTargetClass(entity);
                 if (targetClass != null)
                 {
                     try
                     {
-                        return Optional.ofNullable(this.objectMapper.convertValue(content, targetClass));
+                        return Optional.ofNullable(convertDirectly ? convertDirectly(entity, targetClass) : this.objectMapper.convertValue(content, targetClass));
+                    }
+                    catch (UncheckedIOException e)
+                    {
+                        // could not read the content
+                        throw e;
                     }
                     catch (Exception ignore)
                     {
@@ -89,4 +106,43 @@ public abstract class EntityToProtocolConverter<T>
     }
 
     protected abstract Class<? extends T> getTargetClass(Entity entity);
+
+    protected ObjectMapper getObjectMapper()
+    {
+        return this.objectMapper;
+    }
+
+    /**
+     * Whether the entity can be converted directly from some other representation of its content (such as its
+     * serialized form), without going through {@link Entity#getContent()}. If this returns true, then
+     * {@link #convertDirectly} is used to convert the entity. The default implementation always returns false.
+     *
+     * @param entity entity
+     * @return whether the entity can be converted directly
+     */
+    protected boolean canConvertDirectly(Entity entity)
+    {
+        return false;
+    }
+
+    /**
+     * Convert an entity directly to the target class, without going through {@link Entity#getContent()}. This is
+     * only called if {@link #canConvertDirectly} returns true for the entity. The default implementation converts
+     * the content of the entity, so subclasses which override {@link #canConvertDirectly} should also override this.
+     *
+     * @param entity      entity
+     * @param targetClass target class
+     * @return converted entity
+     * @throws Exception if the entity cannot be converted; an {@link UncheckedIOException} signals that the content
+     *                   of the entity could not be read, rather than that it could not be converted
+     */
+    protected T convertDirectly(Entity entity, Class<? extends T> targetClass) throws Exception
+    {
+        Map<String, ?> content = entity.getContent();
+        if (content == null)
+        {
+            throw new IllegalArgumentException("null content");
+        }
+        return this.objectMapper.convertValue(content, targetClass);
+    }
 }
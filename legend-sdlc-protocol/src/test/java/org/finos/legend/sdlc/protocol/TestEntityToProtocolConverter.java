@@ -54,6 +54,24 @@ public class TestEntityToProtocolConverter
         Assert.assertFalse(notAClass.isPresent());
     }
 
+    @Test
+    public void testConvertDirectlyDefault()
+    {
+        ClassEntityConverter converter = new ClassEntityConverter()
+        {
+            @Override
+            protected boolean canConvertDirectly(Entity entity)
+            {
+                return true;
+            }
+        };
+        Entity entity = TestTools.newClassEntity("EmptyClass", "model::test");
+        assertClassEqualsEntity(entity, converter.fromEntity(entity));
+
+        Optional<Class> notAClass = converter.fromEntityIfPossible(TestTools.newEnumerationEntity("SomeEnum", "model::test", "one", "two"));
+        Assert.assertFalse(notAClass.isPresent());
+    }
+
     private static class ClassEntityConverter extends EntityToProtocolConverter<Class>
     {
         private ClassEntityConverter()
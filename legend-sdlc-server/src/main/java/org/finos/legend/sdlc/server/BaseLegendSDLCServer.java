@@ -20,18 +20,31 @@ import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 import org.finos.legend.engine.protocol.pure.v1.PureProtocolObjectMapperFactory;
+import org.finos.legend.sdlc.server.config.BackgroundTaskProcessorConfiguration;
+import org.finos.legend.sdlc.server.config.DependencyResolutionConfiguration;
 import org.finos.legend.sdlc.server.config.LegendSDLCServerConfiguration;
+import org.finos.legend.sdlc.server.config.TestModelConfiguration;
+import org.finos.legend.sdlc.server.depot.DepotClientPool;
 import org.finos.legend.sdlc.server.depot.DepotConfiguration;
+import org.finos.legend.sdlc.server.depot.DepotEntityCache;
+import org.finos.legend.sdlc.server.domain.api.dependency.DownstreamDependencyIndex;
 import org.finos.legend.sdlc.server.gitlab.GitLabBundle;
+import org.finos.legend.sdlc.server.gitlab.GitLabClientPool;
 import org.finos.legend.sdlc.server.gitlab.GitLabConfiguration;
 import org.finos.legend.sdlc.server.guice.AbstractBaseModule;
 import org.finos.legend.sdlc.server.guice.BaseModule;
+import org.finos.legend.sdlc.server.project.ProjectFileCache;
+import org.finos.legend.sdlc.server.project.PureModelContextDataCache;
 import org.finos.legend.sdlc.server.project.config.ProjectStructureConfiguration;
 import org.finos.legend.sdlc.server.tools.BackgroundTaskProcessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class BaseLegendSDLCServer<T extends LegendSDLCServerConfiguration> extends BaseServer<T>
 {
@@ -41,6 +54,14 @@ public abstract class BaseLegendSDLCServer<T extends LegendSDLCServerConfigurati
 
     private final String mode;
     private BackgroundTaskProcessor backgroundTaskProcessor;
+    private ProjectFileCache projectFileCache;
+    private PureModelContextDataCache pureModelContextDataCache;
+    private DepotClientPool depotClientPool;
+    private DepotEntityCache depotEntityCache;
+    private GitLabClientPool gitLabClientPool;
+    private DownstreamDependencyIndex downstreamDependencyIndex;
+    private ExecutorService dependencyResolutionExecutor;
+    private ExecutorService testModelEntityFetchExecutor;
 
     public BaseLegendSDLCServer(String mode)
     {
@@ -97,7 +118,10 @@ public abstract class BaseLegendSDLCServer<T extends LegendSDLCServerConfigurati
         super.run(configuration, environment);
         LifecycleEnvironment lifecycleEnvironment = environment.lifecycle();
         LOGGER.debug("Creating background task processor");
-        BackgroundTaskProcessor taskProcessor = new BackgroundTaskProcessor(1);
+        BackgroundTaskProcessorConfiguration taskProcessorConfiguration = (configuration.getBackgroundTaskProcessorConfiguration() == null) ?
+                BackgroundTaskProcessorConfiguration.defaultConfiguration() :
+                configuration.getBackgroundTaskProcessorConfiguration();
+        BackgroundTaskProcessor taskProcessor = new BackgroundTaskProcessor(taskProcessorConfiguration.getThreadPoolSize(), environment.metrics());
         lifecycleEnvironment.manage(new Managed()
         {
             @Override
@@ -122,6 +146,70 @@ public abstract class BaseLegendSDLCServer<T extends LegendSDLCServerConfigurati
             }
         });
         this.backgroundTaskProcessor = taskProcessor;
+
+        LOGGER.debug("Creating project file cache");
+        this.projectFileCache = ProjectFileCache.newCache(configuration.getFileCacheConfiguration());
+
+        LOGGER.debug("Creating Pure model context data cache");
+        this.pureModelContextDataCache = PureModelContextDataCache.newCache(configuration.getPureModelContextDataCacheConfiguration());
+
+        LOGGER.debug("Creating depot client pool");
+        DepotClientPool clientPool = DepotClientPool.newPool();
+        lifecycleEnvironment.manage(new Managed()
+        {
+            @Override
+            public void start()
+            {
+                // nothing to do
+            }
+
+            @Override
+            public void stop()
+            {
+                LOGGER.debug("Closing depot client pool");
+                clientPool.close();
+            }
+        });
+        this.depotClientPool = clientPool;
+        this.depotEntityCache = DepotEntityCache.newCache(configuration.getDepotEntityCacheConfiguration());
+
+        if (GITLAB_MODE.equals(this.mode))
+        {
+            LOGGER.debug("Creating GitLab client pool");
+            GitLabConfiguration gitLabConfiguration = configuration.getGitLabConfiguration();
+            GitLabClientPool gitLabClientPool = GitLabClientPool.newPool((gitLabConfiguration == null) ? null : gitLabConfiguration.getConnectionPoolConfiguration());
+            lifecycleEnvironment.manage(new Managed()
+            {
+                @Override
+                public void start()
+                {
+                    // nothing to do
+                }
+
+                @Override
+                public void stop()
+                {
+                    LOGGER.debug("Closing GitLab client pool");
+                    gitLabClientPool.close();
+                }
+            });
+            this.gitLabClientPool = gitLabClientPool;
+        }
+
+        LOGGER.debug("Creating downstream dependency index");
+        this.downstreamDependencyIndex = DownstreamDependencyIndex.newIndex();
+
+        LOGGER.debug("Creating dependency resolution executor");
+        DependencyResolutionConfiguration dependencyResolutionConfiguration = (configuration.getDependencyResolutionConfiguration() == null) ?
+                DependencyResolutionConfiguration.defaultConfiguration() :
+                configuration.getDependencyResolutionConfiguration();
+        this.dependencyResolutionExecutor = newManagedExecutor(lifecycleEnvironment, "dependency-resolution", dependencyResolutionConfiguration.getThreadPoolSize());
+
+        LOGGER.debug("Creating test model entity fetch executor");
+        TestModelConfiguration testModelConfiguration = (configuration.getTestModelConfiguration() == null) ?
+                TestModelConfiguration.defaultConfiguration() :
+                configuration.getTestModelConfiguration();
+        this.testModelEntityFetchExecutor = newManagedExecutor(lifecycleEnvironment, "test-model-entity-fetch", testModelConfiguration.getThreadPoolSize());
     }
 
     public String getMode()
@@ -133,4 +221,77 @@ public abstract class BaseLegendSDLCServer<T extends LegendSDLCServerConfigurati
     {
         return this.backgroundTaskProcessor;
     }
+
+    public ProjectFileCache getProjectFileCache()
+    {
+        return this.projectFileCache;
+    }
+
+    public PureModelContextDataCache getPureModelContextDataCache()
+    {
+        return this.pureModelContextDataCache;
+    }
+
+    public DepotClientPool getDepotClientPool()
+    {
+        return this.depotClientPool;
+    }
+
+    public DepotEntityCache getDepotEntityCache()
+    {
+        return this.depotEntityCache;
+    }
+
+    public GitLabClientPool getGitLabClientPool()
+    {
+        return this.gitLabClientPool;
+    }
+
+    public DownstreamDependencyIndex getDownstreamDependencyIndex()
+    {
+        return this.downstreamDependencyIndex;
+    }
+
+    public ExecutorService getDependencyResolutionExecutor()
+    {
+        return this.dependencyResolutionExecutor;
+    }
+
+    public ExecutorService getTestModelEntityFetchExecutor()
+    {
+        return this.testModelEntityFetchExecutor;
+    }
+
+    private static ExecutorService newManagedExecutor(LifecycleEnvironment lifecycleEnvironment, String name, int threadPoolSize)
+    {
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable ->
+        {
+            Thread thread = new Thread(runnable, name + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        lifecycleEnvironment.manage(new Managed()
+        {
+            @Override
+            public void start()
+            {
+                // nothing to do
+            }
+
+            @Override
+            public void stop() throws Exception
+            {
+                LOGGER.debug("Shutting down {} executor", name);
+                executor.shutdown();
+                if (!executor.awaitTermination(30, TimeUnit.SECONDS))
+                {
+                    LOGGER.debug("{} executor did not terminate within the timeout", name);
+                    executor.shutdownNow();
+                }
+            }
+        });
+        return executor;
+    }
 }
@@ -0,0 +1,56 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.config;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class BackgroundTaskProcessorConfiguration
+{
+    private static final int DEFAULT_THREAD_POOL_SIZE = 1;
+
+    private final Integer threadPoolSize;
+
+    private BackgroundTaskProcessorConfiguration(Integer threadPoolSize)
+    {
+        if ((threadPoolSize != null) && (threadPoolSize <= 0))
+        {
+            throw new IllegalArgumentException("Invalid threadPoolSize: " + threadPoolSize);
+        }
+        this.threadPoolSize = threadPoolSize;
+    }
+
+    /**
+     * Number of worker threads which run background tasks. Defaults to 1, so tasks run one at a time unless a larger
+     * pool is configured.
+     *
+     * @return thread pool size
+     */
+    public int getThreadPoolSize()
+    {
+        return (this.threadPoolSize == null) ? DEFAULT_THREAD_POOL_SIZE : this.threadPoolSize;
+    }
+
+    @JsonCreator
+    public static BackgroundTaskProcessorConfiguration newConfiguration(@JsonProperty("threadPoolSize") Integer threadPoolSize)
+    {
+        return new BackgroundTaskProcessorConfiguration(threadPoolSize);
+    }
+
+    public static BackgroundTaskProcessorConfiguration defaultConfiguration()
+    {
+        return new BackgroundTaskProcessorConfiguration(null);
+    }
+}
@@ -16,8 +16,11 @@ package org.finos.legend.sdlc.server.config;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.finos.legend.sdlc.server.depot.DepotConfiguration;
+import org.finos.legend.sdlc.server.depot.DepotEntityCacheConfiguration;
 import org.finos.legend.sdlc.server.gitlab.GitLabConfiguration;
+import org.finos.legend.sdlc.server.project.config.ProjectFileCacheConfiguration;
 import org.finos.legend.sdlc.server.project.config.ProjectStructureConfiguration;
+import org.finos.legend.sdlc.server.project.config.PureModelContextDataCacheConfiguration;
 
 public class LegendSDLCServerConfiguration extends ServerConfiguration
 {
@@ -33,6 +36,24 @@ public class LegendSDLCServerConfiguration extends ServerConfiguration
     @JsonProperty("features")
     private LegendSDLCServerFeaturesConfiguration featuresConfiguration;
 
+    @JsonProperty("fileCache")
+    private ProjectFileCacheConfiguration fileCacheConfiguration;
+
+    @JsonProperty("pureModelContextDataCache")
+    private PureModelContextDataCacheConfiguration pureModelContextDataCacheConfiguration;
+
+    @JsonProperty("backgroundTaskProcessor")
+    private BackgroundTaskProcessorConfiguration backgroundTaskProcessorConfiguration;
+
+    @JsonProperty("dependencyResolution")
+    private DependencyResolutionConfiguration dependencyResolutionConfiguration;
+
+    @JsonProperty("depotEntityCache")
+    private DepotEntityCacheConfiguration depotEntityCacheConfiguration;
+
+    @JsonProperty("testModel")
+    private TestModelConfiguration testModelConfiguration;
+
     public GitLabConfiguration getGitLabConfiguration()
     {
         return this.gitLabConfig;
@@ -52,4 +73,34 @@ public class LegendSDLCServerConfiguration extends ServerConfiguration
     {
         return this.featuresConfiguration;
     }
+
+    public ProjectFileCacheConfiguration getFileCacheConfiguration()
+    {
+        return this.fileCacheConfiguration;
+    }
+
+    public PureModelContextDataCacheConfiguration getPureModelContextDataCacheConfiguration()
+    {
+        return this.pureModelContextDataCacheConfiguration;
+    }
+
+    public BackgroundTaskProcessorConfiguration getBackgroundTaskProcessorConfiguration()
+    {
+        return this.backgroundTaskProcessorConfiguration;
+    }
+
+    public DependencyResolutionConfiguration getDependencyResolutionConfiguration()
+    {
+        return this.dependencyResolutionConfiguration;
+    }
+
+    public DepotEntityCacheConfiguration getDepotEntityCacheConfiguration()
+    {
+        return this.depotEntityCacheConfiguration;
+    }
+
+    public TestModelConfiguration getTestModelConfiguration()
+    {
+        return this.testModelConfiguration;
+    }
 }
@@ -0,0 +1,56 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.config;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class TestModelConfiguration
+{
+    private static final int DEFAULT_THREAD_POOL_SIZE = 8;
+
+    private final Integer threadPoolSize;
+
+    private TestModelConfiguration(Integer threadPoolSize)
+    {
+        if ((threadPoolSize != null) && (threadPoolSize <= 0))
+        {
+            throw new IllegalArgumentException("Invalid threadPoolSize: " + threadPoolSize);
+        }
+        this.threadPoolSize = threadPoolSize;
+    }
+
+    /**
+     * Number of threads shared by all requests for fetching the entities of dependencies from the depot concurrently
+     * when building models for testing downstream projects. A size of 1 fetches them one at a time.
+     *
+     * @return thread pool size
+     */
+    public int getThreadPoolSize()
+    {
+        return (this.threadPoolSize == null) ? DEFAULT_THREAD_POOL_SIZE : this.threadPoolSize;
+    }
+
+    @JsonCreator
+    public static TestModelConfiguration newConfiguration(@JsonProperty("threadPoolSize") Integer threadPoolSize)
+    {
+        return new TestModelConfiguration(threadPoolSize);
+    }
+
+    public static TestModelConfiguration defaultConfiguration()
+    {
+        return new TestModelConfiguration(null);
+    }
+}
@@ -0,0 +1,128 @@
+// Copyright 2021 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.depot;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.finos.legend.sdlc.server.depot.auth.AuthClientInjector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-wide source of HTTP clients for depot servers. There is one client for each depot server (and auth client
+ * injector), each with its own pool of keep-alive connections, which is reused across requests rather than being
+ * rebuilt for each call. Note that clients are shared across users, so auth client injectors must not configure
+ * user-specific credentials.
+ */
+public class DepotClientPool
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(DepotClientPool.class);
+
+    private static final int MAX_CONNECTIONS = 50;
+    private static final int CONNECTION_TIME_TO_LIVE_SECONDS = 300;
+    private static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2_000;
+
+    private final ConcurrentMap<ClientKey, CloseableHttpClient> clients = new ConcurrentHashMap<>();
+
+    private DepotClientPool()
+    {
+    }
+
+    /**
+     * Get the HTTP client for the given depot server and auth client injector. The client must not be closed by the
+     * caller.
+     *
+     * @param serverInfo         depot server info
+     * @param authClientInjector auth client injector
+     * @return HTTP client
+     */
+    public CloseableHttpClient getClient(DepotServerInfo serverInfo, AuthClientInjector authClientInjector)
+    {
+        return this.clients.computeIfAbsent(new ClientKey(serverInfo, authClientInjector), key -> newClient(authClientInjector));
+    }
+
+    public void close()
+    {
+        this.clients.values().forEach(client ->
+        {
+            try
+            {
+                client.close();
+            }
+            catch (IOException e)
+            {
+                LOGGER.warn("Error closing depot client", e);
+            }
+        });
+        this.clients.clear();
+    }
+
+    public static DepotClientPool newPool()
+    {
+        return new DepotClientPool();
+    }
+
+    private static CloseableHttpClient newClient(AuthClientInjector authClientInjector)
+    {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(CONNECTION_TIME_TO_LIVE_SECONDS, TimeUnit.SECONDS);
+        // all connections from a client are to the same depot server, so a single route may use the whole pool
+        connectionManager.setMaxTotal(MAX_CONNECTIONS);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS);
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+        return authClientInjector.inject(HttpClientBuilder.create().setConnectionManager(connectionManager)).build();
+    }
+
+    private static class ClientKey
+    {
+        private final DepotServerInfo serverInfo;
+        private final AuthClientInjector authClientInjector;
+
+        private ClientKey(DepotServerInfo serverInfo, AuthClientInjector authClientInjector)
+        {
+            this.serverInfo = serverInfo;
+            this.authClientInjector = authClientInjector;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+
+            if ((other == null) || (this.getClass() != other.getClass()))
+            {
+                return false;
+            }
+
+            ClientKey that = (ClientKey) other;
+            return Objects.equals(this.serverInfo, that.serverInfo) && (this.authClientInjector == that.authClientInjector);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(this.serverInfo) + 31 * System.identityHashCode(this.authClientInjector);
+        }
+    }
+}
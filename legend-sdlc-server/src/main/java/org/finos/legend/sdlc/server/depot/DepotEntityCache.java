@@ -0,0 +1,137 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.depot;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.server.depot.model.DepotProjectVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Server-wide cache of the entities of released project versions from the depot. Released versions are immutable, so
+ * their entities never become stale; other versions (such as snapshots) are never cached. Entries are evicted based on
+ * the total number of entities held and the time since they were last accessed (see
+ * {@link DepotEntityCacheConfiguration}).
+ */
+public class DepotEntityCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(DepotEntityCache.class);
+
+    private final Cache<DepotProjectVersion, List<Entity>> cache;
+
+    private DepotEntityCache(long maxEntities, long expireAfterAccessSeconds)
+    {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().removalListener(DepotEntityCache::onRemoval);
+        if (maxEntities > 0)
+        {
+            // an empty version still occupies an entry, so weigh each version as at least one entity
+            builder.maximumWeight(maxEntities).weigher((DepotProjectVersion key, List<Entity> value) -> Math.max(1, value.size()));
+        }
+        if (expireAfterAccessSeconds > 0)
+        {
+            builder.expireAfterAccess(expireAfterAccessSeconds, TimeUnit.SECONDS);
+        }
+        this.cache = builder.build();
+    }
+
+    /**
+     * Get the entities for a project version, loading and caching them if necessary. If the version is not a released
+     * version, the entities are loaded but not cached. Concurrent requests for the same uncached version share a single
+     * load. The returned list is unmodifiable.
+     *
+     * @param projectVersion project version
+     * @param loader         entity loader
+     * @return project version entities
+     */
+    public List<Entity> getEntities(DepotProjectVersion projectVersion, Function<? super DepotProjectVersion, ? extends List<Entity>> loader)
+    {
+        if (!isReleasedVersion(projectVersion))
+        {
+            return loader.apply(projectVersion);
+        }
+
+        try
+        {
+            return this.cache.get(projectVersion, () -> Lists.immutable.withAll(loader.apply(projectVersion)).castToList());
+        }
+        catch (ExecutionException | UncheckedExecutionException | ExecutionError e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    public void invalidateAll()
+    {
+        this.cache.invalidateAll();
+    }
+
+    public long size()
+    {
+        return this.cache.size();
+    }
+
+    public static DepotEntityCache newCache()
+    {
+        return newCache(null);
+    }
+
+    public static DepotEntityCache newCache(DepotEntityCacheConfiguration configuration)
+    {
+        DepotEntityCacheConfiguration config = (configuration == null) ? DepotEntityCacheConfiguration.defaultConfiguration() : configuration;
+        return new DepotEntityCache(config.getMaxEntities(), config.getExpireAfterAccessSeconds());
+    }
+
+    private static boolean isReleasedVersion(DepotProjectVersion projectVersion)
+    {
+        try
+        {
+            VersionId.parseVersionId(projectVersion.getVersionId());
+            return true;
+        }
+        catch (IllegalArgumentException e)
+        {
+            return false;
+        }
+    }
+
+    private static void onRemoval(RemovalNotification<Object, Object> notification)
+    {
+        if (notification.wasEvicted())
+        {
+            LOGGER.debug("Evicted {} from depot entity cache ({})", notification.getKey(), notification.getCause());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.depot;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class DepotEntityCacheConfiguration
+{
+    private static final long DEFAULT_MAX_ENTITIES = 1_000_000L;
+    private static final long DEFAULT_EXPIRE_AFTER_ACCESS_SECONDS = 3600L;
+
+    private final Long maxEntities;
+    private final Long expireAfterAccessSeconds;
+
+    private DepotEntityCacheConfiguration(Long maxEntities, Long expireAfterAccessSeconds)
+    {
+        if ((maxEntities != null) && (maxEntities < 0))
+        {
+            throw new IllegalArgumentException("Invalid maxEntities: " + maxEntities);
+        }
+        if ((expireAfterAccessSeconds != null) && (expireAfterAccessSeconds < 0))
+        {
+            throw new IllegalArgumentException("Invalid expireAfterAccessSeconds: " + expireAfterAccessSeconds);
+        }
+        this.maxEntities = maxEntities;
+        this.expireAfterAccessSeconds = expireAfterAccessSeconds;
+    }
+
+    /**
+     * Maximum total number of entities, across all released versions, held in the cache. A value of 0 means there is
+     * no limit.
+     *
+     * @return maximum number of entities
+     */
+    public long getMaxEntities()
+    {
+        return (this.maxEntities == null) ? DEFAULT_MAX_ENTITIES : this.maxEntities;
+    }
+
+    /**
+     * Number of seconds after the last access that the entities of a version are evicted. A value of 0 means that
+     * entries do not expire.
+     *
+     * @return seconds after last access before expiry
+     */
+    public long getExpireAfterAccessSeconds()
+    {
+        return (this.expireAfterAccessSeconds == null) ? DEFAULT_EXPIRE_AFTER_ACCESS_SECONDS : this.expireAfterAccessSeconds;
+    }
+
+    @JsonCreator
+    public static DepotEntityCacheConfiguration newConfiguration(
+            @JsonProperty("maxEntities") Long maxEntities,
+            @JsonProperty("expireAfterAccessSeconds") Long expireAfterAccessSeconds)
+    {
+        return new DepotEntityCacheConfiguration(maxEntities, expireAfterAccessSeconds);
+    }
+
+    public static DepotEntityCacheConfiguration defaultConfiguration()
+    {
+        return new DepotEntityCacheConfiguration(null, null);
+    }
+}
@@ -14,14 +14,15 @@
 
 package org.finos.legend.sdlc.server.depot.api;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpStatus;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.utils.URIBuilder;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.util.EntityUtils;
+import org.finos.legend.sdlc.server.depot.DepotClientPool;
 import org.finos.legend.sdlc.server.depot.DepotServerInfo;
 import org.finos.legend.sdlc.server.depot.auth.AuthClientInjector;
 import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
@@ -29,6 +30,9 @@ import org.finos.legend.sdlc.server.tools.StringTools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -39,13 +43,16 @@ abstract class BaseDepotApi
 
     private final DepotServerInfo serverInfo;
     private final AuthClientInjector authClientInjector;
+    private final DepotClientPool clientPool;
 
-    protected BaseDepotApi(DepotServerInfo serverInfo, AuthClientInjector authClientInjector)
+    protected BaseDepotApi(DepotServerInfo serverInfo, AuthClientInjector authClientInjector, DepotClientPool clientPool)
     {
         LegendSDLCServerException.validateNonNull(authClientInjector, "Auth client injector may be null");
+        LegendSDLCServerException.validateNonNull(clientPool, "Client pool may be null");
 
         this.serverInfo = serverInfo;
         this.authClientInjector = authClientInjector;
+        this.clientPool = clientPool;
     }
 
     public DepotServerInfo getServerInfo()
@@ -72,10 +79,18 @@ abstract class BaseDepotApi
         }
     }
 
-    protected String execute(HttpUriRequest request)
+    /**
+     * Execute the request, and read the response content with the given reader. The content is read directly from the
+     * response stream, and the connection is returned to the pool once the response has been read.
+     *
+     * @param request        request
+     * @param responseReader response content reader
+     * @param <T>            result type
+     * @return result of reading the response content
+     */
+    protected <T> T execute(HttpUriRequest request, ResponseReader<T> responseReader)
     {
-        try (CloseableHttpClient client = this.authClientInjector.inject(HttpClientBuilder.create()).build();
-              CloseableHttpResponse response = client.execute(request))
+        try (CloseableHttpResponse response = this.clientPool.getClient(this.serverInfo, this.authClientInjector).execute(request))
         {
             int statusCode = response.getStatusLine().getStatusCode();
 
@@ -84,23 +99,42 @@ abstract class BaseDepotApi
                 case HttpStatus.SC_OK:
                 case HttpStatus.SC_NO_CONTENT:
                 {
-                    return response.getEntity() == null ? "" : EntityUtils.toString(response.getEntity(), "UTF-8");
+                    HttpEntity entity = response.getEntity();
+                    try (InputStream stream = (entity == null) ? new ByteArrayInputStream(new byte[0]) : entity.getContent())
+                    {
+                        return responseReader.read(stream);
+                    }
                 }
                 case HttpStatus.SC_UNAUTHORIZED:
                 case HttpStatus.SC_FORBIDDEN:
                 {
+                    // consume the content so that the connection can be reused
+                    EntityUtils.consumeQuietly(response.getEntity());
                     throw new DepotServerException("Authentication failed. Server responded with code " + statusCode);
                 }
                 default:
                 {
-                    throw new DepotServerException("Server responded with code " + statusCode + ". Response received: " + response.getEntity());
+                    DepotServerException exception = new DepotServerException("Server responded with code " + statusCode + ". Response received: " + response.getEntity());
+                    // consume the content so that the connection can be reused
+                    EntityUtils.consumeQuietly(response.getEntity());
+                    throw exception;
                 }
             }
         }
+        catch (JsonProcessingException ex)
+        {
+            LOGGER.error("Error processing response to request {} {}", request.getMethod(), request.getURI(), ex);
+            throw new DepotServerException(this.serverInfo.getDepotURLString(), StringTools.appendThrowableMessageIfPresent("Failed to process response", ex), ex);
+        }
         catch (Exception ex)
         {
             LOGGER.error("Request {} {} failed.", request.getMethod(), request.getURI(), ex);
             throw new DepotServerException(this.serverInfo.getDepotURLString(), StringTools.appendThrowableMessageIfPresent("Error getting data from Depot", ex), ex);
         }
     }
+
+    protected interface ResponseReader<T>
+    {
+        T read(InputStream stream) throws IOException;
+    }
 }
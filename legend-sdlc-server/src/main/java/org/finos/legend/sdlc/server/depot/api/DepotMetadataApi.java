@@ -17,7 +17,6 @@ package org.finos.legend.sdlc.server.depot.api;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import org.apache.http.NameValuePair;
@@ -25,14 +24,12 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.message.BasicNameValuePair;
 import org.eclipse.collections.api.factory.Lists;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.server.depot.DepotClientPool;
 import org.finos.legend.sdlc.server.depot.DepotConfiguration;
 import org.finos.legend.sdlc.server.depot.DepotServerInfo;
 import org.finos.legend.sdlc.server.depot.model.DepotProjectId;
 import org.finos.legend.sdlc.server.depot.model.DepotProjectVersion;
 import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
-import org.finos.legend.sdlc.server.tools.StringTools;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import java.net.URI;
@@ -42,16 +39,15 @@ import java.util.Set;
 
 public class DepotMetadataApi extends BaseDepotApi implements MetadataApi
 {
-    private static final Logger LOGGER = LoggerFactory.getLogger(DepotMetadataApi.class);
-    private final JsonMapper jsonMapper = JsonMapper.builder().addMixIn(Entity.class, EntityMixIn.class).build();
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().addMixIn(Entity.class, EntityMixIn.class).build();
 
     private static final String GET_ENTITIES_PATH = "/api/projects/%s/%s/versions/%s";
     private static final String GET_DEPENDENCIES_PATH = "/api/projects/%s/%s/versions/%s/projectDependencies";
 
     @Inject
-    public DepotMetadataApi(DepotConfiguration configuration)
+    public DepotMetadataApi(DepotConfiguration configuration, DepotClientPool clientPool)
     {
-        super(DepotServerInfo.newServerInfo(configuration.getServerConfiguration()), configuration.getAuthClientInjector());
+        super(DepotServerInfo.newServerInfo(configuration.getServerConfiguration()), configuration.getAuthClientInjector(), clientPool);
     }
 
     @Override
@@ -61,16 +57,7 @@ public class DepotMetadataApi extends BaseDepotApi implements MetadataApi
         LegendSDLCServerException.validateNonNull(versionId, "Version id may be null");
 
         HttpGet getRequest = this.prepareGetRequest(projectId, versionId, GET_ENTITIES_PATH, Lists.mutable.empty());
-        String response = this.execute(getRequest);
-        try
-        {
-            return jsonMapper.readValue(response, new TypeReference<List<Entity>>() {});
-        }
-        catch (JsonProcessingException ex)
-        {
-            LOGGER.error("Error getting entities from metadata server", ex);
-            throw new DepotServerException(this.getServerInfo().getDepotURLString(), StringTools.appendThrowableMessageIfPresent("Failed to process response", ex), ex);
-        }
+        return this.execute(getRequest, stream -> JSON_MAPPER.readValue(stream, new TypeReference<List<Entity>>() {}));
     }
 
     @Override
@@ -81,16 +68,7 @@ public class DepotMetadataApi extends BaseDepotApi implements MetadataApi
 
         NameValuePair transitiveParam = new BasicNameValuePair("transitive", transitive ? "true" : "false");
         HttpGet getRequest = this.prepareGetRequest(projectId, versionId, GET_DEPENDENCIES_PATH, Lists.mutable.with(transitiveParam));
-        String response = this.execute(getRequest);
-        try
-        {
-            return jsonMapper.readValue(response, new TypeReference<Set<DepotProjectVersion>>() {});
-        }
-        catch (JsonProcessingException ex)
-        {
-            LOGGER.error("Error getting project dependencies from metadata server", ex);
-            throw new DepotServerException(this.getServerInfo().getDepotURLString(), StringTools.appendThrowableMessageIfPresent("Failed to process response", ex), ex);
-        }
+        return this.execute(getRequest, stream -> JSON_MAPPER.readValue(stream, new TypeReference<Set<DepotProjectVersion>>() {}));
     }
 
     private HttpGet prepareGetRequest(DepotProjectId projectId, String versionId, String requestPath, List<NameValuePair> parameters)
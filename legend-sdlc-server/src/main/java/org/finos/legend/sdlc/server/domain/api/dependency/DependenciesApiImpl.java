@@ -14,7 +14,10 @@
 
 package org.finos.legend.sdlc.server.domain.api.dependency;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.sdlc.domain.model.project.Project;
@@ -26,24 +29,38 @@ import org.finos.legend.sdlc.server.domain.api.project.ProjectApi;
 import org.finos.legend.sdlc.server.domain.api.project.ProjectConfigurationApi;
 import org.finos.legend.sdlc.server.domain.api.revision.RevisionApi;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 import javax.inject.Inject;
+import javax.inject.Named;
 
 public class DependenciesApiImpl implements DependenciesApi
 {
+    public static final String EXECUTOR_NAME = "dependencyResolution";
+
     private final ProjectApi projectApi;
     private final ProjectConfigurationApi projectConfigurationApi;
     private final RevisionApi revisionApi;
+    private final DownstreamDependencyIndex downstreamDependencyIndex;
+    private final ExecutorService executor;
 
     @Inject
-    public DependenciesApiImpl(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi)
+    public DependenciesApiImpl(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi, DownstreamDependencyIndex downstreamDependencyIndex, @Named(EXECUTOR_NAME) ExecutorService executor)
     {
         this.projectApi = projectApi;
         this.projectConfigurationApi = projectConfigurationApi;
         this.revisionApi = revisionApi;
+        this.downstreamDependencyIndex = (downstreamDependencyIndex == null) ? DownstreamDependencyIndex.newIndex() : downstreamDependencyIndex;
+        this.executor = executor;
+    }
+
+    public DependenciesApiImpl(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi)
+    {
+        this(projectApi, projectConfigurationApi, revisionApi, null, null);
     }
 
     @Override
@@ -73,24 +90,25 @@ public class DependenciesApiImpl implements DependenciesApi
         /*
             TODO : Maybe enable ElasticSearch for Gitlab https://docs.gitlab.com/ee/integration/elasticsearch.html ??
         */
-        List<Project> projects = this.projectApi.getProjects(false,  // false because downstream projects might not be owned by the current user
-                null, null, null, null);
-
-        Set<ProjectRevision> results = Sets.mutable.empty();
-        for (Project otherProject : projects)
+        // The projects are listed on the calling thread, so that request scoped state is initialized there before the
+        // current revisions of the other projects are fetched concurrently. Only the projects visible to the current
+        // user are considered. The configuration of a project is only read if its current revision is not already in
+        // the index.
+        MutableList<Project> otherProjects = Lists.mutable.withAll(this.projectApi.getProjects(false,  // false because downstream projects might not be owned by the current user
+                null, null, null, null)).reject(p -> projectId.equals(p.getProjectId()));
+        MutableList<ProjectRevision> results = collect(otherProjects, otherProject ->
         {
             String otherProjectId = otherProject.getProjectId();
-            if (!projectId.equals(otherProjectId))
+            Revision otherProjectRevision = this.revisionApi.getProjectRevisionContext(otherProjectId).getCurrentRevision();
+            ImmutableSet<String> upstreamProjectIds = this.downstreamDependencyIndex.getUpstreamProjectIds(otherProjectId, otherProjectRevision.getId());
+            if (upstreamProjectIds == null)
             {
-                Revision otherProjectRevision = this.revisionApi.getProjectRevisionContext(otherProjectId).getCurrentRevision();
                 ProjectConfiguration projectConfiguration = this.projectConfigurationApi.getProjectRevisionProjectConfiguration(otherProjectId, otherProjectRevision.getId());
-                if (Iterate.anySatisfy(projectConfiguration.getProjectDependencies(), d -> projectId.equals(d.getProjectId())))
-                {
-                    results.add(new ProjectRevision(otherProject.getProjectId(), otherProjectRevision.getId()));
-                }
+                upstreamProjectIds = this.downstreamDependencyIndex.update(otherProjectId, otherProjectRevision.getId(), projectConfiguration.getProjectDependencies());
             }
-        }
-        return results;
+            return upstreamProjectIds.contains(projectId) ? new ProjectRevision(otherProjectId, otherProjectRevision.getId()) : null;
+        });
+        return results.select(Objects::nonNull, Sets.mutable.empty());
     }
 
     private Set<ProjectDependency> searchUpstream(ProjectConfiguration rootProjectConfiguration, boolean transitive)
@@ -100,17 +118,65 @@ public class DependenciesApiImpl implements DependenciesApi
             return Sets.mutable.withAll(rootProjectConfiguration.getProjectDependencies());
         }
 
-        Deque<ProjectDependency> deque = new ArrayDeque<>(rootProjectConfiguration.getProjectDependencies());
-        MutableSet<ProjectDependency> results = Sets.mutable.ofInitialCapacity(deque.size());
-        while (!deque.isEmpty())
+        // Breadth-first search, where the configurations for each level are fetched concurrently. Each dependency is
+        // fetched at most once, and configurations of versions are also served from the project file cache, as
+        // versions never change.
+        MutableSet<ProjectDependency> results = Sets.mutable.empty();
+        MutableList<ProjectDependency> frontier = Lists.mutable.withAll(rootProjectConfiguration.getProjectDependencies()).select(results::add);
+        if (frontier.notEmpty())
+        {
+            // Request scoped state (such as the user's GitLab client, which may set session cookies when it is first
+            // created) must only be initialized on the request thread. So, before fanning out, the first configuration
+            // is always fetched on the calling thread.
+            MutableList<ProjectDependency> nextFrontier = Lists.mutable.empty();
+            Iterate.select(getVersionProjectConfiguration(frontier.get(0)).getProjectDependencies(), results::add, nextFrontier);
+            getVersionProjectConfigurations(frontier.subList(1, frontier.size())).forEach(config -> Iterate.select(config.getProjectDependencies(), results::add, nextFrontier));
+            frontier = nextFrontier;
+        }
+        while (frontier.notEmpty())
         {
-            ProjectDependency dependency = deque.pollFirst();
-            if (results.add(dependency))
+            MutableList<ProjectDependency> nextFrontier = Lists.mutable.empty();
+            getVersionProjectConfigurations(frontier).forEach(config -> Iterate.select(config.getProjectDependencies(), results::add, nextFrontier));
+            frontier = nextFrontier;
+        }
+        return results;
+    }
+
+    private MutableList<ProjectConfiguration> getVersionProjectConfigurations(MutableList<ProjectDependency> dependencies)
+    {
+        return collect(dependencies, this::getVersionProjectConfiguration);
+    }
+
+    private <T, V> MutableList<V> collect(MutableList<T> items, Function<? super T, ? extends V> function)
+    {
+        if ((this.executor == null) || (items.size() <= 1))
+        {
+            return items.collect(function::apply);
+        }
+
+        MutableList<CompletableFuture<V>> futures = items.collect(item -> CompletableFuture.supplyAsync(() -> function.apply(item), this.executor));
+        try
+        {
+            return futures.collect(CompletableFuture::join);
+        }
+        catch (CompletionException e)
+        {
+            futures.forEach(f -> f.cancel(false));
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
             {
-                ProjectConfiguration dependencyProjectConfig = this.projectConfigurationApi.getVersionProjectConfiguration(dependency.getProjectId(), dependency.getVersionId());
-                deque.addAll(dependencyProjectConfig.getProjectDependencies());
+                throw (Error) cause;
             }
+            throw e;
         }
-        return results;
+    }
+
+    private ProjectConfiguration getVersionProjectConfiguration(ProjectDependency dependency)
+    {
+        return this.projectConfigurationApi.getVersionProjectConfiguration(dependency.getProjectId(), dependency.getVersionId());
     }
 }
@@ -0,0 +1,112 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.domain.api.dependency;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.finos.legend.sdlc.domain.model.project.configuration.ProjectDependency;
+
+import java.util.Objects;
+
+/**
+ * Server-wide index of the upstream projects of each project, used to answer downstream dependency queries. Each
+ * project is recorded together with the revision its dependencies were read from. As the configuration of a revision
+ * never changes, an entry is valid for exactly as long as that revision is the current revision of the project,
+ * however the project is changed (through this server, another server, or directly in the underlying repository).
+ * Callers therefore look up the current revision of each project and only need to read the configuration of projects
+ * whose current revision is not indexed.
+ * <p>
+ * Entries are shared between users, but a caller can only look up projects whose current revision it already knows.
+ */
+public class DownstreamDependencyIndex
+{
+    private static final long DEFAULT_MAX_PROJECTS = 100_000L;
+
+    private final Cache<String, ProjectEntry> projects;
+
+    private DownstreamDependencyIndex(long maxProjects)
+    {
+        if (maxProjects <= 0)
+        {
+            throw new IllegalArgumentException("Invalid maxProjects: " + maxProjects);
+        }
+        this.projects = CacheBuilder.newBuilder().maximumSize(maxProjects).build();
+    }
+
+    /**
+     * Get the ids of the projects which the given revision of a project depends on, if that revision is indexed.
+     *
+     * @param projectId  project id
+     * @param revisionId revision id
+     * @return upstream project ids, or null if the revision is not indexed
+     */
+    public ImmutableSet<String> getUpstreamProjectIds(String projectId, String revisionId)
+    {
+        ProjectEntry entry = this.projects.getIfPresent(projectId);
+        return ((entry == null) || !Objects.equals(entry.revisionId, revisionId)) ? null : entry.upstreamProjectIds;
+    }
+
+    /**
+     * Record the dependencies of a revision of a project, replacing any previously recorded for the project.
+     *
+     * @param projectId    project id
+     * @param revisionId   revision id
+     * @param dependencies project dependencies
+     * @return upstream project ids
+     */
+    public ImmutableSet<String> update(String projectId, String revisionId, Iterable<? extends ProjectDependency> dependencies)
+    {
+        ImmutableSet<String> upstreamProjectIds = (dependencies == null) ?
+                Sets.immutable.empty() :
+                Iterate.collect(dependencies, ProjectDependency::getProjectId, Sets.mutable.<String>empty()).toImmutable();
+        this.projects.put(projectId, new ProjectEntry(revisionId, upstreamProjectIds));
+        return upstreamProjectIds;
+    }
+
+    public void remove(String projectId)
+    {
+        this.projects.invalidate(projectId);
+    }
+
+    public long size()
+    {
+        return this.projects.size();
+    }
+
+    public static DownstreamDependencyIndex newIndex()
+    {
+        return newIndex(DEFAULT_MAX_PROJECTS);
+    }
+
+    public static DownstreamDependencyIndex newIndex(long maxProjects)
+    {
+        return new DownstreamDependencyIndex(maxProjects);
+    }
+
+    private static class ProjectEntry
+    {
+        private final String revisionId;
+        private final ImmutableSet<String> upstreamProjectIds;
+
+        private ProjectEntry(String revisionId, ImmutableSet<String> upstreamProjectIds)
+        {
+            this.revisionId = revisionId;
+            this.upstreamProjectIds = upstreamProjectIds;
+        }
+    }
+}
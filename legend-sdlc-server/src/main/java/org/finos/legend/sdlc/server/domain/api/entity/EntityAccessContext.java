@@ -18,6 +18,7 @@ import org.finos.legend.sdlc.domain.model.entity.Entity;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public interface EntityAccessContext
@@ -31,5 +32,54 @@ public interface EntityAccessContext
 
     List<Entity> getEntities(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate, boolean excludeInvalid);
 
+    /**
+     * Pass each entity matching the given predicates to the consumer, in the same order as they would be returned by
+     * {@link #getEntities(Predicate, Predicate, Predicate, boolean)}. Implementations may avoid materializing all the
+     * entities at once, so this should be preferred when entities only need to be processed one at a time. Exceptions
+     * thrown by the consumer are passed through unchanged. The default implementation gets all the entities and then
+     * passes them to the consumer.
+     *
+     * @param entityPathPredicate     entity path predicate (optional)
+     * @param classifierPathPredicate classifier path predicate (optional)
+     * @param entityContentPredicate  entity content predicate (optional)
+     * @param excludeInvalid          whether to exclude invalid entities (rather than throwing an exception)
+     * @param consumer                entity consumer
+     */
+    default void forEachEntity(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate, boolean excludeInvalid, Consumer<? super Entity> consumer)
+    {
+        getEntities(entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid).forEach(consumer);
+    }
+
+    /**
+     * Get entities whose content is deserialized lazily, on first access. Where supported, such entities can be
+     * converted directly to protocol classes from their serialized form, without materializing their content as a map.
+     * The default implementation is equivalent to {@link #getEntities(Predicate, Predicate, Predicate)} with no content
+     * predicate.
+     *
+     * @param entityPathPredicate     entity path predicate (optional)
+     * @param classifierPathPredicate classifier path predicate (optional)
+     * @return entities with lazily deserialized content
+     */
+    default List<Entity> getEntitiesWithLazyContent(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate)
+    {
+        return getEntities(entityPathPredicate, classifierPathPredicate, null);
+    }
+
+    /**
+     * Pass each entity matching the given predicates to the consumer, with content deserialized lazily as in
+     * {@link #getEntitiesWithLazyContent(Predicate, Predicate)}. As with
+     * {@link #forEachEntity(Predicate, Predicate, Predicate, boolean, Consumer)}, implementations may avoid
+     * materializing all the entities at once. Exceptions thrown by the consumer are passed through unchanged. The
+     * default implementation gets all the entities and then passes them to the consumer.
+     *
+     * @param entityPathPredicate     entity path predicate (optional)
+     * @param classifierPathPredicate classifier path predicate (optional)
+     * @param consumer                entity consumer
+     */
+    default void forEachEntityWithLazyContent(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Consumer<? super Entity> consumer)
+    {
+        getEntitiesWithLazyContent(entityPathPredicate, classifierPathPredicate).forEach(consumer);
+    }
+
     List<String> getEntityPaths(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate);
 }
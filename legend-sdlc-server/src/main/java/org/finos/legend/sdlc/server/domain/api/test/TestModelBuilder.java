@@ -15,9 +15,8 @@
 package org.finos.legend.sdlc.server.domain.api.test;
 
 import org.eclipse.collections.api.factory.Lists;
-import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
-import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.set.mutable.SetAdapter;
 import org.eclipse.collections.impl.utility.Iterate;
@@ -26,6 +25,7 @@ import org.finos.legend.sdlc.domain.model.project.configuration.ProjectConfigura
 import org.finos.legend.sdlc.domain.model.project.configuration.ProjectDependency;
 import org.finos.legend.sdlc.domain.model.project.workspace.WorkspaceType;
 import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.server.depot.DepotEntityCache;
 import org.finos.legend.sdlc.server.depot.api.MetadataApi;
 import org.finos.legend.sdlc.server.depot.model.DepotProjectId;
 import org.finos.legend.sdlc.server.depot.model.DepotProjectVersion;
@@ -35,27 +35,40 @@ import org.finos.legend.sdlc.server.domain.api.project.ProjectConfigurationApi;
 import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
 import org.finos.legend.sdlc.server.tools.StringTools;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
+import javax.inject.Named;
 
 public class TestModelBuilder
 {
+    public static final String EXECUTOR_NAME = "testModelEntityFetch";
+
     private final DependenciesApi dependenciesApi;
     private final EntityApi entityApi;
     private final ProjectConfigurationApi projectConfigurationApi;
     private final MetadataApi metadataApi;
-    private final MutableMap<String, List<Entity>> entityCache = Maps.mutable.empty();
+    private final DepotEntityCache entityCache;
+    private final ExecutorService executor;
 
     @Inject
-    public TestModelBuilder(DependenciesApi dependenciesApi, EntityApi entityApi, ProjectConfigurationApi projectConfigurationApi, MetadataApi metadataApi)
+    public TestModelBuilder(DependenciesApi dependenciesApi, EntityApi entityApi, ProjectConfigurationApi projectConfigurationApi, MetadataApi metadataApi, DepotEntityCache entityCache, @Named(EXECUTOR_NAME) ExecutorService executor)
     {
         this.dependenciesApi = dependenciesApi;
         this.entityApi = entityApi;
         this.projectConfigurationApi = projectConfigurationApi;
         this.metadataApi = metadataApi;
+        this.entityCache = entityCache;
+        this.executor = executor;
+    }
+
+    public TestModelBuilder(DependenciesApi dependenciesApi, EntityApi entityApi, ProjectConfigurationApi projectConfigurationApi, MetadataApi metadataApi)
+    {
+        this(dependenciesApi, entityApi, projectConfigurationApi, metadataApi, DepotEntityCache.newCache(), null);
     }
 
     public List<Entity> buildEntitiesForTest(String upstreamProjectId, String upstreamWorkspaceId, String upstreamRevisionId, String downstreamProjectId, String downstreamVersionId)
@@ -164,18 +177,47 @@ public class TestModelBuilder
 
     private List<Entity> getEntities(DepotProjectId downstreamProjectId, String downstreamVersionId, Set<DepotProjectVersion> dependencies, List<Entity> upstreamProjectWorkspaceEntities)
     {
-        List<Entity> downstreamProjectEntities = this.metadataApi.getEntities(downstreamProjectId, downstreamVersionId);
-        List<Entity> dependencyEntities = dependencies.stream().map(this::getEntities).flatMap(Collection::stream).collect(Collectors.toList());
-        return Lists.mutable.withAll(upstreamProjectWorkspaceEntities).withAll(downstreamProjectEntities).withAll(dependencyEntities);
+        // fetch the downstream project and all dependencies concurrently, but combine them in a consistent order
+        MutableList<DepotProjectVersion> projectVersions = Lists.mutable.<DepotProjectVersion>ofInitialCapacity(dependencies.size() + 1)
+                .with(DepotProjectVersion.newDepotProjectVersion(downstreamProjectId.getGroupId(), downstreamProjectId.getArtifactId(), downstreamVersionId))
+                .withAll(dependencies);
+        MutableList<Entity> entities = Lists.mutable.withAll(upstreamProjectWorkspaceEntities);
+        getEntities(projectVersions).forEach(entities::addAll);
+        return entities;
+    }
+
+    private MutableList<List<Entity>> getEntities(MutableList<DepotProjectVersion> projectVersions)
+    {
+        if ((this.executor == null) || (projectVersions.size() == 1))
+        {
+            return projectVersions.collect(this::getEntities);
+        }
+
+        MutableList<CompletableFuture<List<Entity>>> futures = projectVersions.collect(v -> CompletableFuture.supplyAsync(() -> getEntities(v), this.executor));
+        try
+        {
+            return futures.collect(CompletableFuture::join);
+        }
+        catch (CompletionException e)
+        {
+            futures.forEach(f -> f.cancel(false));
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw e;
+        }
     }
 
     private List<Entity> getEntities(DepotProjectVersion depotProjectVersion)
     {
-        // Avoid fetching entities for a project multiple times
-        return this.entityCache.getIfAbsentPut(
-                depotProjectVersion.toString(),
-                () -> this.metadataApi.getEntities(depotProjectVersion.getDepotProjectId(), depotProjectVersion.getVersionId())
-        );
+        // Avoid fetching entities for a released version multiple times
+        return this.entityCache.getEntities(depotProjectVersion, v -> this.metadataApi.getEntities(v.getDepotProjectId(), v.getVersionId()));
     }
 
     private DepotProjectId getDepotProjectId(String gitLabProjectId)
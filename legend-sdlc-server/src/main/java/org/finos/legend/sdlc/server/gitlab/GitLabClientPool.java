@@ -0,0 +1,176 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.gitlab;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.sdlc.server.gitlab.GitLabConfiguration.ConnectionPoolConfiguration;
+import org.gitlab4j.api.Constants.TokenType;
+import org.gitlab4j.api.GitLabApi;
+import org.gitlab4j.api.GitLabApi.ApiVersion;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-wide source of {@link GitLabApi} clients. All clients share a single pool of keep-alive HTTP connections,
+ * and the client for a given user token is reused across requests rather than being rebuilt each time. Clients are
+ * not closed when they are removed from the pool, as requests in progress may still be using them; as the connection
+ * manager is shared, there is nothing else for them to release, and they are left to the garbage collector. The pool
+ * should be closed when the server stops.
+ */
+public class GitLabClientPool
+{
+    // Property names from org.glassfish.jersey.apache.connector.ApacheClientProperties
+    private static final String CONNECTION_MANAGER_PROPERTY = "jersey.config.apache.client.connectionManager";
+    private static final String CONNECTION_MANAGER_SHARED_PROPERTY = "jersey.config.apache.client.connectionManagerShared";
+
+    // Property name from org.glassfish.jersey.client.ClientProperties
+    private static final String PROXY_URI_PROPERTY = "jersey.config.client.proxy.uri";
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 200;
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 50;
+    private static final int DEFAULT_CONNECTION_TIME_TO_LIVE_SECONDS = 300;
+    private static final int DEFAULT_MAX_CLIENTS = 1024;
+    private static final int DEFAULT_CLIENT_EXPIRE_AFTER_ACCESS_SECONDS = 900;
+    private static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2_000;
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final MutableMap<String, Object> clientConfigProperties;
+    private final Cache<ClientKey, GitLabApi> clients;
+
+    private GitLabClientPool(ConnectionPoolConfiguration config)
+    {
+        this.connectionManager = new PoolingHttpClientConnectionManager(getOrDefault((config == null) ? null : config.getConnectionTimeToLiveSeconds(), DEFAULT_CONNECTION_TIME_TO_LIVE_SECONDS), TimeUnit.SECONDS);
+        this.connectionManager.setMaxTotal(getOrDefault((config == null) ? null : config.getMaxConnections(), DEFAULT_MAX_CONNECTIONS));
+        this.connectionManager.setDefaultMaxPerRoute(getOrDefault((config == null) ? null : config.getMaxConnectionsPerRoute(), DEFAULT_MAX_CONNECTIONS_PER_ROUTE));
+        this.connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+        // gitlab4j only installs the Apache connector (which is what uses the connection manager) when the client
+        // properties contain a proxy URI. A null proxy URI selects the Apache connector, and Jersey drops null-valued
+        // properties, so no proxy is actually configured.
+        MutableMap<String, Object> properties = Maps.mutable.empty();
+        properties.put(PROXY_URI_PROPERTY, null);
+        properties.put(CONNECTION_MANAGER_PROPERTY, this.connectionManager);
+        properties.put(CONNECTION_MANAGER_SHARED_PROPERTY, true);
+        this.clientConfigProperties = properties.asUnmodifiable();
+        this.clients = CacheBuilder.newBuilder()
+                .maximumSize(getOrDefault((config == null) ? null : config.getMaxClients(), DEFAULT_MAX_CLIENTS))
+                .expireAfterAccess(getOrDefault((config == null) ? null : config.getClientExpireAfterAccessSeconds(), DEFAULT_CLIENT_EXPIRE_AFTER_ACCESS_SECONDS), TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Get a GitLab API client for the given server and user token. The client may be shared with other requests made
+     * with the same token.
+     *
+     * @param gitLabURL GitLab server URL
+     * @param tokenType token type
+     * @param token     user token
+     * @return GitLab API client
+     */
+    public GitLabApi getGitLabApi(String gitLabURL, TokenType tokenType, String token)
+    {
+        ClientKey key = new ClientKey(gitLabURL, tokenType, token);
+        try
+        {
+            return this.clients.get(key, () -> new GitLabApi(ApiVersion.V4, gitLabURL, tokenType, token, null, this.clientConfigProperties));
+        }
+        catch (ExecutionException | UncheckedExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            throw (cause instanceof RuntimeException) ? (RuntimeException) cause : new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Discard any client for the given server and user token (e.g., because the token is no longer valid).
+     *
+     * @param gitLabURL GitLab server URL
+     * @param tokenType token type
+     * @param token     user token
+     */
+    public void invalidate(String gitLabURL, TokenType tokenType, String token)
+    {
+        this.clients.invalidate(new ClientKey(gitLabURL, tokenType, token));
+    }
+
+    public void close()
+    {
+        this.clients.invalidateAll();
+        this.connectionManager.shutdown();
+    }
+
+    Map<String, Object> getClientConfigProperties()
+    {
+        return this.clientConfigProperties;
+    }
+
+    public static GitLabClientPool newPool(ConnectionPoolConfiguration config)
+    {
+        return new GitLabClientPool(config);
+    }
+
+    private static int getOrDefault(Integer value, int defaultValue)
+    {
+        return ((value == null) || (value <= 0)) ? defaultValue : value;
+    }
+
+    private static class ClientKey
+    {
+        private final String gitLabURL;
+        private final TokenType tokenType;
+        private final String tokenHash;
+
+        private ClientKey(String gitLabURL, TokenType tokenType, String token)
+        {
+            this.gitLabURL = gitLabURL;
+            this.tokenType = tokenType;
+            // keep only a hash of the token, so that raw tokens are not held as keys
+            this.tokenHash = (token == null) ? null : DigestUtils.sha256Hex(token);
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+
+            if ((other == null) || (this.getClass() != other.getClass()))
+            {
+                return false;
+            }
+
+            ClientKey that = (ClientKey) other;
+            return Objects.equals(this.gitLabURL, that.gitLabURL) &&
+                    (this.tokenType == that.tokenType) &&
+                    Objects.equals(this.tokenHash, that.tokenHash);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(this.gitLabURL, this.tokenType, this.tokenHash);
+        }
+    }
+}
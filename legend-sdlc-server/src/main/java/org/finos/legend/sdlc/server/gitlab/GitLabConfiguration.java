@@ -37,8 +37,9 @@ public class GitLabConfiguration
     private final AppConfiguration appConfig;
     private final NewProjectVisibility newProjectVisibility;
     private final List<GitLabAuthorizer> gitLabAuthorizers;
+    private final ConnectionPoolConfiguration connectionPoolConfig;
 
-    private GitLabConfiguration(String projectTag, String projectIdPrefix, AuthConfiguration authConfig, ServerConfiguration serverConfig, AppConfiguration appConfig, NewProjectVisibility newProjectVisibility, List<GitLabAuthorizer> gitLabAuthorizers)
+    private GitLabConfiguration(String projectTag, String projectIdPrefix, AuthConfiguration authConfig, ServerConfiguration serverConfig, AppConfiguration appConfig, NewProjectVisibility newProjectVisibility, List<GitLabAuthorizer> gitLabAuthorizers, ConnectionPoolConfiguration connectionPoolConfig)
     {
         if ((projectTag != null) && !LEGEND_SDLC_PROJECT_TAG_PATTERN.matcher(projectTag).matches())
         {
@@ -55,6 +56,7 @@ public class GitLabConfiguration
         this.appConfig = appConfig;
         this.newProjectVisibility = newProjectVisibility;
         this.gitLabAuthorizers = gitLabAuthorizers == null ? Collections.emptyList() : gitLabAuthorizers;
+        this.connectionPoolConfig = connectionPoolConfig;
     }
 
     public String getProjectTag()
@@ -92,6 +94,11 @@ public class GitLabConfiguration
         return this.gitLabAuthorizers;
     }
 
+    public ConnectionPoolConfiguration getConnectionPoolConfiguration()
+    {
+        return this.connectionPoolConfig;
+    }
+
     @JsonCreator
     public static GitLabConfiguration newGitLabConfiguration(
             @JsonProperty("projectTag") String projectTag,
@@ -102,7 +109,8 @@ public class GitLabConfiguration
             @JsonProperty("server") ServerConfiguration serverConfig,
             @JsonProperty("app") AppConfiguration appConfig,
             @JsonProperty("newProjectVisibility") NewProjectVisibility newProjectVisibility,
-            @JsonProperty("gitlabAuthorizers") List<GitLabAuthorizer> gitLabAuthorizers)
+            @JsonProperty("gitlabAuthorizers") List<GitLabAuthorizer> gitLabAuthorizers,
+            @JsonProperty("connectionPool") ConnectionPoolConfiguration connectionPoolConfig)
     {
         // Legacy configuration case
         if ((uatConfig != null) || (prodConfig != null))
@@ -117,10 +125,10 @@ public class GitLabConfiguration
             }
 
             ModeConfiguration modeConfig = (uatConfig == null) ? prodConfig : uatConfig;
-            return newGitLabConfiguration(projectTag, (uatConfig == null) ? "PROD" : "UAT", authConfig, modeConfig.getServerConfiguration(), modeConfig.getAppConfiguration(), newProjectVisibility, gitLabAuthorizers);
+            return newGitLabConfiguration(projectTag, (uatConfig == null) ? "PROD" : "UAT", authConfig, modeConfig.getServerConfiguration(), modeConfig.getAppConfiguration(), newProjectVisibility, gitLabAuthorizers, connectionPoolConfig);
         }
 
-        return newGitLabConfiguration(projectTag, projectIdPrefix, authConfig, serverConfig, appConfig, newProjectVisibility, gitLabAuthorizers);
+        return newGitLabConfiguration(projectTag, projectIdPrefix, authConfig, serverConfig, appConfig, newProjectVisibility, gitLabAuthorizers, connectionPoolConfig);
     }
 
     public static GitLabConfiguration newGitLabConfiguration(String projectTag, String projectIdPrefix, AuthConfiguration authConfig, ServerConfiguration serverConfig, AppConfiguration appConfig, NewProjectVisibility newProjectVisibility)
@@ -130,7 +138,12 @@ public class GitLabConfiguration
 
     public static GitLabConfiguration newGitLabConfiguration(String projectTag, String projectIdPrefix, AuthConfiguration authConfig, ServerConfiguration serverConfig, AppConfiguration appConfig, NewProjectVisibility newProjectVisibility, List<GitLabAuthorizer> gitLabAuthorizers)
     {
-        return new GitLabConfiguration(projectTag, projectIdPrefix, authConfig, serverConfig, appConfig, newProjectVisibility, gitLabAuthorizers);
+        return newGitLabConfiguration(projectTag, projectIdPrefix, authConfig, serverConfig, appConfig, newProjectVisibility, gitLabAuthorizers, null);
+    }
+
+    public static GitLabConfiguration newGitLabConfiguration(String projectTag, String projectIdPrefix, AuthConfiguration authConfig, ServerConfiguration serverConfig, AppConfiguration appConfig, NewProjectVisibility newProjectVisibility, List<GitLabAuthorizer> gitLabAuthorizers, ConnectionPoolConfiguration connectionPoolConfig)
+    {
+        return new GitLabConfiguration(projectTag, projectIdPrefix, authConfig, serverConfig, appConfig, newProjectVisibility, gitLabAuthorizers, connectionPoolConfig);
     }
 
     public static void configureObjectMapper(ObjectMapper objectMapper)
@@ -263,6 +276,60 @@ public class GitLabConfiguration
         }
     }
 
+    public static class ConnectionPoolConfiguration
+    {
+        private final Integer maxConnections;
+        private final Integer maxConnectionsPerRoute;
+        private final Integer connectionTimeToLiveSeconds;
+        private final Integer maxClients;
+        private final Integer clientExpireAfterAccessSeconds;
+
+        private ConnectionPoolConfiguration(Integer maxConnections, Integer maxConnectionsPerRoute, Integer connectionTimeToLiveSeconds, Integer maxClients, Integer clientExpireAfterAccessSeconds)
+        {
+            this.maxConnections = maxConnections;
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            this.connectionTimeToLiveSeconds = connectionTimeToLiveSeconds;
+            this.maxClients = maxClients;
+            this.clientExpireAfterAccessSeconds = clientExpireAfterAccessSeconds;
+        }
+
+        public Integer getMaxConnections()
+        {
+            return this.maxConnections;
+        }
+
+        public Integer getMaxConnectionsPerRoute()
+        {
+            return this.maxConnectionsPerRoute;
+        }
+
+        public Integer getConnectionTimeToLiveSeconds()
+        {
+            return this.connectionTimeToLiveSeconds;
+        }
+
+        public Integer getMaxClients()
+        {
+            return this.maxClients;
+        }
+
+        public Integer getClientExpireAfterAccessSeconds()
+        {
+            return this.clientExpireAfterAccessSeconds;
+        }
+
+        @JsonCreator
+        public static ConnectionPoolConfiguration newConnectionPoolConfiguration(
+                @JsonProperty("maxConnections") Integer maxConnections,
+                @JsonProperty("maxConnectionsPerRoute") Integer maxConnectionsPerRoute,
+                @JsonProperty("connectionTimeToLiveSeconds") Integer connectionTimeToLiveSeconds,
+                @JsonProperty("maxClients") Integer maxClients,
+                @JsonProperty("clientExpireAfterAccessSeconds") Integer clientExpireAfterAccessSeconds)
+        {
+            return new ConnectionPoolConfiguration(maxConnections, maxConnectionsPerRoute, connectionTimeToLiveSeconds, maxClients, clientExpireAfterAccessSeconds);
+        }
+    }
+
     public enum NewProjectVisibility
     {
         PUBLIC(Visibility.PUBLIC), PRIVATE(Visibility.PRIVATE), INTERNAL(Visibility.INTERNAL);
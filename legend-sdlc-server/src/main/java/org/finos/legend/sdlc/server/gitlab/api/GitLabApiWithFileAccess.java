@@ -36,10 +36,12 @@ import org.finos.legend.sdlc.server.gitlab.auth.GitLabUserContext;
 import org.finos.legend.sdlc.server.gitlab.tools.GitLabApiTools;
 import org.finos.legend.sdlc.server.gitlab.tools.PagerTools;
 import org.finos.legend.sdlc.server.project.AbstractFileAccessContext;
+import org.finos.legend.sdlc.server.project.CachingProjectFileAccessProvider;
 import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider;
 import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.FileModificationContext;
 import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.RevisionAccessContext;
 import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.WorkspaceAccessType;
+import org.finos.legend.sdlc.server.project.ProjectFileCache;
 import org.finos.legend.sdlc.server.project.ProjectFileOperation;
 import org.finos.legend.sdlc.server.project.ProjectFiles;
 import org.finos.legend.sdlc.server.project.ProjectPaths;
@@ -61,6 +63,8 @@ import org.gitlab4j.api.models.CommitAction;
 import org.gitlab4j.api.models.CommitAction.Action;
 import org.gitlab4j.api.models.CommitRef;
 import org.gitlab4j.api.models.CommitRef.RefType;
+import org.gitlab4j.api.models.CompareResults;
+import org.gitlab4j.api.models.Diff;
 import org.gitlab4j.api.models.Pipeline;
 import org.gitlab4j.api.models.PipelineStatus;
 import org.gitlab4j.api.models.Release;
@@ -84,6 +88,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -96,13 +101,22 @@ abstract class GitLabApiWithFileAccess extends BaseGitLabApi
 
     private static final int MAX_COMMIT_SIZE = 512;
     private static final int MAX_COMMIT_RETRIES = 10;
+    private static final int MAX_INCREMENTAL_FILE_CHANGES = 100;
 
     private final BackgroundTaskProcessor backgroundTaskProcessor;
+    private final ProjectFileCache projectFileCache;
+    private final MutableSet<String> accessValidatedProjectIds = Sets.mutable.<String>empty().asSynchronized();
 
     protected GitLabApiWithFileAccess(GitLabConfiguration gitLabConfiguration, GitLabUserContext userContext, BackgroundTaskProcessor backgroundTaskProcessor)
+    {
+        this(gitLabConfiguration, userContext, backgroundTaskProcessor, null);
+    }
+
+    protected GitLabApiWithFileAccess(GitLabConfiguration gitLabConfiguration, GitLabUserContext userContext, BackgroundTaskProcessor backgroundTaskProcessor, ProjectFileCache projectFileCache)
     {
         super(gitLabConfiguration, userContext);
         this.backgroundTaskProcessor = backgroundTaskProcessor;
+        this.projectFileCache = projectFileCache;
     }
 
     protected ProjectConfiguration getProjectConfiguration(String projectId, WorkspaceInfo workspaceInfo, String revisionId)
@@ -142,7 +156,104 @@ abstract class GitLabApiWithFileAccess extends BaseGitLabApi
 
     protected ProjectFileAccessProvider getProjectFileAccessProvider()
     {
-        return new GitLabProjectFileAccessProvider();
+        return CachingProjectFileAccessProvider.wrap(new GitLabProjectFileAccessProvider(), this.projectFileCache, this::validateProjectAccess, this::getFileDelta);
+    }
+
+    private ProjectFileCache.FileDelta getFileDelta(String projectId, String fromRevisionId, String toRevisionId)
+    {
+        GitLabProjectId gitLabProjectId = parseProjectId(projectId);
+        CompareResults compareResults;
+        try
+        {
+            RepositoryApi repositoryApi = getGitLabApi().getRepositoryApi();
+            compareResults = withRetries(() -> repositoryApi.compare(gitLabProjectId.getGitLabId(), fromRevisionId, toRevisionId, true));
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Failed to compare revisions {} and {} in project {}, will load all files", fromRevisionId, toRevisionId, projectId, e);
+            return null;
+        }
+
+        List<Diff> diffs = compareResults.getDiffs();
+        if ((diffs == null) || (diffs.size() > MAX_INCREMENTAL_FILE_CHANGES))
+        {
+            // at this point, it is cheaper to load all the files
+            return null;
+        }
+
+        ProjectFileAccessProvider.FileAccessContext fileAccessContext = new GitLabProjectFileAccessContext(gitLabProjectId, null, toRevisionId, null, null);
+        ProjectFileCache.FileDelta delta = newFileDelta(diffs, fileAccessContext::getFile);
+        if (delta == null)
+        {
+            LOGGER.warn("Could not get all changed files from revision {} to {} in project {}, will load all files", fromRevisionId, toRevisionId, projectId);
+        }
+        return delta;
+    }
+
+    /**
+     * Build a file delta from a list of diffs. Added and modified files (including the new path of a renamed file)
+     * are loaded with fileLoader, while deleted files and the old path of a renamed file are recorded as deleted. If a
+     * diff is missing a path or a changed file cannot be loaded, null is returned.
+     *
+     * @param diffs      diffs
+     * @param fileLoader loader of files at the later revision
+     * @return file delta or null
+     */
+    static ProjectFileCache.FileDelta newFileDelta(List<? extends Diff> diffs, Function<? super String, ? extends ProjectFileAccessProvider.ProjectFile> fileLoader)
+    {
+        MutableList<String> deletedPaths = Lists.mutable.empty();
+        MutableList<ProjectFileAccessProvider.ProjectFile> changedFiles = Lists.mutable.ofInitialCapacity(diffs.size());
+        for (Diff diff : diffs)
+        {
+            if (Boolean.TRUE.equals(diff.getDeletedFile()))
+            {
+                if (diff.getOldPath() == null)
+                {
+                    return null;
+                }
+                deletedPaths.add(diff.getOldPath());
+            }
+            else
+            {
+                if (Boolean.TRUE.equals(diff.getRenamedFile()))
+                {
+                    if (diff.getOldPath() == null)
+                    {
+                        return null;
+                    }
+                    deletedPaths.add(diff.getOldPath());
+                }
+                ProjectFileAccessProvider.ProjectFile file = (diff.getNewPath() == null) ? null : fileLoader.apply(diff.getNewPath());
+                if (file == null)
+                {
+                    return null;
+                }
+                changedFiles.add(file);
+            }
+        }
+        return ProjectFileCache.FileDelta.newFileDelta(deletedPaths, changedFiles);
+    }
+
+    private void validateProjectAccess(String projectId)
+    {
+        // Files served from the shared cache may have been loaded on behalf of another user, so we check that the
+        // current user can access the project (once per project for the lifetime of this object)
+        if (!this.accessValidatedProjectIds.contains(projectId))
+        {
+            GitLabProjectId gitLabProjectId = parseProjectId(projectId);
+            try
+            {
+                withRetries(() -> getGitLabApi().getProjectApi().getProject(gitLabProjectId.getGitLabId()));
+            }
+            catch (Exception e)
+            {
+                throw buildException(e,
+                        () -> "User " + getCurrentUser() + " is not allowed to access project " + projectId,
+                        () -> "Unknown project: " + projectId,
+                        () -> "Failed to access project " + projectId);
+            }
+            this.accessValidatedProjectIds.add(projectId);
+        }
     }
 
     private String getCurrentRevisionId(GitLabProjectId projectId, String workspaceId, WorkspaceType workspaceType, WorkspaceAccessType workspaceAccessType)
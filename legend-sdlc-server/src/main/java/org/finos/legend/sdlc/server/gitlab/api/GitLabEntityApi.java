@@ -25,6 +25,7 @@ import org.finos.legend.sdlc.domain.model.entity.change.EntityChangeType;
 import org.finos.legend.sdlc.domain.model.project.workspace.WorkspaceType;
 import org.finos.legend.sdlc.domain.model.revision.Revision;
 import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.serialization.EntityHeader;
 import org.finos.legend.sdlc.server.domain.api.entity.EntityAccessContext;
 import org.finos.legend.sdlc.server.domain.api.entity.EntityApi;
 import org.finos.legend.sdlc.server.domain.api.entity.EntityModificationContext;
@@ -33,8 +34,10 @@ import org.finos.legend.sdlc.server.gitlab.GitLabConfiguration;
 import org.finos.legend.sdlc.server.gitlab.GitLabProjectId;
 import org.finos.legend.sdlc.server.gitlab.auth.GitLabUserContext;
 import org.finos.legend.sdlc.server.project.CachingFileAccessContext;
+import org.finos.legend.sdlc.server.project.ProjectEntityIndex;
 import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider;
 import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.WorkspaceAccessType;
+import org.finos.legend.sdlc.server.project.ProjectFileCache;
 import org.finos.legend.sdlc.server.project.ProjectFileOperation;
 import org.finos.legend.sdlc.server.project.ProjectStructure;
 import org.finos.legend.sdlc.server.tools.BackgroundTaskProcessor;
@@ -50,6 +53,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -61,9 +65,14 @@ public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityAp
     private static final Logger LOGGER = LoggerFactory.getLogger(GitLabEntityApi.class);
 
     @Inject
+    public GitLabEntityApi(GitLabConfiguration gitLabConfiguration, GitLabUserContext userContext, BackgroundTaskProcessor backgroundTaskProcessor, ProjectFileCache projectFileCache)
+    {
+        super(gitLabConfiguration, userContext, backgroundTaskProcessor, projectFileCache);
+    }
+
     public GitLabEntityApi(GitLabConfiguration gitLabConfiguration, GitLabUserContext userContext, BackgroundTaskProcessor backgroundTaskProcessor)
     {
-        super(gitLabConfiguration, userContext, backgroundTaskProcessor);
+        this(gitLabConfiguration, userContext, backgroundTaskProcessor, null);
     }
 
     @Override
@@ -421,6 +430,74 @@ public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityAp
             }
         }
 
+        @Override
+        public void forEachEntity(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate, boolean excludeInvalid, Consumer<? super Entity> consumer)
+        {
+            try (Stream<EntityProjectFile> stream = getEntityProjectFiles(getFileAccessContext(getProjectFileAccessProvider()), entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid))
+            {
+                stream.map(excludeInvalid ? epf ->
+                {
+                    try
+                    {
+                        return epf.getEntity();
+                    }
+                    catch (Exception ignore)
+                    {
+                        return null;
+                    }
+                } : EntityProjectFile::getEntity).filter(Objects::nonNull).forEach(passThroughExceptions(consumer));
+            }
+            catch (ConsumerException e)
+            {
+                // failures of the consumer (e.g., writing to a closed response) are not failures to get entities
+                throw e.getCause();
+            }
+            catch (Exception e)
+            {
+                throw buildException(e,
+                        () -> "User " + getCurrentUser() + " is not allowed to get entities for " + getInfoForException(),
+                        () -> "Unknown entities for " + getInfoForException(),
+                        () -> "Failed to get entities for " + getInfoForException());
+            }
+        }
+
+        @Override
+        public List<Entity> getEntitiesWithLazyContent(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate)
+        {
+            try (Stream<EntityProjectFile> stream = getEntityProjectFiles(getFileAccessContext(getProjectFileAccessProvider()), entityPathPredicate, classifierPathPredicate, null))
+            {
+                return stream.map(EntityProjectFile::getEntityWithLazyContent).collect(Collectors.toList());
+            }
+            catch (Exception e)
+            {
+                throw buildException(e,
+                        () -> "User " + getCurrentUser() + " is not allowed to get entities for " + getInfoForException(),
+                        () -> "Unknown entities for " + getInfoForException(),
+                        () -> "Failed to get entities for " + getInfoForException());
+            }
+        }
+
+        @Override
+        public void forEachEntityWithLazyContent(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Consumer<? super Entity> consumer)
+        {
+            try (Stream<EntityProjectFile> stream = getEntityProjectFiles(getFileAccessContext(getProjectFileAccessProvider()), entityPathPredicate, classifierPathPredicate, null))
+            {
+                stream.map(EntityProjectFile::getEntityWithLazyContent).forEach(passThroughExceptions(consumer));
+            }
+            catch (ConsumerException e)
+            {
+                // failures of the consumer (e.g., writing to a closed response) are not failures to get entities
+                throw e.getCause();
+            }
+            catch (Exception e)
+            {
+                throw buildException(e,
+                        () -> "User " + getCurrentUser() + " is not allowed to get entities for " + getInfoForException(),
+                        () -> "Unknown entities for " + getInfoForException(),
+                        () -> "Failed to get entities for " + getInfoForException());
+            }
+        }
+
         @Override
         public List<String> getEntityPaths(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate)
         {
@@ -737,17 +814,17 @@ public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityAp
         {
             stream = stream.filter(excludeInvalid ? epf ->
             {
-                Entity entity;
+                String classifierPath;
                 try
                 {
-                    entity =  epf.getEntity();
+                    classifierPath = epf.getClassifierPath();
                 }
                 catch (Exception ignore)
                 {
                     return false;
                 }
-                return classifierPathPredicate.test(entity.getClassifierPath());
-            } : epf -> classifierPathPredicate.test(epf.getEntity().getClassifierPath()));
+                return classifierPathPredicate.test(classifierPath);
+            } : epf -> classifierPathPredicate.test(epf.getClassifierPath()));
         }
         if (contentPredicate != null)
         {
@@ -770,6 +847,12 @@ public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityAp
 
     private Stream<EntityProjectFile> getEntityProjectFiles(ProjectFileAccessProvider.FileAccessContext accessContext)
     {
+        ProjectEntityIndex entityIndex = ProjectEntityIndex.getEntityIndex(accessContext);
+        if (entityIndex != null)
+        {
+            return entityIndex.getEntries().castToList().stream().map(EntityProjectFile::new);
+        }
+
         ProjectStructure projectStructure = ProjectStructure.getProjectStructure(accessContext);
         List<ProjectStructure.EntitySourceDirectory> sourceDirectories = projectStructure.getEntitySourceDirectories();
         ProjectFileAccessProvider.FileAccessContext cachingAccessContext = (sourceDirectories.size() > 1) ? CachingFileAccessContext.wrap(accessContext) : accessContext;
@@ -933,11 +1016,41 @@ public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityAp
         }
     }
 
+    private static <T> Consumer<T> passThroughExceptions(Consumer<T> consumer)
+    {
+        return x ->
+        {
+            try
+            {
+                consumer.accept(x);
+            }
+            catch (RuntimeException e)
+            {
+                throw new ConsumerException(e);
+            }
+        };
+    }
+
+    private static class ConsumerException extends RuntimeException
+    {
+        private ConsumerException(RuntimeException cause)
+        {
+            super(cause);
+        }
+
+        @Override
+        public synchronized RuntimeException getCause()
+        {
+            return (RuntimeException) super.getCause();
+        }
+    }
+
     private static class EntityProjectFile
     {
         private final ProjectStructure.EntitySourceDirectory sourceDirectory;
         private final ProjectFileAccessProvider.ProjectFile file;
         private String path;
+        private EntityHeader header;
         private Entity entity;
 
         private EntityProjectFile(ProjectStructure.EntitySourceDirectory sourceDirectory, ProjectFileAccessProvider.ProjectFile file)
@@ -946,6 +1059,18 @@ public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityAp
             this.file = file;
         }
 
+        private EntityProjectFile(ProjectEntityIndex.Entry indexEntry)
+        {
+            this(indexEntry.getSourceDirectory(), indexEntry.getFile());
+            this.path = indexEntry.getEntityPath();
+            EntityHeader indexHeader = indexEntry.getHeader();
+            if ((indexHeader != null) && isValidHeader(indexHeader))
+            {
+                this.header = indexHeader;
+            }
+            // otherwise, the header is read from the file on demand, which reports any error
+        }
+
         synchronized String getEntityPath()
         {
             if (this.path == null)
@@ -955,6 +1080,28 @@ public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityAp
             return this.path;
         }
 
+        /**
+         * Get the classifier path of the entity. If the entity has not already been deserialized, only its header is
+         * read, which is much cheaper than full deserialization for large entities.
+         */
+        synchronized String getClassifierPath()
+        {
+            if (this.entity != null)
+            {
+                return this.entity.getClassifierPath();
+            }
+            if (this.header == null)
+            {
+                EntityHeader localHeader = this.sourceDirectory.deserializeHeader(this.file);
+                if (!isValidHeader(localHeader))
+                {
+                    throw new RuntimeException("Expected entity path " + getEntityPath() + ", found " + localHeader.getPath());
+                }
+                this.header = localHeader;
+            }
+            return this.header.getClassifierPath();
+        }
+
         synchronized Entity getEntity()
         {
             if (this.entity == null)
@@ -976,9 +1123,7 @@ public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityAp
                      *
                      * This hack should be removed at the earliest opportunity, and no later than 3/31/2023.
                      */
-                    if ((localEntity.getPath() != null) && (getEntityPath() != null) &&
-                            localEntity.getPath().startsWith(getEntityPath()) &&
-                            "meta::pure::metamodel::function::ConcreteFunctionDefinition".equals(localEntity.getClassifierPath()))
+                    if (isRenamedFunction(localEntity.getPath(), localEntity.getClassifierPath()))
                     {
                         Map<String, Object> newContent = Maps.mutable.ofMap(localEntity.getContent());
                         newContent.put("name", getEntityPath().substring(getEntityPath().lastIndexOf(":") + 1));
@@ -997,5 +1142,41 @@ public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityAp
             }
             return this.entity;
         }
+
+        /**
+         * Get the entity, deferring deserialization of its content until it is needed. If the entity has already been
+         * fully deserialized, that is returned instead. Renamed functions (see the comment in getEntity) require
+         * modification of their content, so they are always fully deserialized.
+         */
+        synchronized Entity getEntityWithLazyContent()
+        {
+            if (this.entity != null)
+            {
+                return this.entity;
+            }
+            Entity localEntity = this.sourceDirectory.deserializeLazily(this.file);
+            if (Objects.equals(localEntity.getPath(), getEntityPath()))
+            {
+                return localEntity;
+            }
+            if (isRenamedFunction(localEntity.getPath(), localEntity.getClassifierPath()))
+            {
+                return getEntity();
+            }
+            throw new RuntimeException("Expected entity path " + getEntityPath() + ", found " + localEntity.getPath());
+        }
+
+        private boolean isValidHeader(EntityHeader header)
+        {
+            return Objects.equals(header.getPath(), getEntityPath()) || isRenamedFunction(header.getPath(), header.getClassifierPath());
+        }
+
+        private boolean isRenamedFunction(String foundEntityPath, String classifierPath)
+        {
+            // See the comment in getEntity
+            return (foundEntityPath != null) && (getEntityPath() != null) &&
+                    foundEntityPath.startsWith(getEntityPath()) &&
+                    "meta::pure::metamodel::function::ConcreteFunctionDefinition".equals(classifierPath);
+        }
     }
 }
\ No newline at end of file
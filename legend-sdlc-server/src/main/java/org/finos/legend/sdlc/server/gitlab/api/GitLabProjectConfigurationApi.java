@@ -33,6 +33,7 @@ import org.finos.legend.sdlc.server.gitlab.tools.PagerTools;
 import org.finos.legend.sdlc.server.project.ProjectConfigurationStatusReport;
 import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider;
 import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.WorkspaceAccessType;
+import org.finos.legend.sdlc.server.project.ProjectFileCache;
 import org.finos.legend.sdlc.server.project.ProjectStructure;
 import org.finos.legend.sdlc.server.project.ProjectStructurePlatformExtensions;
 import org.finos.legend.sdlc.server.project.extension.ProjectStructureExtensionProvider;
@@ -53,6 +54,13 @@ public class GitLabProjectConfigurationApi extends GitLabApiWithFileAccess imple
     private final ProjectStructurePlatformExtensions projectStructurePlatformExtensions;
 
     @Inject
+    public GitLabProjectConfigurationApi(GitLabConfiguration gitLabConfiguration, GitLabUserContext userContext, ProjectStructureExtensionProvider projectStructureExtensionProvider, BackgroundTaskProcessor backgroundTaskProcessor, ProjectStructurePlatformExtensions projectStructurePlatformExtensions, ProjectFileCache projectFileCache)
+    {
+        super(gitLabConfiguration, userContext, backgroundTaskProcessor, projectFileCache);
+        this.projectStructureExtensionProvider = projectStructureExtensionProvider;
+        this.projectStructurePlatformExtensions = projectStructurePlatformExtensions;
+    }
+
     public GitLabProjectConfigurationApi(GitLabConfiguration gitLabConfiguration, GitLabUserContext userContext, ProjectStructureExtensionProvider projectStructureExtensionProvider, BackgroundTaskProcessor backgroundTaskProcessor, ProjectStructurePlatformExtensions projectStructurePlatformExtensions)
     {
         super(gitLabConfiguration, userContext, backgroundTaskProcessor);
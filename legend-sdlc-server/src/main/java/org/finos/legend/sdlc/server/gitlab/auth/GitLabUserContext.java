@@ -18,6 +18,7 @@ import com.google.inject.servlet.RequestScoped;
 import org.finos.legend.sdlc.server.auth.LegendSDLCWebFilter;
 import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
 import org.finos.legend.sdlc.server.gitlab.GitLabAppInfo;
+import org.finos.legend.sdlc.server.gitlab.GitLabClientPool;
 import org.finos.legend.sdlc.server.guice.UserContext;
 import org.gitlab4j.api.GitLabApi;
 import org.gitlab4j.api.GitLabApi.ApiVersion;
@@ -34,15 +35,17 @@ public class GitLabUserContext extends UserContext
 {
     private final GitLabAuthorizerManager authorizerManager;
     private final GitLabAppInfo appInfo;
+    private final GitLabClientPool clientPool;
 
     private GitLabApi api;
 
     @Inject
-    public GitLabUserContext(HttpServletRequest httpRequest, HttpServletResponse httpResponse, GitLabAuthorizerManager authorizerManager, GitLabAppInfo appInfo)
+    public GitLabUserContext(HttpServletRequest httpRequest, HttpServletResponse httpResponse, GitLabAuthorizerManager authorizerManager, GitLabAppInfo appInfo, GitLabClientPool clientPool)
     {
         super(httpRequest, httpResponse);
         this.authorizerManager = Objects.requireNonNull(authorizerManager);
         this.appInfo = appInfo;
+        this.clientPool = clientPool;
     }
 
     public void gitLabAuthCallback(String code)
@@ -59,7 +62,7 @@ public class GitLabUserContext extends UserContext
         return getGitLabAPI(false);
     }
 
-    public GitLabApi getGitLabAPI(boolean redirectAllowed)
+    public synchronized GitLabApi getGitLabAPI(boolean redirectAllowed)
     {
         if (this.api == null)
         {
@@ -100,12 +103,15 @@ public class GitLabUserContext extends UserContext
                 }
 
             }
-            this.api = new GitLabApi(ApiVersion.V4, this.appInfo.getServerInfo().getGitLabURLString(), token.getTokenType(), token.getToken());
+            String gitLabURL = this.appInfo.getServerInfo().getGitLabURLString();
+            this.api = (this.clientPool == null) ?
+                    new GitLabApi(ApiVersion.V4, gitLabURL, token.getTokenType(), token.getToken()) :
+                    this.clientPool.getGitLabApi(gitLabURL, token.getTokenType(), token.getToken());
         }
         return this.api;
     }
 
-    public boolean isUserAuthorized()
+    public synchronized boolean isUserAuthorized()
     {
         if (this.api == null)
         {
@@ -137,6 +143,11 @@ public class GitLabUserContext extends UserContext
     {
         this.api = null;
         GitLabSession gitLabSession = getGitLabSession();
+        GitLabToken token = gitLabSession.getGitLabToken();
+        if ((this.clientPool != null) && (token != null))
+        {
+            this.clientPool.invalidate(this.appInfo.getServerInfo().getGitLabURLString(), token.getTokenType(), token.getToken());
+        }
         gitLabSession.clearGitLabToken();
         LegendSDLCWebFilter.setSessionCookie(this.httpResponse, gitLabSession);
     }
@@ -16,16 +16,22 @@ package org.finos.legend.sdlc.server.guice;
 
 import com.google.inject.Binder;
 import com.google.inject.Provides;
+import com.google.inject.name.Names;
 import com.hubspot.dropwizard.guicier.DropwizardAwareModule;
 import org.finos.legend.sdlc.server.BaseLegendSDLCServer;
 import org.finos.legend.sdlc.server.BaseServer.ServerInfo;
 import org.finos.legend.sdlc.server.config.LegendSDLCServerConfiguration;
 import org.finos.legend.sdlc.server.config.LegendSDLCServerFeaturesConfiguration;
+import org.finos.legend.sdlc.server.depot.DepotClientPool;
 import org.finos.legend.sdlc.server.depot.DepotConfiguration;
+import org.finos.legend.sdlc.server.depot.DepotEntityCache;
 import org.finos.legend.sdlc.server.depot.auth.AuthClientInjector;
 import org.finos.legend.sdlc.server.domain.api.dependency.DependenciesApi;
 import org.finos.legend.sdlc.server.domain.api.dependency.DependenciesApiImpl;
+import org.finos.legend.sdlc.server.domain.api.dependency.DownstreamDependencyIndex;
 import org.finos.legend.sdlc.server.domain.api.test.TestModelBuilder;
+import org.finos.legend.sdlc.server.project.ProjectFileCache;
+import org.finos.legend.sdlc.server.project.PureModelContextDataCache;
 import org.finos.legend.sdlc.server.project.ProjectStructurePlatformExtensions;
 import org.finos.legend.sdlc.server.project.config.ProjectPlatformsConfiguration;
 import org.finos.legend.sdlc.server.project.config.ProjectStructureConfiguration;
@@ -146,6 +152,7 @@ import org.finos.legend.sdlc.server.tools.BackgroundTaskProcessor;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import javax.inject.Named;
 
 public abstract class AbstractBaseModule extends DropwizardAwareModule<LegendSDLCServerConfiguration>
@@ -171,9 +178,16 @@ public abstract class AbstractBaseModule extends DropwizardAwareModule<LegendSDL
         binder.bind(ProjectStructureExtensionProvider.class).toProvider(this::getProjectStructureExtensionProvider);
         binder.bind(DepotConfiguration.class).toProvider(this::getDepotConfiguration);
         binder.bind(AuthClientInjector.class).toProvider(this::getAuthClientInjector);
+        binder.bind(DepotClientPool.class).toProvider(this.server::getDepotClientPool);
+        binder.bind(DepotEntityCache.class).toProvider(this.server::getDepotEntityCache);
         binder.bind(ServerInfo.class).toProvider(this.server::getServerInfo);
         binder.bind(LegendSDLCServerFeaturesConfiguration.class).toProvider(this::getFeaturesConfiguration);
         binder.bind(BackgroundTaskProcessor.class).toProvider(this.server::getBackgroundTaskProcessor);
+        binder.bind(ProjectFileCache.class).toProvider(this.server::getProjectFileCache);
+        binder.bind(PureModelContextDataCache.class).toProvider(this.server::getPureModelContextDataCache);
+        binder.bind(DownstreamDependencyIndex.class).toProvider(this.server::getDownstreamDependencyIndex);
+        binder.bind(ExecutorService.class).annotatedWith(Names.named(DependenciesApiImpl.EXECUTOR_NAME)).toProvider(this.server::getDependencyResolutionExecutor);
+        binder.bind(ExecutorService.class).annotatedWith(Names.named(TestModelBuilder.EXECUTOR_NAME)).toProvider(this.server::getTestModelEntityFetchExecutor);
         binder.bind(ProjectStructurePlatformExtensions.class).toInstance(buildProjectStructurePlatformExtensions());
 
         bindResources(binder);
@@ -14,19 +14,29 @@
 
 package org.finos.legend.sdlc.server.project;
 
-import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.FileAccessContext;
 import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.ProjectFile;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
+/**
+ * A file access context which caches files from its delegate. Loading is done without holding any lock: concurrent
+ * requests for the same file (or for all files) share a single in-flight load, while requests for other files are
+ * not blocked.
+ */
 public class CachingFileAccessContext extends AbstractFileAccessContext
 {
     private final FileAccessContext delegate;
-    private final MutableMap<String, byte[]> cache = Maps.mutable.empty();
+    private final ConcurrentMutableMap<String, byte[]> cache = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<String, CompletableFuture<byte[]>> pendingFileLoads = ConcurrentHashMap.newMap();
+    private final AtomicReference<CompletableFuture<Void>> pendingCacheFill = new AtomicReference<>();
     private volatile boolean isCacheFull = false;
 
     private CachingFileAccessContext(FileAccessContext delegate)
@@ -62,42 +72,77 @@ public class CachingFileAccessContext extends AbstractFileAccessContext
     public ProjectFile getFile(String path)
     {
         String canonicalPath = canonicalizePath(path);
-        byte[] bytes;
-        if (this.isCacheFull)
+        byte[] bytes = this.cache.get(canonicalPath);
+        if ((bytes == null) && !this.isCacheFull)
         {
-            bytes = this.cache.get(canonicalPath);
+            bytes = loadFile(canonicalPath);
         }
-        else
+        return (bytes == null) ? null : ProjectFiles.newByteArrayProjectFile(canonicalPath, bytes);
+    }
+
+    public void fillCache()
+    {
+        while (!this.isCacheFull)
         {
-            synchronized (this.cache)
+            CompletableFuture<Void> inProgress = this.pendingCacheFill.get();
+            if (inProgress != null)
+            {
+                join(inProgress);
+            }
+            else
             {
-                bytes = this.cache.get(canonicalPath);
-                if ((bytes == null) && !this.isCacheFull)
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                if (this.pendingCacheFill.compareAndSet(null, future))
                 {
-                    ProjectFile file = this.delegate.getFile(canonicalPath);
-                    if (file != null)
+                    try (Stream<ProjectFile> stream = this.delegate.getFiles())
                     {
-                        bytes = file.getContentAsBytes();
-                        this.cache.put(canonicalPath, bytes);
+                        stream.forEach(pf -> this.cache.getIfAbsentPut(pf.getPath(), pf::getContentAsBytes));
+                        this.isCacheFull = true;
+                        future.complete(null);
+                    }
+                    catch (RuntimeException | Error e)
+                    {
+                        // allow a later attempt to retry
+                        this.pendingCacheFill.set(null);
+                        future.completeExceptionally(e);
+                        throw e;
                     }
                 }
             }
         }
-        return (bytes == null) ? null : ProjectFiles.newByteArrayProjectFile(canonicalPath, bytes);
     }
 
-    public void fillCache()
+    private byte[] loadFile(String canonicalPath)
     {
-        if (!this.isCacheFull)
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        CompletableFuture<byte[]> inProgress = this.pendingFileLoads.putIfAbsent(canonicalPath, future);
+        if (inProgress != null)
+        {
+            return join(inProgress);
+        }
+
+        try
         {
-            synchronized (this.cache)
+            byte[] bytes = this.cache.get(canonicalPath);
+            if ((bytes == null) && !this.isCacheFull)
             {
-                if (!this.isCacheFull)
+                ProjectFile file = this.delegate.getFile(canonicalPath);
+                if (file != null)
                 {
-                    this.delegate.getFiles().forEach(pf -> this.cache.getIfAbsentPut(pf.getPath(), pf::getContentAsBytes));
-                    this.isCacheFull = true;
+                    bytes = this.cache.getIfAbsentPut(canonicalPath, file::getContentAsBytes);
                 }
             }
+            future.complete(bytes);
+            return bytes;
+        }
+        catch (RuntimeException | Error e)
+        {
+            future.completeExceptionally(e);
+            throw e;
+        }
+        finally
+        {
+            this.pendingFileLoads.remove(canonicalPath, future);
         }
     }
 
@@ -114,6 +159,27 @@ public class CachingFileAccessContext extends AbstractFileAccessContext
         return new CachingFileAccessContext(fileAccessContext);
     }
 
+    private static <T> T join(CompletableFuture<T> future)
+    {
+        try
+        {
+            return future.join();
+        }
+        catch (CompletionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
     private static String canonicalizePath(String path)
     {
         int pathLength = path.length();
@@ -14,21 +14,35 @@
 
 package org.finos.legend.sdlc.server.project;
 
-import org.eclipse.collections.api.factory.Maps;
-import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.sdlc.domain.model.project.workspace.WorkspaceType;
+import org.finos.legend.sdlc.domain.model.revision.Revision;
+import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-class CachingProjectFileAccessProvider implements ProjectFileAccessProvider
+/**
+ * A project file access provider which serves the files of immutable project states (specific commits and versions)
+ * from a {@link ProjectFileCache}, which may be shared across many providers (and so across many requests).
+ */
+public class CachingProjectFileAccessProvider implements ProjectFileAccessProvider
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingProjectFileAccessProvider.class);
+
     private final ProjectFileAccessProvider delegate;
-    private final Map<CacheKey, CachingFileAccessContext> cache = Maps.mutable.empty();
+    private final ProjectFileCache cache;
+    private final Consumer<String> projectAccessValidator;
+    private final FileDeltaProvider fileDeltaProvider;
 
-    private CachingProjectFileAccessProvider(ProjectFileAccessProvider delegate)
+    private CachingProjectFileAccessProvider(ProjectFileAccessProvider delegate, ProjectFileCache cache, Consumer<String> projectAccessValidator, FileDeltaProvider fileDeltaProvider)
     {
         this.delegate = delegate;
+        this.cache = cache;
+        this.projectAccessValidator = projectAccessValidator;
+        this.fileDeltaProvider = fileDeltaProvider;
     }
 
     // File Access Context
@@ -36,44 +50,31 @@ class CachingProjectFileAccessProvider implements ProjectFileAccessProvider
     @Override
     public FileAccessContext getFileAccessContext(String projectId, String workspaceId, WorkspaceType workspaceType, WorkspaceAccessType workspaceAccessType, String revisionId)
     {
-        if (revisionId == null)
-        {
-            return this.delegate.getFileAccessContext(projectId, workspaceId, workspaceType, workspaceAccessType, null);
-        }
-
-        CacheKey cacheKey = getCacheKey(projectId, workspaceId, revisionId);
-        synchronized (this.cache)
+        if (revisionId != null)
         {
-            CachingFileAccessContext fileAccessContext = this.cache.get(cacheKey);
-            if (fileAccessContext == null)
+            // A commit can be accessed regardless of the workspace it was made in, so the workspace is not part of the cache key
+            FileAccessContext fileAccessContext = this.cache.getRevisionFileAccessContext(projectId, revisionId,
+                    () -> this.delegate.getFileAccessContext(projectId, workspaceId, workspaceType, workspaceAccessType, revisionId),
+                    getAccessValidator(projectId));
+            if (fileAccessContext != null)
             {
-                fileAccessContext = CachingFileAccessContext.wrap(this.delegate.getFileAccessContext(projectId, workspaceId, workspaceType, workspaceAccessType, revisionId));
-                if (fileAccessContext != null)
-                {
-                    this.cache.put(cacheKey, fileAccessContext);
-                }
+                return fileAccessContext;
             }
-            return fileAccessContext;
         }
+        else if ((this.fileDeltaProvider != null) && this.cache.isIncrementalWorkspaceLoadingEnabled())
+        {
+            return new CurrentRevisionFileAccessContext(projectId, workspaceId, workspaceType, workspaceAccessType);
+        }
+        return this.delegate.getFileAccessContext(projectId, workspaceId, workspaceType, workspaceAccessType, revisionId);
     }
 
     @Override
     public FileAccessContext getFileAccessContext(String projectId, VersionId versionId)
     {
-        CacheKey cacheKey = getCacheKey(projectId, versionId);
-        synchronized (this.cache)
-        {
-            CachingFileAccessContext fileAccessContext = this.cache.get(cacheKey);
-            if (fileAccessContext == null)
-            {
-                fileAccessContext = CachingFileAccessContext.wrap(this.delegate.getFileAccessContext(projectId, versionId));
-                if (fileAccessContext != null)
-                {
-                    this.cache.put(cacheKey, fileAccessContext);
-                }
-            }
-            return fileAccessContext;
-        }
+        FileAccessContext fileAccessContext = this.cache.getVersionFileAccessContext(projectId, versionId,
+                () -> this.delegate.getFileAccessContext(projectId, versionId),
+                getAccessValidator(projectId));
+        return (fileAccessContext == null) ? this.delegate.getFileAccessContext(projectId, versionId) : fileAccessContext;
     }
 
     // Revision Access Context
@@ -112,166 +113,156 @@ class CachingProjectFileAccessProvider implements ProjectFileAccessProvider
 
     public void clearCache()
     {
-        synchronized (this.cache)
-        {
-            this.cache.clear();
-        }
+        this.cache.invalidateAll();
     }
 
     public void clearCache(String projectId, String workspaceId, String revisionId)
     {
-        if (revisionId != null)
-        {
-            CacheKey cacheKey = getCacheKey(projectId, workspaceId, revisionId);
-            synchronized (this.cache)
-            {
-                this.cache.remove(cacheKey);
-            }
-        }
+        this.cache.invalidate(projectId, revisionId);
     }
 
     public void clearCache(String projectId, VersionId versionId)
     {
-        CacheKey cacheKey = getCacheKey(projectId, versionId);
-        synchronized (this.cache)
-        {
-            this.cache.remove(cacheKey);
-        }
+        this.cache.invalidate(projectId, versionId);
     }
 
-    private CacheKey getCacheKey(String projectId, String workspaceId, String revisionId)
+    private Runnable getAccessValidator(String projectId)
     {
-        return (workspaceId == null) ? new ProjectRevisionCacheKey(projectId, revisionId) : new ProjectWorkspaceRevisionCacheKey(projectId, workspaceId, revisionId);
+        return (this.projectAccessValidator == null) ? null : () -> this.projectAccessValidator.accept(projectId);
     }
 
-    private CacheKey getCacheKey(String projectId, VersionId versionId)
+    /**
+     * Wrap a project file access provider so that files for immutable project states are served from the given cache.
+     * As cached files may have been loaded on behalf of a different user, the project access validator is called
+     * before files are served from the cache; it should throw if the current user may not access the project.
+     *
+     * @param projectFileAccessProvider project file access provider
+     * @param cache                     project file cache
+     * @param projectAccessValidator    validator of access to a project by id (optional)
+     * @return caching project file access provider
+     */
+    public static ProjectFileAccessProvider wrap(ProjectFileAccessProvider projectFileAccessProvider, ProjectFileCache cache, Consumer<String> projectAccessValidator)
     {
-        return new ProjectVersionCacheKey(projectId, versionId);
+        return wrap(projectFileAccessProvider, cache, projectAccessValidator, null);
     }
 
-    static CachingProjectFileAccessProvider wrap(ProjectFileAccessProvider projectFileAccessProvider)
+    /**
+     * Wrap a project file access provider so that files for immutable project states are served from the given cache.
+     * If a file delta provider is supplied and the cache has incremental workspace loading enabled, the files for the
+     * current revision of a workspace are computed from those of an earlier cached revision where possible.
+     *
+     * @param projectFileAccessProvider project file access provider
+     * @param cache                     project file cache
+     * @param projectAccessValidator    validator of access to a project by id (optional)
+     * @param fileDeltaProvider         provider of changes between revisions (optional)
+     * @return caching project file access provider
+     */
+    public static ProjectFileAccessProvider wrap(ProjectFileAccessProvider projectFileAccessProvider, ProjectFileCache cache, Consumer<String> projectAccessValidator, FileDeltaProvider fileDeltaProvider)
     {
-        if (projectFileAccessProvider == null)
-        {
-            return null;
-        }
-        if (projectFileAccessProvider instanceof CachingProjectFileAccessProvider)
+        if ((projectFileAccessProvider == null) || (cache == null) || !cache.isEnabled() || (projectFileAccessProvider instanceof CachingProjectFileAccessProvider))
         {
-            return (CachingProjectFileAccessProvider)projectFileAccessProvider;
+            return projectFileAccessProvider;
         }
-        return new CachingProjectFileAccessProvider(projectFileAccessProvider);
+        return new CachingProjectFileAccessProvider(projectFileAccessProvider, cache, projectAccessValidator, fileDeltaProvider);
     }
 
-    private interface CacheKey
+    public interface FileDeltaProvider
     {
+        /**
+         * Get the changes to the files of a project from one revision to another, or null if they cannot be computed
+         * (e.g., if there are too many changes for this to be worthwhile).
+         *
+         * @param projectId      project id
+         * @param fromRevisionId revision id to compute changes from
+         * @param toRevisionId   revision id to compute changes to
+         * @return file delta or null
+         */
+        ProjectFileCache.FileDelta getFileDelta(String projectId, String fromRevisionId, String toRevisionId);
     }
 
-    private static class ProjectRevisionCacheKey implements CacheKey
+    /**
+     * File access context for the current revision of a workspace (or project). When all files are requested, the
+     * current revision is resolved and the files are served from the cache, possibly computed incrementally from
+     * an earlier revision. Single file access goes directly to the delegate.
+     */
+    private class CurrentRevisionFileAccessContext extends AbstractFileAccessContext implements ProjectEntityIndex.IndexedFileAccessContext
     {
         private final String projectId;
-        private final String revisionId;
+        private final String workspaceId;
+        private final WorkspaceType workspaceType;
+        private final WorkspaceAccessType workspaceAccessType;
+        private FileAccessContext currentDelegate;
+        private FileAccessContext cachedContext;
 
-        private ProjectRevisionCacheKey(String projectId, String revisionId)
+        private CurrentRevisionFileAccessContext(String projectId, String workspaceId, WorkspaceType workspaceType, WorkspaceAccessType workspaceAccessType)
         {
             this.projectId = projectId;
-            this.revisionId = revisionId;
+            this.workspaceId = workspaceId;
+            this.workspaceType = workspaceType;
+            this.workspaceAccessType = workspaceAccessType;
         }
 
         @Override
-        public boolean equals(Object other)
+        protected Stream<ProjectFile> getFilesInCanonicalDirectories(MutableList<String> directories)
         {
-            if (this == other)
-            {
-                return true;
-            }
-
-            if ((other == null) || (this.getClass() != other.getClass()))
-            {
-                return false;
-            }
-
-            ProjectRevisionCacheKey that = (ProjectRevisionCacheKey)other;
-            return Objects.equals(this.projectId, that.projectId) && Objects.equals(this.revisionId, that.revisionId);
+            return getCachedContext().getFilesInDirectories(directories);
         }
 
         @Override
-        public int hashCode()
+        public ProjectFile getFile(String path)
         {
-            return Objects.hashCode(this.projectId) + 43 * Objects.hashCode(this.revisionId);
+            return getCurrentDelegate().getFile(path);
         }
-    }
-
-    private static class ProjectWorkspaceRevisionCacheKey implements CacheKey
-    {
-        private final String projectId;
-        private final String workspaceId;
-        private final String revisionId;
 
-        private ProjectWorkspaceRevisionCacheKey(String projectId, String workspaceId, String revisionId)
+        @Override
+        public boolean fileExists(String path)
         {
-            this.projectId = projectId;
-            this.workspaceId = workspaceId;
-            this.revisionId = revisionId;
+            return getCurrentDelegate().fileExists(path);
         }
 
         @Override
-        public boolean equals(Object other)
+        public ProjectEntityIndex getEntityIndex()
         {
-            if (this == other)
-            {
-                return true;
-            }
-
-            if ((other == null) || (this.getClass() != other.getClass()))
-            {
-                return false;
-            }
-
-            ProjectWorkspaceRevisionCacheKey that = (ProjectWorkspaceRevisionCacheKey)other;
-            return Objects.equals(this.projectId, that.projectId) &&
-                    Objects.equals(this.workspaceId, that.workspaceId) &&
-                    Objects.equals(this.revisionId, that.revisionId);
+            return ProjectEntityIndex.getEntityIndex(getCachedContext());
         }
 
-        @Override
-        public int hashCode()
+        private synchronized FileAccessContext getCurrentDelegate()
         {
-            return Objects.hashCode(this.projectId) + 17 * (Objects.hashCode(this.workspaceId) + 17 * Objects.hashCode(this.revisionId));
+            if (this.currentDelegate == null)
+            {
+                this.currentDelegate = CachingProjectFileAccessProvider.this.delegate.getFileAccessContext(this.projectId, this.workspaceId, this.workspaceType, this.workspaceAccessType, null);
+            }
+            return this.currentDelegate;
         }
-    }
-
-    private static class ProjectVersionCacheKey implements CacheKey
-    {
-        private final String projectId;
-        private final VersionId versionId;
 
-        private ProjectVersionCacheKey(String projectId, VersionId versionId)
+        private synchronized FileAccessContext getCachedContext()
         {
-            this.projectId = projectId;
-            this.versionId = versionId;
+            if (this.cachedContext == null)
+            {
+                String revisionId = getCurrentRevisionId();
+                FileAccessContext fileAccessContext = (revisionId == null) ? null : CachingProjectFileAccessProvider.this.cache.getWorkspaceRevisionFileAccessContext(
+                        this.projectId, this.workspaceId, this.workspaceType, this.workspaceAccessType, revisionId,
+                        () -> CachingProjectFileAccessProvider.this.delegate.getFileAccessContext(this.projectId, this.workspaceId, this.workspaceType, this.workspaceAccessType, revisionId),
+                        previousRevisionId -> CachingProjectFileAccessProvider.this.fileDeltaProvider.getFileDelta(this.projectId, previousRevisionId, revisionId),
+                        getAccessValidator(this.projectId));
+                this.cachedContext = (fileAccessContext == null) ? getCurrentDelegate() : fileAccessContext;
+            }
+            return this.cachedContext;
         }
 
-        @Override
-        public boolean equals(Object other)
+        private String getCurrentRevisionId()
         {
-            if (this == other)
+            try
             {
-                return true;
+                Revision revision = CachingProjectFileAccessProvider.this.delegate.getRevisionAccessContext(this.projectId, this.workspaceId, this.workspaceType, this.workspaceAccessType, (Iterable<? extends String>) null).getCurrentRevision();
+                return (revision == null) ? null : revision.getId();
             }
-
-            if ((other == null) || (this.getClass() != other.getClass()))
+            catch (Exception e)
             {
-                return false;
+                // fall back to the delegate, which will report any real problem accessing the files
+                LOGGER.debug("Failed to get current revision for project {} (workspace: {})", this.projectId, this.workspaceId, e);
+                return null;
             }
-
-            ProjectVersionCacheKey that = (ProjectVersionCacheKey)other;
-            return Objects.equals(this.projectId, that.projectId) && Objects.equals(this.versionId, that.versionId);
-        }
-
-        @Override
-        public int hashCode()
-        {
-            return Objects.hashCode(this.projectId) + 41 * Objects.hashCode(this.versionId);
         }
     }
 }
@@ -0,0 +1,211 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.project;
+
+import org.apache.commons.codec.binary.Hex;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.sdlc.serialization.EntityHeader;
+import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.FileAccessContext;
+import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.ProjectFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.stream.Stream;
+
+/**
+ * Index of the entities of an immutable project state. For each entity file, the index records the entity path,
+ * classifier path, package, file path, size, and a hash of the content, so that entity listings and classifier
+ * filters can be answered without deserializing entity files. Indexes are built from the header of each entity file
+ * (see {@link EntityHeader}), and are held alongside the files in the {@link ProjectFileCache}.
+ */
+public class ProjectEntityIndex
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProjectEntityIndex.class);
+
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+
+    private final ImmutableList<Entry> entries;
+
+    private ProjectEntityIndex(ImmutableList<Entry> entries)
+    {
+        this.entries = entries;
+    }
+
+    public ImmutableList<Entry> getEntries()
+    {
+        return this.entries;
+    }
+
+    public int size()
+    {
+        return this.entries.size();
+    }
+
+    /**
+     * Build an index of the entities accessible from a file access context. Entity files whose header cannot be read
+     * are still indexed, but without header information.
+     *
+     * @param fileAccessContext file access context
+     * @return entity index
+     */
+    public static ProjectEntityIndex build(FileAccessContext fileAccessContext)
+    {
+        MutableList<Entry> entries = Lists.mutable.empty();
+        MessageDigest messageDigest = newMessageDigest();
+        ProjectStructure projectStructure = ProjectStructure.getProjectStructure(fileAccessContext);
+        for (ProjectStructure.EntitySourceDirectory sourceDirectory : projectStructure.getEntitySourceDirectories())
+        {
+            try (Stream<ProjectFile> stream = fileAccessContext.getFilesInDirectory(sourceDirectory.getDirectory()))
+            {
+                stream.filter(f -> sourceDirectory.isPossiblyEntityFilePath(f.getPath()))
+                        .forEach(f -> entries.add(newEntry(sourceDirectory, f.getPath(), f.getContentAsBytes(), messageDigest)));
+            }
+        }
+        return new ProjectEntityIndex(entries.toImmutable());
+    }
+
+    /**
+     * Get the entity index for a file access context, if it has one. Returns null if the file access context does not
+     * provide an index.
+     *
+     * @param fileAccessContext file access context
+     * @return entity index or null
+     */
+    public static ProjectEntityIndex getEntityIndex(FileAccessContext fileAccessContext)
+    {
+        return (fileAccessContext instanceof IndexedFileAccessContext) ? ((IndexedFileAccessContext) fileAccessContext).getEntityIndex() : null;
+    }
+
+    private static Entry newEntry(ProjectStructure.EntitySourceDirectory sourceDirectory, String filePath, byte[] content, MessageDigest messageDigest)
+    {
+        EntityHeader header;
+        try
+        {
+            header = sourceDirectory.getSerializer().deserializeHeader(content);
+        }
+        catch (Exception e)
+        {
+            LOGGER.debug("Error reading entity header from {}", filePath, e);
+            header = null;
+        }
+        String contentHash = Hex.encodeHexString(messageDigest.digest(content));
+        return new Entry(sourceDirectory, filePath, sourceDirectory.filePathToEntityPath(filePath), header, content, contentHash);
+    }
+
+    private static MessageDigest newMessageDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            // SHA-256 is required to be supported by every Java platform
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static class Entry
+    {
+        private final ProjectStructure.EntitySourceDirectory sourceDirectory;
+        private final String filePath;
+        private final String entityPath;
+        private final EntityHeader header;
+        private final byte[] content;
+        private final String contentHash;
+
+        private Entry(ProjectStructure.EntitySourceDirectory sourceDirectory, String filePath, String entityPath, EntityHeader header, byte[] content, String contentHash)
+        {
+            this.sourceDirectory = sourceDirectory;
+            this.filePath = filePath;
+            this.entityPath = entityPath;
+            this.header = header;
+            this.content = content;
+            this.contentHash = contentHash;
+        }
+
+        public ProjectStructure.EntitySourceDirectory getSourceDirectory()
+        {
+            return this.sourceDirectory;
+        }
+
+        public String getFilePath()
+        {
+            return this.filePath;
+        }
+
+        /**
+         * Get the entity path, as computed from the file path.
+         *
+         * @return entity path
+         */
+        public String getEntityPath()
+        {
+            return this.entityPath;
+        }
+
+        /**
+         * Get the entity header read from the file, or null if it could not be read.
+         *
+         * @return entity header or null
+         */
+        public EntityHeader getHeader()
+        {
+            return this.header;
+        }
+
+        public String getClassifierPath()
+        {
+            return (this.header == null) ? null : this.header.getClassifierPath();
+        }
+
+        public String getPackage()
+        {
+            return (this.header == null) ? null : this.header.getPackage();
+        }
+
+        public long getSize()
+        {
+            return this.content.length;
+        }
+
+        public String getContentHash()
+        {
+            return this.contentHash;
+        }
+
+        public ProjectFile getFile()
+        {
+            return ProjectFiles.newByteArrayProjectFile(this.filePath, this.content);
+        }
+    }
+
+    /**
+     * A file access context which can provide an entity index for its files.
+     */
+    public interface IndexedFileAccessContext extends FileAccessContext
+    {
+        /**
+         * Get the entity index for the files of this context, or null if no index is available.
+         *
+         * @return entity index or null
+         */
+        ProjectEntityIndex getEntityIndex();
+    }
+}
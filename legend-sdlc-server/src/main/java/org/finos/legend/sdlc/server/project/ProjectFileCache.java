@@ -0,0 +1,724 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.project;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.sdlc.domain.model.project.workspace.WorkspaceType;
+import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.server.monitoring.SDLCMetricsHandler;
+import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.FileAccessContext;
+import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.WorkspaceAccessType;
+import org.finos.legend.sdlc.server.project.config.ProjectFileCacheConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Server-wide cache of the files of immutable project states, i.e., specific commits (identified by full commit id)
+ * and versions. Entries are evicted based on both the number of entries and the total size of the cached file
+ * content. The cache may optionally be backed by a {@link ProjectSnapshotStore}, which is consulted before loading
+ * files from the underlying file access context. A {@link ProjectEntityIndex} for each cached state is built on first
+ * use and held with its files.
+ */
+public class ProjectFileCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProjectFileCache.class);
+
+    private static final String HIT_METRIC = "project file cache hits";
+    private static final String MISS_METRIC = "project file cache misses";
+    private static final String EVICTION_METRIC = "project file cache evictions";
+    private static final String INCREMENTAL_LOAD_METRIC = "project file cache incremental loads";
+
+    private static final long MAX_WORKSPACE_REVISIONS = 10_000L;
+
+    private static final Pattern COMMIT_ID_PATTERN = Pattern.compile("[0-9a-fA-F]{40}+");
+
+    private final Cache<CacheKey, CachedFiles> cache;
+    private final ProjectSnapshotStore snapshotStore;
+    private final Cache<WorkspaceKey, String> workspaceRevisions;
+
+    private ProjectFileCache(ProjectFileCacheConfiguration configuration)
+    {
+        this.cache = configuration.isEnabled() ? buildCache(configuration) : null;
+        this.snapshotStore = (configuration.isEnabled() && (configuration.getSnapshotStore() != null)) ? ProjectSnapshotStore.newStore(configuration.getSnapshotStore()) : null;
+        this.workspaceRevisions = (configuration.isEnabled() && configuration.isIncrementalWorkspaceLoading()) ? CacheBuilder.newBuilder().maximumSize(MAX_WORKSPACE_REVISIONS).build() : null;
+    }
+
+    public boolean isEnabled()
+    {
+        return this.cache != null;
+    }
+
+    /**
+     * Whether the files for the current revision of a workspace may be computed from those of a previous revision of
+     * the workspace together with the changes between the two.
+     *
+     * @return whether incremental workspace loading is enabled
+     */
+    public boolean isIncrementalWorkspaceLoadingEnabled()
+    {
+        return this.workspaceRevisions != null;
+    }
+
+    /**
+     * Get a file access context for a particular revision of a project, backed by this cache. If the revision id is
+     * not a full commit id (and so may not identify an immutable state of the project), null is returned.
+     *
+     * @param projectId       project id
+     * @param revisionId      revision id
+     * @param delegate        supplier of the underlying file access context
+     * @param accessValidator validates that the current user may access the project when files are served from cache
+     * @return caching file access context or null
+     */
+    public FileAccessContext getRevisionFileAccessContext(String projectId, String revisionId, Supplier<? extends FileAccessContext> delegate, Runnable accessValidator)
+    {
+        if (!isEnabled() || !isCommitId(revisionId))
+        {
+            return null;
+        }
+        return new SharedCacheFileAccessContext(new ProjectRevisionCacheKey(projectId, revisionId.toLowerCase()), delegate, accessValidator, null, null);
+    }
+
+    /**
+     * Get a file access context for the current revision of a workspace (or of the project, if workspaceId is null),
+     * backed by this cache. If incremental workspace loading is enabled and files for an earlier revision of the same
+     * workspace are still cached, the files are computed from those and the delta supplied by fileDeltaLoader (given
+     * the earlier revision id). If the delta cannot be computed (fileDeltaLoader returns null), the files are loaded
+     * from the delegate. Files computed from a delta are never written to the snapshot store. If the revision id is
+     * not a full commit id, null is returned.
+     *
+     * @param projectId           project id
+     * @param workspaceId         workspace id (optional)
+     * @param workspaceType       workspace type
+     * @param workspaceAccessType workspace access type
+     * @param revisionId          current revision id of the workspace
+     * @param delegate            supplier of the underlying file access context for the revision
+     * @param fileDeltaLoader     loader of the changes from an earlier revision to the current one
+     * @param accessValidator     validates that the current user may access the project when files are served from cache
+     * @return caching file access context or null
+     */
+    public FileAccessContext getWorkspaceRevisionFileAccessContext(String projectId, String workspaceId, WorkspaceType workspaceType, WorkspaceAccessType workspaceAccessType, String revisionId,
+                                                                   Supplier<? extends FileAccessContext> delegate, Function<? super String, ? extends FileDelta> fileDeltaLoader, Runnable accessValidator)
+    {
+        if (!isEnabled() || !isCommitId(revisionId))
+        {
+            return null;
+        }
+        WorkspaceKey workspaceKey = isIncrementalWorkspaceLoadingEnabled() ? new WorkspaceKey(projectId, workspaceId, workspaceType, workspaceAccessType) : null;
+        return new SharedCacheFileAccessContext(new ProjectRevisionCacheKey(projectId, revisionId.toLowerCase()), delegate, accessValidator, workspaceKey, fileDeltaLoader);
+    }
+
+    /**
+     * Get a file access context for a version of a project, backed by this cache.
+     *
+     * @param projectId       project id
+     * @param versionId       version id
+     * @param delegate        supplier of the underlying file access context
+     * @param accessValidator validates that the current user may access the project when files are served from cache
+     * @return caching file access context or null
+     */
+    public FileAccessContext getVersionFileAccessContext(String projectId, VersionId versionId, Supplier<? extends FileAccessContext> delegate, Runnable accessValidator)
+    {
+        if (!isEnabled())
+        {
+            return null;
+        }
+        return new SharedCacheFileAccessContext(new ProjectVersionCacheKey(projectId, versionId), delegate, accessValidator, null, null);
+    }
+
+    public void invalidate(String projectId, String revisionId)
+    {
+        if (isEnabled() && isCommitId(revisionId))
+        {
+            this.cache.invalidate(new ProjectRevisionCacheKey(projectId, revisionId.toLowerCase()));
+        }
+    }
+
+    public void invalidate(String projectId, VersionId versionId)
+    {
+        if (isEnabled())
+        {
+            this.cache.invalidate(new ProjectVersionCacheKey(projectId, versionId));
+        }
+    }
+
+    public void invalidateAll()
+    {
+        if (isEnabled())
+        {
+            this.cache.invalidateAll();
+        }
+        if (isIncrementalWorkspaceLoadingEnabled())
+        {
+            this.workspaceRevisions.invalidateAll();
+        }
+    }
+
+    public long size()
+    {
+        return isEnabled() ? this.cache.size() : 0L;
+    }
+
+    public static ProjectFileCache newCache(ProjectFileCacheConfiguration configuration)
+    {
+        return new ProjectFileCache((configuration == null) ? ProjectFileCacheConfiguration.defaultConfiguration() : configuration);
+    }
+
+    public static ProjectFileCache disabledCache()
+    {
+        return new ProjectFileCache(ProjectFileCacheConfiguration.disabledConfiguration());
+    }
+
+    static boolean isCommitId(String revisionId)
+    {
+        return (revisionId != null) && COMMIT_ID_PATTERN.matcher(revisionId).matches();
+    }
+
+    private static Cache<CacheKey, CachedFiles> buildCache(ProjectFileCacheConfiguration configuration)
+    {
+        long maxEntries = configuration.getMaxEntries();
+        long maxSizeBytes = configuration.getMaxSizeBytes();
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().removalListener(ProjectFileCache::onRemoval);
+        if (maxSizeBytes > 0)
+        {
+            // Guava does not allow both a maximum size and a maximum weight. To bound the number of entries as well as
+            // the total size, every entry is given a minimum weight of maxSizeBytes / maxEntries, so that no more than
+            // maxEntries can ever be held at once.
+            long minWeight = (maxEntries > 0) ? Math.max(1L, (maxSizeBytes + maxEntries - 1) / maxEntries) : 0L;
+            builder.maximumWeight(maxSizeBytes).weigher((CacheKey key, CachedFiles value) -> (int) Math.min(Integer.MAX_VALUE, Math.max(minWeight, value.getSize())));
+        }
+        else if (maxEntries > 0)
+        {
+            builder.maximumSize(maxEntries);
+        }
+        Long expireAfterAccessSeconds = configuration.getExpireAfterAccessSeconds();
+        if (expireAfterAccessSeconds != null)
+        {
+            builder.expireAfterAccess(expireAfterAccessSeconds, TimeUnit.SECONDS);
+        }
+        return builder.build();
+    }
+
+    private static void onRemoval(RemovalNotification<Object, Object> notification)
+    {
+        if (notification.wasEvicted())
+        {
+            LOGGER.debug("Evicted {} from project file cache ({})", notification.getKey(), notification.getCause());
+            SDLCMetricsHandler.incrementCounter(EVICTION_METRIC);
+        }
+    }
+
+    private class SharedCacheFileAccessContext extends AbstractFileAccessContext implements ProjectEntityIndex.IndexedFileAccessContext
+    {
+        private final CacheKey cacheKey;
+        private final Supplier<? extends FileAccessContext> delegateSupplier;
+        private final Runnable accessValidator;
+        private final WorkspaceKey workspaceKey;
+        private final Function<? super String, ? extends FileDelta> fileDeltaLoader;
+        private FileAccessContext delegate;
+        private boolean accessValidated = false;
+
+        private SharedCacheFileAccessContext(CacheKey cacheKey, Supplier<? extends FileAccessContext> delegateSupplier, Runnable accessValidator, WorkspaceKey workspaceKey, Function<? super String, ? extends FileDelta> fileDeltaLoader)
+        {
+            this.cacheKey = cacheKey;
+            this.delegateSupplier = delegateSupplier;
+            this.accessValidator = accessValidator;
+            this.workspaceKey = workspaceKey;
+            this.fileDeltaLoader = fileDeltaLoader;
+        }
+
+        @Override
+        protected Stream<ProjectFileAccessProvider.ProjectFile> getFilesInCanonicalDirectories(MutableList<String> directories)
+        {
+            return getCachedFiles().getFilesInCanonicalDirectories(directories);
+        }
+
+        @Override
+        public ProjectFileAccessProvider.ProjectFile getFile(String path)
+        {
+            CachedFiles cachedFiles = getCachedFilesIfPresent();
+            return (cachedFiles == null) ? getDelegate().getFile(path) : cachedFiles.getFile(path);
+        }
+
+        @Override
+        public boolean fileExists(String path)
+        {
+            CachedFiles cachedFiles = getCachedFilesIfPresent();
+            return (cachedFiles == null) ? getDelegate().fileExists(path) : (cachedFiles.getFile(path) != null);
+        }
+
+        @Override
+        public ProjectEntityIndex getEntityIndex()
+        {
+            return getCachedFiles().getEntityIndex();
+        }
+
+        private CachedFiles getCachedFilesIfPresent()
+        {
+            CachedFiles cachedFiles = ProjectFileCache.this.cache.getIfPresent(this.cacheKey);
+            if (cachedFiles != null)
+            {
+                validateAccess();
+            }
+            return cachedFiles;
+        }
+
+        private CachedFiles getCachedFiles()
+        {
+            boolean[] loaded = {false};
+            boolean[] loadedFromDelegate = {false};
+            CachedFiles cachedFiles;
+            try
+            {
+                cachedFiles = ProjectFileCache.this.cache.get(this.cacheKey, () ->
+                {
+                    loaded[0] = true;
+                    ProjectSnapshotStore store = ProjectFileCache.this.snapshotStore;
+                    if (store != null)
+                    {
+                        MutableMap<String, byte[]> snapshot = this.cacheKey.readSnapshot(store);
+                        if (snapshot != null)
+                        {
+                            return CachedFiles.newCachedFiles(snapshot);
+                        }
+                    }
+                    loadedFromDelegate[0] = true;
+                    CachedFiles files = loadFromPreviousWorkspaceRevision();
+                    if (files != null)
+                    {
+                        // files computed from a delta are not persisted, so any error in the delta cannot outlive
+                        // the in-memory cache entry
+                        return files;
+                    }
+                    files = CachedFiles.load(getDelegate());
+                    if (store != null)
+                    {
+                        this.cacheKey.writeSnapshot(store, files.files);
+                    }
+                    return files;
+                });
+            }
+            catch (ExecutionException | UncheckedExecutionException | ExecutionError e)
+            {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException)
+                {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error)
+                {
+                    throw (Error) cause;
+                }
+                throw new RuntimeException(cause);
+            }
+            SDLCMetricsHandler.incrementCounter(loaded[0] ? MISS_METRIC : HIT_METRIC);
+            if (this.workspaceKey != null)
+            {
+                ProjectFileCache.this.workspaceRevisions.put(this.workspaceKey, ((ProjectRevisionCacheKey) this.cacheKey).revisionId);
+            }
+            if (loadedFromDelegate[0])
+            {
+                // files were loaded using the current user's access, so no further validation is required
+                this.accessValidated = true;
+            }
+            else
+            {
+                validateAccess();
+            }
+            return cachedFiles;
+        }
+
+        private CachedFiles loadFromPreviousWorkspaceRevision()
+        {
+            if ((this.workspaceKey == null) || (this.fileDeltaLoader == null))
+            {
+                return null;
+            }
+            String revisionId = ((ProjectRevisionCacheKey) this.cacheKey).revisionId;
+            String previousRevisionId = ProjectFileCache.this.workspaceRevisions.getIfPresent(this.workspaceKey);
+            if ((previousRevisionId == null) || previousRevisionId.equals(revisionId))
+            {
+                return null;
+            }
+            CachedFiles previousFiles = ProjectFileCache.this.cache.getIfPresent(new ProjectRevisionCacheKey(this.workspaceKey.projectId, previousRevisionId));
+            if (previousFiles == null)
+            {
+                return null;
+            }
+            FileDelta delta = this.fileDeltaLoader.apply(previousRevisionId);
+            if (delta == null)
+            {
+                return null;
+            }
+            LOGGER.debug("Computing files for {} from revision {} with {} deleted and {} changed files", this.cacheKey, previousRevisionId, delta.deletedPaths.size(), delta.changedFiles.size());
+            SDLCMetricsHandler.incrementCounter(INCREMENTAL_LOAD_METRIC);
+            return previousFiles.applyDelta(delta);
+        }
+
+        private synchronized void validateAccess()
+        {
+            if (!this.accessValidated)
+            {
+                if (this.accessValidator != null)
+                {
+                    this.accessValidator.run();
+                }
+                this.accessValidated = true;
+            }
+        }
+
+        private synchronized FileAccessContext getDelegate()
+        {
+            if (this.delegate == null)
+            {
+                this.delegate = this.delegateSupplier.get();
+            }
+            return this.delegate;
+        }
+    }
+
+    private static class CachedFiles
+    {
+        private final MutableMap<String, byte[]> files;
+        private final long size;
+        private volatile ProjectEntityIndex entityIndex;
+
+        private CachedFiles(MutableMap<String, byte[]> files, long size)
+        {
+            this.files = files;
+            this.size = size;
+        }
+
+        long getSize()
+        {
+            return this.size;
+        }
+
+        ProjectEntityIndex getEntityIndex()
+        {
+            ProjectEntityIndex index = this.entityIndex;
+            if (index == null)
+            {
+                synchronized (this)
+                {
+                    index = this.entityIndex;
+                    if (index == null)
+                    {
+                        this.entityIndex = index = ProjectEntityIndex.build(new AbstractFileAccessContext()
+                        {
+                            @Override
+                            protected Stream<ProjectFileAccessProvider.ProjectFile> getFilesInCanonicalDirectories(MutableList<String> directories)
+                            {
+                                return CachedFiles.this.getFilesInCanonicalDirectories(directories);
+                            }
+
+                            @Override
+                            public ProjectFileAccessProvider.ProjectFile getFile(String path)
+                            {
+                                return CachedFiles.this.getFile(path);
+                            }
+
+                            @Override
+                            public boolean fileExists(String path)
+                            {
+                                return CachedFiles.this.getFile(path) != null;
+                            }
+                        });
+                    }
+                }
+            }
+            return index;
+        }
+
+        ProjectFileAccessProvider.ProjectFile getFile(String path)
+        {
+            String canonicalPath = ProjectPaths.canonicalizeFile(path);
+            byte[] bytes = this.files.get(canonicalPath);
+            return (bytes == null) ? null : ProjectFiles.newByteArrayProjectFile(canonicalPath, bytes);
+        }
+
+        Stream<ProjectFileAccessProvider.ProjectFile> getFilesInCanonicalDirectories(MutableList<String> directories)
+        {
+            Stream<Map.Entry<String, byte[]>> stream = this.files.entrySet().stream();
+            if (directories.size() == 1)
+            {
+                String directory = directories.get(0);
+                if (!ProjectPaths.ROOT_DIRECTORY.equals(directory))
+                {
+                    stream = stream.filter(f -> f.getKey().startsWith(directory));
+                }
+            }
+            else
+            {
+                stream = stream.filter(f ->
+                {
+                    String path = f.getKey();
+                    return directories.anySatisfy(path::startsWith);
+                });
+            }
+            return stream.map(e -> ProjectFiles.newByteArrayProjectFile(e.getKey(), e.getValue()));
+        }
+
+        static CachedFiles load(FileAccessContext fileAccessContext)
+        {
+            MutableMap<String, byte[]> files = Maps.mutable.empty();
+            try (Stream<ProjectFileAccessProvider.ProjectFile> stream = fileAccessContext.getFiles())
+            {
+                stream.forEach(file -> files.put(file.getPath(), file.getContentAsBytes()));
+            }
+            return newCachedFiles(files);
+        }
+
+        CachedFiles applyDelta(FileDelta delta)
+        {
+            MutableMap<String, byte[]> newFiles = Maps.mutable.empty();
+            newFiles.putAll(this.files);
+            delta.deletedPaths.forEach(newFiles::remove);
+            newFiles.putAll(delta.changedFiles);
+            return newCachedFiles(newFiles);
+        }
+
+        static CachedFiles newCachedFiles(MutableMap<String, byte[]> files)
+        {
+            return new CachedFiles(files.asUnmodifiable(), files.sumOfLong(bytes -> bytes.length));
+        }
+    }
+
+    /**
+     * The changes to the files of a project between two revisions.
+     */
+    public static class FileDelta
+    {
+        private final MutableSet<String> deletedPaths;
+        private final MutableMap<String, byte[]> changedFiles;
+
+        private FileDelta(MutableSet<String> deletedPaths, MutableMap<String, byte[]> changedFiles)
+        {
+            this.deletedPaths = deletedPaths;
+            this.changedFiles = changedFiles;
+        }
+
+        /**
+         * Canonical paths of deleted files.
+         *
+         * @return deleted paths
+         */
+        public SetIterable<String> getDeletedPaths()
+        {
+            return this.deletedPaths.asUnmodifiable();
+        }
+
+        /**
+         * Content of added or modified files by canonical path.
+         *
+         * @return changed files
+         */
+        public MapIterable<String, byte[]> getChangedFiles()
+        {
+            return this.changedFiles.asUnmodifiable();
+        }
+
+        /**
+         * Create a new file delta. Changed files are those which were added or modified (including the new path for a
+         * renamed file), while deleted paths include the old path for a renamed file.
+         *
+         * @param deletedPaths paths of deleted files
+         * @param changedFiles added or modified files
+         * @return file delta
+         */
+        public static FileDelta newFileDelta(Iterable<? extends String> deletedPaths, Iterable<? extends ProjectFileAccessProvider.ProjectFile> changedFiles)
+        {
+            MutableSet<String> canonicalDeletedPaths = Sets.mutable.empty();
+            deletedPaths.forEach(p -> canonicalDeletedPaths.add(ProjectPaths.canonicalizeFile(p)));
+            MutableMap<String, byte[]> canonicalChangedFiles = Maps.mutable.empty();
+            changedFiles.forEach(f -> canonicalChangedFiles.put(ProjectPaths.canonicalizeFile(f.getPath()), f.getContentAsBytes()));
+            return new FileDelta(canonicalDeletedPaths, canonicalChangedFiles);
+        }
+    }
+
+    private interface CacheKey
+    {
+        MutableMap<String, byte[]> readSnapshot(ProjectSnapshotStore store);
+
+        void writeSnapshot(ProjectSnapshotStore store, MapIterable<String, byte[]> files);
+    }
+
+    private static class WorkspaceKey
+    {
+        private final String projectId;
+        private final String workspaceId;
+        private final WorkspaceType workspaceType;
+        private final WorkspaceAccessType workspaceAccessType;
+
+        private WorkspaceKey(String projectId, String workspaceId, WorkspaceType workspaceType, WorkspaceAccessType workspaceAccessType)
+        {
+            this.projectId = projectId;
+            this.workspaceId = workspaceId;
+            this.workspaceType = (workspaceId == null) ? null : workspaceType;
+            this.workspaceAccessType = (workspaceId == null) ? null : workspaceAccessType;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+
+            if ((other == null) || (this.getClass() != other.getClass()))
+            {
+                return false;
+            }
+
+            WorkspaceKey that = (WorkspaceKey) other;
+            return Objects.equals(this.projectId, that.projectId) &&
+                    Objects.equals(this.workspaceId, that.workspaceId) &&
+                    (this.workspaceType == that.workspaceType) &&
+                    (this.workspaceAccessType == that.workspaceAccessType);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(this.projectId, this.workspaceId, this.workspaceType, this.workspaceAccessType);
+        }
+    }
+
+    private static class ProjectRevisionCacheKey implements CacheKey
+    {
+        private final String projectId;
+        private final String revisionId;
+
+        private ProjectRevisionCacheKey(String projectId, String revisionId)
+        {
+            this.projectId = projectId;
+            this.revisionId = revisionId;
+        }
+
+        @Override
+        public MutableMap<String, byte[]> readSnapshot(ProjectSnapshotStore store)
+        {
+            return store.readRevision(this.projectId, this.revisionId);
+        }
+
+        @Override
+        public void writeSnapshot(ProjectSnapshotStore store, MapIterable<String, byte[]> files)
+        {
+            store.writeRevision(this.projectId, this.revisionId, files);
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+
+            if ((other == null) || (this.getClass() != other.getClass()))
+            {
+                return false;
+            }
+
+            ProjectRevisionCacheKey that = (ProjectRevisionCacheKey) other;
+            return Objects.equals(this.projectId, that.projectId) && Objects.equals(this.revisionId, that.revisionId);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(this.projectId) + 43 * Objects.hashCode(this.revisionId);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "<revision " + this.revisionId + " of project " + this.projectId + ">";
+        }
+    }
+
+    private static class ProjectVersionCacheKey implements CacheKey
+    {
+        private final String projectId;
+        private final VersionId versionId;
+
+        private ProjectVersionCacheKey(String projectId, VersionId versionId)
+        {
+            this.projectId = projectId;
+            this.versionId = versionId;
+        }
+
+        @Override
+        public MutableMap<String, byte[]> readSnapshot(ProjectSnapshotStore store)
+        {
+            return store.readVersion(this.projectId, this.versionId);
+        }
+
+        @Override
+        public void writeSnapshot(ProjectSnapshotStore store, MapIterable<String, byte[]> files)
+        {
+            store.writeVersion(this.projectId, this.versionId, files);
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+
+            if ((other == null) || (this.getClass() != other.getClass()))
+            {
+                return false;
+            }
+
+            ProjectVersionCacheKey that = (ProjectVersionCacheKey) other;
+            return Objects.equals(this.projectId, that.projectId) && Objects.equals(this.versionId, that.versionId);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(this.projectId) + 41 * Objects.hashCode(this.versionId);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "<version " + ((this.versionId == null) ? null : this.versionId.toVersionIdString()) + " of project " + this.projectId + ">";
+        }
+    }
+}
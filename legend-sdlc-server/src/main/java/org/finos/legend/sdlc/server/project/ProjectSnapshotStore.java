@@ -0,0 +1,344 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.project;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.server.monitoring.SDLCMetricsHandler;
+import org.finos.legend.sdlc.server.project.config.ProjectSnapshotStoreConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Enumeration;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * On-disk store of the files of immutable project states (specific commits and versions). Each snapshot is held in a
+ * single zip file, whose central directory serves as an index of the paths in the snapshot. Snapshots are written to
+ * a temporary file and then atomically moved into place, so that the store survives restarts and can be shared by
+ * several servers on the same host.
+ */
+public class ProjectSnapshotStore
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProjectSnapshotStore.class);
+
+    private static final String HIT_METRIC = "project snapshot store hits";
+    private static final String MISS_METRIC = "project snapshot store misses";
+
+    private static final String SNAPSHOT_FILE_EXTENSION = ".zip";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private final Path directory;
+    private final Long maxSizeBytes;
+
+    private ProjectSnapshotStore(Path directory, Long maxSizeBytes)
+    {
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Read the files for a revision of a project, or return null if there is no snapshot of the revision.
+     *
+     * @param projectId  project id
+     * @param revisionId full commit id
+     * @return files by path or null
+     */
+    public MutableMap<String, byte[]> readRevision(String projectId, String revisionId)
+    {
+        return read(getRevisionSnapshotPath(projectId, revisionId));
+    }
+
+    /**
+     * Read the files for a version of a project, or return null if there is no snapshot of the version.
+     *
+     * @param projectId project id
+     * @param versionId version id
+     * @return files by path or null
+     */
+    public MutableMap<String, byte[]> readVersion(String projectId, VersionId versionId)
+    {
+        return read(getVersionSnapshotPath(projectId, versionId));
+    }
+
+    public void writeRevision(String projectId, String revisionId, MapIterable<String, byte[]> files)
+    {
+        write(getRevisionSnapshotPath(projectId, revisionId), files);
+    }
+
+    public void writeVersion(String projectId, VersionId versionId, MapIterable<String, byte[]> files)
+    {
+        write(getVersionSnapshotPath(projectId, versionId), files);
+    }
+
+    private Path getRevisionSnapshotPath(String projectId, String revisionId)
+    {
+        if (!ProjectFileCache.isCommitId(revisionId))
+        {
+            throw new IllegalArgumentException("Invalid revision id: " + revisionId);
+        }
+        return getProjectDirectory(projectId).resolve("revisions").resolve(revisionId.toLowerCase() + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    private Path getVersionSnapshotPath(String projectId, VersionId versionId)
+    {
+        return getProjectDirectory(projectId).resolve("versions").resolve(versionId.toVersionIdString() + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    private Path getProjectDirectory(String projectId)
+    {
+        String encoded;
+        try
+        {
+            encoded = URLEncoder.encode(projectId, "UTF-8").replace(".", "%2E");
+        }
+        catch (UnsupportedEncodingException e)
+        {
+            // UTF-8 is always supported
+            throw new RuntimeException(e);
+        }
+        return this.directory.resolve(encoded);
+    }
+
+    private MutableMap<String, byte[]> read(Path snapshotPath)
+    {
+        MutableMap<String, byte[]> files = Maps.mutable.empty();
+        try (ZipFile zipFile = new ZipFile(snapshotPath.toFile()))
+        {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements())
+            {
+                ZipEntry entry = entries.nextElement();
+                if (!entry.isDirectory())
+                {
+                    try (InputStream stream = zipFile.getInputStream(entry))
+                    {
+                        files.put(entry.getName(), readAllBytes(stream));
+                    }
+                }
+            }
+        }
+        catch (NoSuchFileException e)
+        {
+            SDLCMetricsHandler.incrementCounter(MISS_METRIC);
+            return null;
+        }
+        catch (IOException e)
+        {
+            if (Files.notExists(snapshotPath))
+            {
+                SDLCMetricsHandler.incrementCounter(MISS_METRIC);
+                return null;
+            }
+            LOGGER.warn("Error reading project snapshot {}, deleting it", snapshotPath, e);
+            deleteQuietly(snapshotPath);
+            SDLCMetricsHandler.incrementCounter(MISS_METRIC);
+            return null;
+        }
+        SDLCMetricsHandler.incrementCounter(HIT_METRIC);
+        if (this.maxSizeBytes != null)
+        {
+            // the modification time is used to decide which snapshots to delete first
+            try
+            {
+                Files.setLastModifiedTime(snapshotPath, FileTime.fromMillis(System.currentTimeMillis()));
+            }
+            catch (IOException e)
+            {
+                LOGGER.debug("Failed to update modification time of {}", snapshotPath, e);
+            }
+        }
+        return files;
+    }
+
+    private void write(Path snapshotPath, MapIterable<String, byte[]> files)
+    {
+        if (Files.exists(snapshotPath))
+        {
+            return;
+        }
+
+        Path tempPath = null;
+        try
+        {
+            Path snapshotDirectory = snapshotPath.getParent();
+            Files.createDirectories(snapshotDirectory);
+            tempPath = Files.createTempFile(snapshotDirectory, snapshotPath.getFileName().toString(), TEMP_FILE_EXTENSION);
+            try (ZipOutputStream stream = new ZipOutputStream(Files.newOutputStream(tempPath)))
+            {
+                for (String path : files.keysView().toSortedList())
+                {
+                    stream.putNextEntry(new ZipEntry(path));
+                    stream.write(files.get(path));
+                    stream.closeEntry();
+                }
+            }
+            moveIntoPlace(tempPath, snapshotPath);
+            tempPath = null;
+            LOGGER.debug("Wrote project snapshot {}", snapshotPath);
+        }
+        catch (Exception e)
+        {
+            // the store is only an optimization, so failure to write is not fatal
+            LOGGER.warn("Error writing project snapshot {}", snapshotPath, e);
+        }
+        finally
+        {
+            if (tempPath != null)
+            {
+                deleteQuietly(tempPath);
+            }
+        }
+
+        if (this.maxSizeBytes != null)
+        {
+            prune();
+        }
+    }
+
+    private void moveIntoPlace(Path tempPath, Path snapshotPath) throws IOException
+    {
+        try
+        {
+            Files.move(tempPath, snapshotPath, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (FileAlreadyExistsException e)
+        {
+            // another server wrote the same snapshot concurrently; as snapshots are immutable, either copy will do
+            deleteQuietly(tempPath);
+        }
+        catch (AtomicMoveNotSupportedException e)
+        {
+            try
+            {
+                Files.move(tempPath, snapshotPath);
+            }
+            catch (FileAlreadyExistsException ignore)
+            {
+                deleteQuietly(tempPath);
+            }
+        }
+    }
+
+    private synchronized void prune()
+    {
+        MutableList<SnapshotFile> snapshots = Lists.mutable.empty();
+        try (Stream<Path> stream = Files.walk(this.directory))
+        {
+            stream.filter(p -> p.getFileName().toString().endsWith(SNAPSHOT_FILE_EXTENSION)).forEach(p ->
+            {
+                try
+                {
+                    BasicFileAttributes attributes = Files.readAttributes(p, BasicFileAttributes.class);
+                    snapshots.add(new SnapshotFile(p, attributes.size(), attributes.lastModifiedTime().toMillis()));
+                }
+                catch (IOException ignore)
+                {
+                    // the file may have been deleted by another server
+                }
+            });
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Error listing project snapshots in {}", this.directory, e);
+            return;
+        }
+
+        long totalSize = snapshots.sumOfLong(s -> s.size);
+        if (totalSize > this.maxSizeBytes)
+        {
+            snapshots.sortThisByLong(s -> s.lastModified);
+            for (SnapshotFile snapshot : snapshots)
+            {
+                if (totalSize <= this.maxSizeBytes)
+                {
+                    break;
+                }
+                LOGGER.debug("Deleting project snapshot {}", snapshot.path);
+                deleteQuietly(snapshot.path);
+                totalSize -= snapshot.size;
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path path)
+    {
+        try
+        {
+            Files.deleteIfExists(path);
+        }
+        catch (Exception e)
+        {
+            LOGGER.debug("Failed to delete {}", path, e);
+        }
+    }
+
+    private static byte[] readAllBytes(InputStream stream) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = stream.read(buffer)) != -1)
+        {
+            bytes.write(buffer, 0, read);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static ProjectSnapshotStore newStore(ProjectSnapshotStoreConfiguration configuration)
+    {
+        return newStore(Paths.get(configuration.getDirectory()), configuration.getMaxSizeBytes());
+    }
+
+    public static ProjectSnapshotStore newStore(Path directory, Long maxSizeBytes)
+    {
+        return new ProjectSnapshotStore(directory.toAbsolutePath(), maxSizeBytes);
+    }
+
+    private static class SnapshotFile
+    {
+        private final Path path;
+        private final long size;
+        private final long lastModified;
+
+        private SnapshotFile(Path path, long size, long lastModified)
+        {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
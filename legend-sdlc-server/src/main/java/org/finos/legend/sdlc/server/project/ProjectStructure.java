@@ -44,6 +44,7 @@ import org.finos.legend.sdlc.domain.model.project.configuration.ProjectStructure
 import org.finos.legend.sdlc.domain.model.project.workspace.WorkspaceType;
 import org.finos.legend.sdlc.domain.model.revision.Revision;
 import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.serialization.EntityHeader;
 import org.finos.legend.sdlc.serialization.EntitySerializer;
 import org.finos.legend.sdlc.serialization.EntitySerializers;
 import org.finos.legend.sdlc.server.domain.api.project.ProjectConfigurationUpdater;
@@ -952,6 +953,54 @@ public abstract class ProjectStructure
         {
             return this.serializer.deserialize(content);
         }
+
+        /**
+         * Deserialize an entity from a project file, deferring deserialization of its content until it is needed.
+         * Only the path and classifier path are read eagerly. If the serializer supports it, the returned entity may
+         * be converted directly from its serialized form without materializing its content.
+         *
+         * @param projectFile project file
+         * @return entity with lazily deserialized content
+         */
+        public Entity deserializeLazily(ProjectFile projectFile)
+        {
+            try
+            {
+                return this.serializer.deserializeLazily(projectFile.getContentAsBytes());
+            }
+            catch (Exception e)
+            {
+                String eMessage = e.getMessage();
+                if ((e instanceof RuntimeException) && (eMessage != null) && eMessage.startsWith("Error deserializing entity "))
+                {
+                    throw (RuntimeException) e;
+                }
+                StringBuilder builder = new StringBuilder("Error deserializing entity from file ").append(projectFile.getPath());
+                if (eMessage != null)
+                {
+                    builder.append(": ").append(eMessage);
+                }
+                throw new LegendSDLCServerException(builder.toString(), e);
+            }
+        }
+
+        public EntityHeader deserializeHeader(ProjectFile projectFile)
+        {
+            try (InputStream stream = projectFile.getContentAsInputStream())
+            {
+                return this.serializer.deserializeHeader(stream);
+            }
+            catch (Exception e)
+            {
+                StringBuilder builder = new StringBuilder("Error deserializing entity header from file ").append(projectFile.getPath());
+                String eMessage = e.getMessage();
+                if (eMessage != null)
+                {
+                    builder.append(": ").append(eMessage);
+                }
+                throw new LegendSDLCServerException(builder.toString(), e);
+            }
+        }
     }
 
     public static UpdateBuilder newUpdateBuilder(ProjectFileAccessProvider projectFileAccessProvider, String projectId)
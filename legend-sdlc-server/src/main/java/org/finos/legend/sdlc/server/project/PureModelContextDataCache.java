@@ -0,0 +1,480 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.project;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import org.apache.commons.codec.binary.Hex;
+import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.server.monitoring.SDLCMetricsHandler;
+import org.finos.legend.sdlc.server.project.config.PureModelContextDataCacheConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Server-wide cache of serialized Pure model context data for immutable project states, i.e., specific commits
+ * (identified by full commit id) and versions. Each entry holds the final JSON bytes (optionally gzip compressed)
+ * together with a hash of the JSON, which can be used as an entity tag. Entries are evicted based on both the number
+ * of entries and their total size.
+ * <p>
+ * The cache is filled as data is sent: on a miss, the writer returned by {@link #cacheRevision} or
+ * {@link #cacheVersion} writes the JSON to the client and keeps a copy, which is only added to the cache once the
+ * JSON is complete. So a miss is never delayed by the cache, and an entry which grows beyond the maximum entry size is
+ * simply not cached. Concurrent misses for the same key may each write the data; the first to complete is cached.
+ * <p>
+ * Cached data is only returned after running an access validator, to ensure that the current user may access the
+ * project.
+ */
+public class PureModelContextDataCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(PureModelContextDataCache.class);
+
+    private static final String HIT_METRIC = "pure model context data cache hits";
+    private static final String MISS_METRIC = "pure model context data cache misses";
+    private static final String EVICTION_METRIC = "pure model context data cache evictions";
+    private static final String OVERSIZE_METRIC = "pure model context data cache oversize entries";
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final Cache<CacheKey, CachedPureModelContextData> cache;
+    private final boolean compressed;
+    private final long maxEntrySizeBytes;
+
+    private PureModelContextDataCache(PureModelContextDataCacheConfiguration configuration)
+    {
+        this.cache = configuration.isEnabled() ? buildCache(configuration) : null;
+        this.compressed = configuration.isCompressed();
+        this.maxEntrySizeBytes = configuration.getMaxEntrySizeBytes();
+    }
+
+    public boolean isEnabled()
+    {
+        return this.cache != null;
+    }
+
+    /**
+     * Get the cached Pure model context data for a revision of a project, or null if there is none. If the revision
+     * id is not a full commit id (and so may not identify an immutable state of the project), or if the cache is
+     * disabled, null is always returned. Entries are shared between users, so callers must check that the current
+     * user may access the revision.
+     *
+     * @param projectId  project id
+     * @param revisionId revision id
+     * @return cached Pure model context data or null
+     */
+    public CachedPureModelContextData getRevision(String projectId, String revisionId)
+    {
+        return isCacheableRevision(revisionId) ? get(new CacheKey(projectId, revisionId, null)) : null;
+    }
+
+    /**
+     * Get the cached Pure model context data for a version of a project, or null if there is none or the cache is
+     * disabled. Entries are shared between users, so callers must check that the current user may access the version.
+     *
+     * @param projectId project id
+     * @param versionId version id
+     * @return cached Pure model context data or null
+     */
+    public CachedPureModelContextData getVersion(String projectId, VersionId versionId)
+    {
+        return isEnabled() ? get(new CacheKey(projectId, null, versionId)) : null;
+    }
+
+    /**
+     * Wrap a writer of the Pure model context data for a revision of a project so that, as well as writing to its
+     * stream, it adds the data to the cache when it completes successfully. If the revision cannot be cached (see
+     * {@link #getRevision}), the writer is returned unchanged.
+     *
+     * @param projectId  project id
+     * @param revisionId revision id
+     * @param writer     writer of the Pure model context data JSON for the revision
+     * @return caching writer
+     */
+    public ContentWriter cacheRevision(String projectId, String revisionId, ContentWriter writer)
+    {
+        return isCacheableRevision(revisionId) ? new CachingContentWriter(new CacheKey(projectId, revisionId, null), writer) : writer;
+    }
+
+    /**
+     * Wrap a writer of the Pure model context data for a version of a project so that, as well as writing to its
+     * stream, it adds the data to the cache when it completes successfully. If the cache is disabled, the writer is
+     * returned unchanged.
+     *
+     * @param projectId project id
+     * @param versionId version id
+     * @param writer    writer of the Pure model context data JSON for the version
+     * @return caching writer
+     */
+    public ContentWriter cacheVersion(String projectId, VersionId versionId, ContentWriter writer)
+    {
+        return isEnabled() ? new CachingContentWriter(new CacheKey(projectId, null, versionId), writer) : writer;
+    }
+
+    public void invalidateAll()
+    {
+        if (isEnabled())
+        {
+            this.cache.invalidateAll();
+        }
+    }
+
+    public long size()
+    {
+        return isEnabled() ? this.cache.size() : 0L;
+    }
+
+    private boolean isCacheableRevision(String revisionId)
+    {
+        return isEnabled() && ProjectFileCache.isCommitId(revisionId);
+    }
+
+    private CachedPureModelContextData get(CacheKey key)
+    {
+        CachedPureModelContextData data = this.cache.getIfPresent(key);
+        SDLCMetricsHandler.incrementCounter((data == null) ? MISS_METRIC : HIT_METRIC);
+        return data;
+    }
+
+    public static PureModelContextDataCache newCache(PureModelContextDataCacheConfiguration configuration)
+    {
+        return new PureModelContextDataCache((configuration == null) ? PureModelContextDataCacheConfiguration.defaultConfiguration() : configuration);
+    }
+
+    public static PureModelContextDataCache disabledCache()
+    {
+        return new PureModelContextDataCache(PureModelContextDataCacheConfiguration.disabledConfiguration());
+    }
+
+    private static Cache<CacheKey, CachedPureModelContextData> buildCache(PureModelContextDataCacheConfiguration configuration)
+    {
+        long maxEntries = configuration.getMaxEntries();
+        long maxSizeBytes = configuration.getMaxSizeBytes();
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().removalListener(PureModelContextDataCache::onRemoval);
+        if (maxSizeBytes > 0)
+        {
+            // as for ProjectFileCache, a minimum weight per entry bounds the number of entries as well as the total size
+            long minWeight = (maxEntries > 0) ? Math.max(1L, (maxSizeBytes + maxEntries - 1) / maxEntries) : 0L;
+            builder.maximumWeight(maxSizeBytes).weigher((CacheKey key, CachedPureModelContextData value) -> (int) Math.min(Integer.MAX_VALUE, Math.max(minWeight, value.bytes.length)));
+        }
+        else if (maxEntries > 0)
+        {
+            builder.maximumSize(maxEntries);
+        }
+        Long expireAfterAccessSeconds = configuration.getExpireAfterAccessSeconds();
+        if (expireAfterAccessSeconds != null)
+        {
+            builder.expireAfterAccess(expireAfterAccessSeconds, TimeUnit.SECONDS);
+        }
+        return builder.build();
+    }
+
+    private static void onRemoval(RemovalNotification<Object, Object> notification)
+    {
+        if (notification.wasEvicted())
+        {
+            LOGGER.debug("Evicted {} from Pure model context data cache ({})", notification.getKey(), notification.getCause());
+            SDLCMetricsHandler.incrementCounter(EVICTION_METRIC);
+        }
+    }
+
+    private class CachingContentWriter implements ContentWriter
+    {
+        private final CacheKey key;
+        private final ContentWriter writer;
+
+        private CachingContentWriter(CacheKey key, ContentWriter writer)
+        {
+            this.key = key;
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(OutputStream stream) throws IOException
+        {
+            MessageDigest messageDigest = CachedPureModelContextData.newMessageDigest();
+            LimitedByteArrayOutputStream bytes = new LimitedByteArrayOutputStream(PureModelContextDataCache.this.maxEntrySizeBytes);
+            OutputStream copyStream = new DigestOutputStream(PureModelContextDataCache.this.compressed ? new GZIPOutputStream(bytes, 8192) : bytes, messageDigest);
+            try (TeeOutputStream teeStream = new TeeOutputStream(stream, copyStream, bytes::isOverLimit))
+            {
+                this.writer.write(teeStream);
+            }
+            catch (UncheckedIOException e)
+            {
+                throw e.getCause();
+            }
+            if (bytes.isOverLimit())
+            {
+                LOGGER.debug("Not caching Pure model context data for {}: larger than {} bytes", this.key, PureModelContextDataCache.this.maxEntrySizeBytes);
+                SDLCMetricsHandler.incrementCounter(OVERSIZE_METRIC);
+                return;
+            }
+            CachedPureModelContextData data = new CachedPureModelContextData(bytes.toByteArray(), PureModelContextDataCache.this.compressed, Hex.encodeHexString(messageDigest.digest()));
+            PureModelContextDataCache.this.cache.asMap().putIfAbsent(this.key, data);
+        }
+    }
+
+    /**
+     * Output stream which writes to a primary stream and also to a copy stream, until the copy is abandoned. The
+     * primary stream is flushed but not closed on close; the copy stream is closed (to finish any compression).
+     */
+    private static class TeeOutputStream extends OutputStream
+    {
+        private final OutputStream stream;
+        private final OutputStream copyStream;
+        private final BooleanSupplier copyAbandoned;
+
+        private TeeOutputStream(OutputStream stream, OutputStream copyStream, BooleanSupplier copyAbandoned)
+        {
+            this.stream = stream;
+            this.copyStream = copyStream;
+            this.copyAbandoned = copyAbandoned;
+        }
+
+        @Override
+        public void write(int b) throws IOException
+        {
+            this.stream.write(b);
+            if (!this.copyAbandoned.getAsBoolean())
+            {
+                this.copyStream.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException
+        {
+            this.stream.write(b, off, len);
+            if (!this.copyAbandoned.getAsBoolean())
+            {
+                this.copyStream.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException
+        {
+            this.stream.flush();
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            try
+            {
+                this.stream.flush();
+            }
+            finally
+            {
+                this.copyStream.close();
+            }
+        }
+    }
+
+    /**
+     * Byte array output stream which stops holding bytes once more than a limit have been written. A limit of 0 or
+     * less means there is no limit.
+     */
+    private static class LimitedByteArrayOutputStream extends ByteArrayOutputStream
+    {
+        private final long limit;
+        private boolean overLimit = false;
+
+        private LimitedByteArrayOutputStream(long limit)
+        {
+            super(8192);
+            this.limit = limit;
+        }
+
+        @Override
+        public synchronized void write(int b)
+        {
+            if (checkLimit(1))
+            {
+                super.write(b);
+            }
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len)
+        {
+            if (checkLimit(len))
+            {
+                super.write(b, off, len);
+            }
+        }
+
+        boolean isOverLimit()
+        {
+            return this.overLimit;
+        }
+
+        private boolean checkLimit(int len)
+        {
+            if (!this.overLimit && (this.limit > 0) && ((this.count + (long) len) > this.limit))
+            {
+                // release what has been held so far
+                this.overLimit = true;
+                this.buf = new byte[0];
+                this.count = 0;
+            }
+            return !this.overLimit;
+        }
+    }
+
+    /**
+     * Serialized Pure model context data held in the cache.
+     */
+    public static class CachedPureModelContextData
+    {
+        private final byte[] bytes;
+        private final boolean compressed;
+        private final String hash;
+
+        private CachedPureModelContextData(byte[] bytes, boolean compressed, String hash)
+        {
+            this.bytes = bytes;
+            this.compressed = compressed;
+            this.hash = hash;
+        }
+
+        /**
+         * Hash of the (uncompressed) JSON. This is the same for any two entries with the same content.
+         *
+         * @return content hash
+         */
+        public String getHash()
+        {
+            return this.hash;
+        }
+
+        /**
+         * Whether the data is held gzip compressed.
+         *
+         * @return whether the data is compressed
+         */
+        public boolean isCompressed()
+        {
+            return this.compressed;
+        }
+
+        /**
+         * Write the JSON to the stream, decompressing it if necessary.
+         *
+         * @param stream output stream
+         * @throws IOException if an error occurs writing
+         */
+        public void writeTo(OutputStream stream) throws IOException
+        {
+            if (this.compressed)
+            {
+                try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(this.bytes)))
+                {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = gzipStream.read(buffer)) != -1)
+                    {
+                        stream.write(buffer, 0, read);
+                    }
+                }
+            }
+            else
+            {
+                stream.write(this.bytes);
+            }
+        }
+
+        private static MessageDigest newMessageDigest()
+        {
+            try
+            {
+                return MessageDigest.getInstance(HASH_ALGORITHM);
+            }
+            catch (NoSuchAlgorithmException e)
+            {
+                // SHA-256 is required to be supported by every Java platform
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Writer of Pure model context data JSON. The stream should not be closed by the writer. If the writer fails, it
+     * may leave partial JSON in the stream.
+     */
+    public interface ContentWriter
+    {
+        void write(OutputStream stream) throws IOException;
+    }
+
+    private static class CacheKey
+    {
+        private final String projectId;
+        private final String revisionId;
+        private final VersionId versionId;
+
+        private CacheKey(String projectId, String revisionId, VersionId versionId)
+        {
+            this.projectId = projectId;
+            this.revisionId = revisionId;
+            this.versionId = versionId;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+
+            if ((other == null) || (this.getClass() != other.getClass()))
+            {
+                return false;
+            }
+
+            CacheKey that = (CacheKey) other;
+            return Objects.equals(this.projectId, that.projectId) &&
+                    Objects.equals(this.revisionId, that.revisionId) &&
+                    Objects.equals(this.versionId, that.versionId);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(this.projectId, this.revisionId, this.versionId);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "<project " + this.projectId + ((this.revisionId == null) ? (" version " + this.versionId.toVersionIdString()) : (" revision " + this.revisionId)) + ">";
+        }
+    }
+}
@@ -0,0 +1,136 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.project.config;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class ProjectFileCacheConfiguration
+{
+    private static final long DEFAULT_MAX_ENTRIES = 128L;
+    private static final long DEFAULT_MAX_SIZE_BYTES = 256L * 1024L * 1024L;
+
+    private final boolean enabled;
+    private final Long maxEntries;
+    private final Long maxSizeBytes;
+    private final Long expireAfterAccessSeconds;
+    private final ProjectSnapshotStoreConfiguration snapshotStore;
+    private final boolean incrementalWorkspaceLoading;
+
+    private ProjectFileCacheConfiguration(boolean enabled, Long maxEntries, Long maxSizeBytes, Long expireAfterAccessSeconds, ProjectSnapshotStoreConfiguration snapshotStore, boolean incrementalWorkspaceLoading)
+    {
+        if ((maxEntries != null) && (maxEntries < 0))
+        {
+            throw new IllegalArgumentException("Invalid maxEntries: " + maxEntries);
+        }
+        if ((maxSizeBytes != null) && (maxSizeBytes < 0))
+        {
+            throw new IllegalArgumentException("Invalid maxSizeBytes: " + maxSizeBytes);
+        }
+        if ((expireAfterAccessSeconds != null) && (expireAfterAccessSeconds <= 0))
+        {
+            throw new IllegalArgumentException("Invalid expireAfterAccessSeconds: " + expireAfterAccessSeconds);
+        }
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.maxSizeBytes = maxSizeBytes;
+        this.expireAfterAccessSeconds = expireAfterAccessSeconds;
+        this.snapshotStore = snapshotStore;
+        this.incrementalWorkspaceLoading = incrementalWorkspaceLoading;
+    }
+
+    public boolean isEnabled()
+    {
+        return this.enabled;
+    }
+
+    /**
+     * Maximum number of revisions or versions whose files are held in the cache.
+     *
+     * @return maximum number of entries
+     */
+    public long getMaxEntries()
+    {
+        return (this.maxEntries == null) ? DEFAULT_MAX_ENTRIES : this.maxEntries;
+    }
+
+    /**
+     * Maximum total size (in bytes) of the file content held in the cache.
+     *
+     * @return maximum size in bytes
+     */
+    public long getMaxSizeBytes()
+    {
+        return (this.maxSizeBytes == null) ? DEFAULT_MAX_SIZE_BYTES : this.maxSizeBytes;
+    }
+
+    /**
+     * Number of seconds after the last access that an entry is evicted, or null if entries do not expire.
+     *
+     * @return seconds after last access before expiry (optional)
+     */
+    public Long getExpireAfterAccessSeconds()
+    {
+        return this.expireAfterAccessSeconds;
+    }
+
+    /**
+     * Configuration for the on-disk store of project snapshots backing the cache, or null if there is none.
+     *
+     * @return snapshot store configuration (optional)
+     */
+    public ProjectSnapshotStoreConfiguration getSnapshotStore()
+    {
+        return this.snapshotStore;
+    }
+
+    /**
+     * Whether the files for the current revision of a workspace may be computed from those of a cached earlier
+     * revision together with the changes between the two, rather than loaded in full.
+     *
+     * @return whether incremental workspace loading is enabled
+     */
+    public boolean isIncrementalWorkspaceLoading()
+    {
+        return this.incrementalWorkspaceLoading;
+    }
+
+    @JsonCreator
+    public static ProjectFileCacheConfiguration newConfiguration(
+            @JsonProperty("enabled") Boolean enabled,
+            @JsonProperty("maxEntries") Long maxEntries,
+            @JsonProperty("maxSizeBytes") Long maxSizeBytes,
+            @JsonProperty("expireAfterAccessSeconds") Long expireAfterAccessSeconds,
+            @JsonProperty("snapshotStore") ProjectSnapshotStoreConfiguration snapshotStore,
+            @JsonProperty("incrementalWorkspaceLoading") Boolean incrementalWorkspaceLoading)
+    {
+        return new ProjectFileCacheConfiguration((enabled == null) || enabled, maxEntries, maxSizeBytes, expireAfterAccessSeconds, snapshotStore, (incrementalWorkspaceLoading != null) && incrementalWorkspaceLoading);
+    }
+
+    public static ProjectFileCacheConfiguration newConfiguration(Boolean enabled, Long maxEntries, Long maxSizeBytes, Long expireAfterAccessSeconds)
+    {
+        return newConfiguration(enabled, maxEntries, maxSizeBytes, expireAfterAccessSeconds, null, null);
+    }
+
+    public static ProjectFileCacheConfiguration defaultConfiguration()
+    {
+        return new ProjectFileCacheConfiguration(true, null, null, null, null, false);
+    }
+
+    public static ProjectFileCacheConfiguration disabledConfiguration()
+    {
+        return new ProjectFileCacheConfiguration(false, null, null, null, null, false);
+    }
+}
@@ -0,0 +1,63 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.project.config;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+public class ProjectSnapshotStoreConfiguration
+{
+    private final String directory;
+    private final Long maxSizeBytes;
+
+    private ProjectSnapshotStoreConfiguration(String directory, Long maxSizeBytes)
+    {
+        if ((maxSizeBytes != null) && (maxSizeBytes <= 0))
+        {
+            throw new IllegalArgumentException("Invalid maxSizeBytes: " + maxSizeBytes);
+        }
+        this.directory = Objects.requireNonNull(directory, "directory is required");
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Directory in which snapshots are stored. This may be shared by multiple servers on the same host.
+     *
+     * @return snapshot directory
+     */
+    public String getDirectory()
+    {
+        return this.directory;
+    }
+
+    /**
+     * Maximum total size (in bytes) of the snapshots in the store, or null if the size is unbounded. When exceeded,
+     * the least recently used snapshots are deleted.
+     *
+     * @return maximum size in bytes (optional)
+     */
+    public Long getMaxSizeBytes()
+    {
+        return this.maxSizeBytes;
+    }
+
+    @JsonCreator
+    public static ProjectSnapshotStoreConfiguration newConfiguration(@JsonProperty("directory") String directory, @JsonProperty("maxSizeBytes") Long maxSizeBytes)
+    {
+        return new ProjectSnapshotStoreConfiguration(directory, maxSizeBytes);
+    }
+}
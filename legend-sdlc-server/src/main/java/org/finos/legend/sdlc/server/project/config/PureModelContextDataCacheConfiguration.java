@@ -0,0 +1,138 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.project.config;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class PureModelContextDataCacheConfiguration
+{
+    private static final long DEFAULT_MAX_ENTRIES = 64L;
+    private static final long DEFAULT_MAX_SIZE_BYTES = 256L * 1024L * 1024L;
+
+    private final boolean enabled;
+    private final Long maxEntries;
+    private final Long maxSizeBytes;
+    private final Long maxEntrySizeBytes;
+    private final Long expireAfterAccessSeconds;
+    private final boolean compressed;
+
+    private PureModelContextDataCacheConfiguration(boolean enabled, Long maxEntries, Long maxSizeBytes, Long maxEntrySizeBytes, Long expireAfterAccessSeconds, boolean compressed)
+    {
+        if ((maxEntries != null) && (maxEntries < 0))
+        {
+            throw new IllegalArgumentException("Invalid maxEntries: " + maxEntries);
+        }
+        if ((maxSizeBytes != null) && (maxSizeBytes < 0))
+        {
+            throw new IllegalArgumentException("Invalid maxSizeBytes: " + maxSizeBytes);
+        }
+        if ((maxEntrySizeBytes != null) && (maxEntrySizeBytes < 0))
+        {
+            throw new IllegalArgumentException("Invalid maxEntrySizeBytes: " + maxEntrySizeBytes);
+        }
+        if ((expireAfterAccessSeconds != null) && (expireAfterAccessSeconds <= 0))
+        {
+            throw new IllegalArgumentException("Invalid expireAfterAccessSeconds: " + expireAfterAccessSeconds);
+        }
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.maxSizeBytes = maxSizeBytes;
+        this.maxEntrySizeBytes = maxEntrySizeBytes;
+        this.expireAfterAccessSeconds = expireAfterAccessSeconds;
+        this.compressed = compressed;
+    }
+
+    public boolean isEnabled()
+    {
+        return this.enabled;
+    }
+
+    /**
+     * Maximum number of revisions or versions whose Pure model context data is held in the cache.
+     *
+     * @return maximum number of entries
+     */
+    public long getMaxEntries()
+    {
+        return (this.maxEntries == null) ? DEFAULT_MAX_ENTRIES : this.maxEntries;
+    }
+
+    /**
+     * Maximum total size (in bytes) of the serialized Pure model context data held in the cache. If the cache is
+     * compressed, this is the compressed size.
+     *
+     * @return maximum size in bytes
+     */
+    public long getMaxSizeBytes()
+    {
+        return (this.maxSizeBytes == null) ? DEFAULT_MAX_SIZE_BYTES : this.maxSizeBytes;
+    }
+
+    /**
+     * Maximum size (in bytes) of the serialized Pure model context data for a single revision or version. Data which
+     * grows beyond this while it is being sent is not cached. If the cache is compressed, this is the compressed size.
+     * By default, this is a quarter of {@link #getMaxSizeBytes()}. A value of 0 means there is no limit.
+     *
+     * @return maximum entry size in bytes
+     */
+    public long getMaxEntrySizeBytes()
+    {
+        return (this.maxEntrySizeBytes == null) ? (getMaxSizeBytes() / 4) : this.maxEntrySizeBytes;
+    }
+
+    /**
+     * Number of seconds after the last access that an entry is evicted, or null if entries do not expire.
+     *
+     * @return seconds after last access before expiry (optional)
+     */
+    public Long getExpireAfterAccessSeconds()
+    {
+        return this.expireAfterAccessSeconds;
+    }
+
+    /**
+     * Whether serialized Pure model context data is held gzip compressed. This reduces the memory used by the cache,
+     * at the cost of decompressing the data each time it is sent.
+     *
+     * @return whether cached data is compressed
+     */
+    public boolean isCompressed()
+    {
+        return this.compressed;
+    }
+
+    @JsonCreator
+    public static PureModelContextDataCacheConfiguration newConfiguration(
+            @JsonProperty("enabled") Boolean enabled,
+            @JsonProperty("maxEntries") Long maxEntries,
+            @JsonProperty("maxSizeBytes") Long maxSizeBytes,
+            @JsonProperty("maxEntrySizeBytes") Long maxEntrySizeBytes,
+            @JsonProperty("expireAfterAccessSeconds") Long expireAfterAccessSeconds,
+            @JsonProperty("compressed") Boolean compressed)
+    {
+        return new PureModelContextDataCacheConfiguration((enabled == null) || enabled, maxEntries, maxSizeBytes, maxEntrySizeBytes, expireAfterAccessSeconds, (compressed != null) && compressed);
+    }
+
+    public static PureModelContextDataCacheConfiguration defaultConfiguration()
+    {
+        return new PureModelContextDataCacheConfiguration(true, null, null, null, null, false);
+    }
+
+    public static PureModelContextDataCacheConfiguration disabledConfiguration()
+    {
+        return new PureModelContextDataCacheConfiguration(false, null, null, null, null, false);
+    }
+}
@@ -14,21 +14,39 @@
 
 package org.finos.legend.sdlc.server.resources;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import org.eclipse.collections.api.factory.Maps;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.server.domain.api.entity.EntityAccessContext;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import javax.ws.rs.core.StreamingOutput;
 
 abstract class EntityAccessResource extends BaseResource
 {
+    /**
+     * Media type for newline-delimited JSON, where each line is a complete JSON value. Streaming endpoints should
+     * declare a lower server-side quality (qs) for this than for JSON, so that clients which accept any media type
+     * continue to get JSON.
+     */
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     private static final char TAGGED_VALUE_DELIMITER = '/';
 
+    private static final JsonMapper NDJSON_MAPPER = JsonMapper.builder()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .build();
+
     protected List<String> getEntityPaths(EntityAccessContext entityAccessContext, Set<String> classifierPaths, Set<String> packages, boolean includeSubPackages, String nameRegex, Set<String> stereotypes, Collection<String> taggedValueRegexes)
     {
         Predicate<String> entityPathPredicate = getEntityPathPredicate(packages, includeSubPackages, nameRegex);
@@ -45,6 +63,51 @@ abstract class EntityAccessResource extends BaseResource
         return entityAccessContext.getEntities(entityPathPredicate, classifierPathPredicate, contentPredicate, excludeInvalidEntities);
     }
 
+    /**
+     * Stream entities as newline-delimited JSON (see {@link #APPLICATION_NDJSON}). Entities are written one at a time
+     * as they are read, so the full set of entities is never held in memory at once. Entities are only read when the
+     * response is written, so logging for the operation happens then, too. Note that if an error occurs once part of
+     * the response has been sent, the client will receive a truncated response rather than an error status.
+     */
+    protected StreamingOutput streamEntities(String descriptionForLogging, EntityAccessContext entityAccessContext, Set<String> classifierPaths, Set<String> packages, boolean includeSubPackages, String nameRegex, Set<String> stereotypes, Collection<String> taggedValueRegexes, boolean excludeInvalidEntities)
+    {
+        Predicate<String> entityPathPredicate = getEntityPathPredicate(packages, includeSubPackages, nameRegex);
+        Predicate<String> classifierPathPredicate = getClassifierPathPredicate(classifierPaths);
+        Predicate<Map<String, ?>> contentPredicate = getContentPredicate(stereotypes, taggedValueRegexes);
+        return output ->
+        {
+            try
+            {
+                executeWithLogging(descriptionForLogging, () ->
+                {
+                    try (JsonGenerator generator = NDJSON_MAPPER.getFactory().createGenerator(output))
+                    {
+                        entityAccessContext.forEachEntity(entityPathPredicate, classifierPathPredicate, contentPredicate, excludeInvalidEntities, entity ->
+                        {
+                            try
+                            {
+                                NDJSON_MAPPER.writeValue(generator, entity);
+                                generator.writeRaw('\n');
+                            }
+                            catch (IOException e)
+                            {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                    }
+                    catch (IOException e)
+                    {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            catch (UncheckedIOException e)
+            {
+                throw e.getCause();
+            }
+        };
+    }
+
     private Predicate<String> getEntityPathPredicate(Set<String> packages, boolean includeSubPackages, String nameRegex)
     {
         Pattern namePattern = compileRegex(nameRegex);
@@ -37,6 +37,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
 import java.util.List;
 import java.util.Set;
 
@@ -55,7 +56,7 @@ public class GroupWorkspaceEntitiesResource extends EntityAccessResource
     }
 
     @GET
-    @ApiOperation("Get entities of the group workspace")
+    @ApiOperation(value = "Get entities of the group workspace", notes = "Entities can also be streamed as newline-delimited JSON, one entity per line, by accepting application/x-ndjson. This is recommended for large projects.")
     public List<Entity> getAllEntities(@PathParam("projectId") String projectId,
                                        @PathParam("workspaceId") String workspaceId,
                                        @QueryParam("classifierPath")
@@ -83,6 +84,32 @@ public class GroupWorkspaceEntitiesResource extends EntityAccessResource
         );
     }
 
+    @GET
+    @Produces(APPLICATION_NDJSON + ";qs=0.5")
+    @ApiOperation(value = "Get entities of the group workspace as newline-delimited JSON", hidden = true)
+    public StreamingOutput streamAllEntities(@PathParam("projectId") String projectId,
+                                             @PathParam("workspaceId") String workspaceId,
+                                             @QueryParam("classifierPath")
+                                             @ApiParam("Only include entities with one of these classifier paths.") Set<String> classifierPaths,
+                                             @QueryParam("package")
+                                             @ApiParam("Only include entities in one of these packages. If includeSubPackages is true (which it is by default), then entities in subpackages are also included. Otherwise, only entities directly in one of the packages are included.") Set<String> packages,
+                                             @QueryParam("includeSubPackages")
+                                             @DefaultValue("true")
+                                             @ApiParam("Whether to include entities from subpackages or only directly in one of the given packages. This is ignored if no packages are supplied.") boolean includeSubPackages,
+                                             @QueryParam("name")
+                                             @ApiParam("Only include entities with a name matching this regular expression.") String nameRegex,
+                                             @QueryParam("stereotype")
+                                             @ApiParam("Only include entities with one of these stereotypes. The syntax is PROFILE.NAME, where PROFILE is the full path of the Profile that owns the Stereotype.") Set<String> stereotypes,
+                                             @QueryParam("taggedValue")
+                                             @ApiParam("Only include entities with a matching tagged value. The syntax is PROFILE.NAME/REGEX, where PROFILE is the full path of the Profile that owns the Tag, NAME is the name of the Tag, and REGEX is a regular expression to match against the value.") List<String> taggedValueRegexes,
+                                             @QueryParam("excludeInvalid")
+                                             @DefaultValue("false")
+                                             @ApiParam("If true, exclude invalid entities and return valid entities only. If false, the endpoint will return an error if there are any invalid entities.") boolean excludeInvalid
+          )
+    {
+        return streamEntities("streaming entities in group workspace " + workspaceId + " for project " + projectId, this.entityApi.getGroupWorkspaceEntityAccessContext(projectId, workspaceId), classifierPaths, packages, includeSubPackages, nameRegex, stereotypes, taggedValueRegexes, excludeInvalid);
+    }
+
     @DELETE
     @ApiOperation(value = "Delete multiple entities in a group workspace", notes = "Delete multiple entities. If the list of entities to delete is null, all entities will be deleted.")
     public Revision deleteEntities(@PathParam("projectId") String projectId, @PathParam("workspaceId") String workspaceId, DeleteEntitiesCommand command)
@@ -21,6 +21,7 @@ import org.finos.legend.sdlc.domain.model.revision.Revision;
 import org.finos.legend.sdlc.server.domain.api.entity.EntityApi;
 import org.finos.legend.sdlc.server.domain.api.revision.RevisionApi;
 import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
+import org.finos.legend.sdlc.server.project.PureModelContextDataCache;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
@@ -28,7 +29,10 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 
 @Path("/projects/{projectId}/groupWorkspaces/{workspaceId}/pureModelContextData")
 @Api("Pure Model Context")
@@ -40,15 +44,16 @@ public class GroupWorkspacePureModelContextDataResource extends PureModelContext
     private final RevisionApi revisionApi;
 
     @Inject
-    public GroupWorkspacePureModelContextDataResource(EntityApi entityApi, RevisionApi revisionApi)
+    public GroupWorkspacePureModelContextDataResource(EntityApi entityApi, RevisionApi revisionApi, PureModelContextDataCache pureModelContextDataCache)
     {
+        super(pureModelContextDataCache);
         this.entityApi = entityApi;
         this.revisionApi = revisionApi;
     }
 
     @GET
-    @ApiOperation("Get Pure model context data for a group workspace (at the latest revision)")
-    public PureModelContextData getPureModelContextData(@PathParam("projectId") String projectId, @PathParam("workspaceId") String workspaceId)
+    @ApiOperation(value = "Get Pure model context data for a group workspace (at the latest revision)", response = PureModelContextData.class)
+    public Response getPureModelContextData(@PathParam("projectId") String projectId, @PathParam("workspaceId") String workspaceId, @Context Request request)
     {
         return executeWithLogging(
                 "getting Pure model context data for group workspace " + workspaceId + " in project " + projectId,
@@ -59,7 +64,9 @@ public class GroupWorkspacePureModelContextDataResource extends PureModelContext
                     {
                         throw new LegendSDLCServerException("Could not find latest revision for group workspace " + workspaceId + " in project " + projectId + "; project may be corrupt");
                     }
-                    return getPureModelContextData(projectId, revision.getId(), this.entityApi.getGroupWorkspaceEntityAccessContext(projectId, workspaceId));
+                    String revisionId = revision.getId();
+                    // access has already been validated by getting the current revision
+                    return getRevisionPureModelContextDataResponse(request, projectId, revisionId, null, () -> this.entityApi.getGroupWorkspaceRevisionEntityAccessContext(projectId, workspaceId, revisionId));
                 });
     }
 }
@@ -21,6 +21,7 @@ import org.finos.legend.sdlc.domain.model.revision.Revision;
 import org.finos.legend.sdlc.server.domain.api.entity.EntityApi;
 import org.finos.legend.sdlc.server.domain.api.revision.RevisionApi;
 import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
+import org.finos.legend.sdlc.server.project.PureModelContextDataCache;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
@@ -28,7 +29,10 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 
 @Path("/projects/{projectId}/pureModelContextData")
 @Api("Pure Model Context")
@@ -40,15 +44,16 @@ public class ProjectPureModelContextDataResource extends PureModelContextDataRes
     private final RevisionApi revisionApi;
 
     @Inject
-    public ProjectPureModelContextDataResource(EntityApi entityApi, RevisionApi revisionApi)
+    public ProjectPureModelContextDataResource(EntityApi entityApi, RevisionApi revisionApi, PureModelContextDataCache pureModelContextDataCache)
     {
+        super(pureModelContextDataCache);
         this.entityApi = entityApi;
         this.revisionApi = revisionApi;
     }
 
     @GET
-    @ApiOperation("Get Pure model context data for a project (at the latest revision)")
-    public PureModelContextData getPureModelContextData(@PathParam("projectId") String projectId)
+    @ApiOperation(value = "Get Pure model context data for a project (at the latest revision)", response = PureModelContextData.class)
+    public Response getPureModelContextData(@PathParam("projectId") String projectId, @Context Request request)
     {
         return executeWithLogging(
                 "getting Pure model context data for project " + projectId,
@@ -59,7 +64,9 @@ public class ProjectPureModelContextDataResource extends PureModelContextDataRes
                     {
                         throw new LegendSDLCServerException("Could not find latest revision for project " + projectId + "; project may be corrupt");
                     }
-                    return getPureModelContextData(projectId, revision.getId(), this.entityApi.getProjectEntityAccessContext(projectId));
+                    String revisionId = revision.getId();
+                    // access has already been validated by getting the current revision
+                    return getRevisionPureModelContextDataResponse(request, projectId, revisionId, null, () -> this.entityApi.getProjectRevisionEntityAccessContext(projectId, revisionId));
                 });
     }
 }
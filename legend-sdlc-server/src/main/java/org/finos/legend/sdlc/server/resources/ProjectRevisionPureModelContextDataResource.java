@@ -19,6 +19,9 @@ import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.sdlc.server.domain.api.entity.EntityApi;
+import org.finos.legend.sdlc.server.domain.api.revision.RevisionApi;
+import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
+import org.finos.legend.sdlc.server.project.PureModelContextDataCache;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
@@ -26,7 +29,11 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
 
 @Path("/projects/{projectId}/revisions/{revisionId}/pureModelContextData")
 @Api("Pure Model Context")
@@ -35,21 +42,33 @@ import javax.ws.rs.core.MediaType;
 public class ProjectRevisionPureModelContextDataResource extends PureModelContextDataResource
 {
     private final EntityApi entityApi;
+    private final RevisionApi revisionApi;
 
     @Inject
-    protected ProjectRevisionPureModelContextDataResource(EntityApi entityApi)
+    protected ProjectRevisionPureModelContextDataResource(EntityApi entityApi, RevisionApi revisionApi, PureModelContextDataCache pureModelContextDataCache)
     {
+        super(pureModelContextDataCache);
         this.entityApi = entityApi;
+        this.revisionApi = revisionApi;
     }
 
     @GET
-    @ApiOperation("Get Pure model context data for a project at a revision")
-    public PureModelContextData getPureModelContextData(@PathParam("projectId") String projectId,
-                                                        @PathParam("revisionId") @ApiParam("Including aliases: head, latest, current, base") String revisionId)
+    @ApiOperation(value = "Get Pure model context data for a project at a revision", response = PureModelContextData.class)
+    public Response getPureModelContextData(@PathParam("projectId") String projectId,
+                                            @PathParam("revisionId") @ApiParam("Including aliases: head, latest, current, base") String revisionId,
+                                            @Context Request request)
     {
         return executeWithLogging(
                 "getting Pure model context data for project " + projectId + " at revision " + revisionId,
-                () -> getPureModelContextData(projectId, revisionId, this.entityApi.getProjectRevisionEntityAccessContext(projectId, revisionId))
+                () -> getRevisionPureModelContextDataResponse(request, projectId, revisionId,
+                        () ->
+                        {
+                            if (this.revisionApi.getProjectRevisionContext(projectId).getRevision(revisionId) == null)
+                            {
+                                throw new LegendSDLCServerException("Unknown revision " + revisionId + " for project " + projectId, Status.NOT_FOUND);
+                            }
+                        },
+                        () -> this.entityApi.getProjectRevisionEntityAccessContext(projectId, revisionId))
         );
     }
 }
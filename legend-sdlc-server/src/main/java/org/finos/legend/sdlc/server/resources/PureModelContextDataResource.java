@@ -14,29 +14,185 @@
 
 package org.finos.legend.sdlc.server.resources;
 
+import org.finos.legend.engine.protocol.Protocol;
 import org.finos.legend.engine.protocol.pure.PureClientVersions;
 import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.domain.model.version.VersionId;
 import org.finos.legend.sdlc.protocol.pure.v1.PureModelContextDataBuilder;
+import org.finos.legend.sdlc.protocol.pure.v1.PureModelContextDataWriter;
 import org.finos.legend.sdlc.server.domain.api.entity.EntityAccessContext;
+import org.finos.legend.sdlc.server.project.PureModelContextDataCache;
+import org.finos.legend.sdlc.server.project.PureModelContextDataCache.CachedPureModelContextData;
+import org.finos.legend.sdlc.server.project.PureModelContextDataCache.ContentWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 abstract class PureModelContextDataResource extends BaseResource
 {
+    private final PureModelContextDataCache cache;
+
+    protected PureModelContextDataResource(PureModelContextDataCache cache)
+    {
+        this.cache = cache;
+    }
+
+    protected PureModelContextDataResource()
+    {
+        this(null);
+    }
+
     protected PureModelContextData getPureModelContextData(String projectId, String revisionOrVersionId, EntityAccessContext entityAccessContext)
     {
-        return getPureModelContextData(projectId, revisionOrVersionId, entityAccessContext.getEntities(null, null, null));
+        return getPureModelContextData(projectId, revisionOrVersionId, entityAccessContext.getEntitiesWithLazyContent(null, null));
     }
 
     protected PureModelContextData getPureModelContextData(String projectId, String revisionOrVersionId, Iterable<? extends Entity> entities)
     {
-        AlloySDLC sdlc = new AlloySDLC();
-        sdlc.project = projectId;
-        sdlc.baseVersion = revisionOrVersionId;
         return PureModelContextDataBuilder.newBuilder()
                 .withProtocol("pure", PureClientVersions.production)
-                .withSDLC(sdlc)
+                .withSDLC(newSDLC(projectId, revisionOrVersionId))
                 .withEntitiesIfPossible(entities)
                 .build();
     }
+
+    /**
+     * Get a response with the Pure model context data for a revision of a project. The access validator is run
+     * first, so that an unknown revision gets an error status rather than a failed stream. If the revision id is a
+     * full commit id and the cache holds data for it, that is served with an entity tag so that clients can make
+     * conditional requests. Otherwise, it is streamed as with
+     * {@link #streamPureModelContextData(String, String, EntityAccessContext)}, and added to the cache (if enabled) as
+     * it is sent.
+     *
+     * @param request                     request, for evaluating conditional request headers
+     * @param projectId                   project id
+     * @param revisionId                  revision id
+     * @param accessValidator             validates that the revision exists and may be accessed (optional)
+     * @param entityAccessContextSupplier supplier of the entity access context for the revision
+     * @return response
+     */
+    protected Response getRevisionPureModelContextDataResponse(Request request, String projectId, String revisionId, Runnable accessValidator, Supplier<? extends EntityAccessContext> entityAccessContextSupplier)
+    {
+        if (accessValidator != null)
+        {
+            accessValidator.run();
+        }
+        CachedPureModelContextData cached = (this.cache == null) ? null : this.cache.getRevision(projectId, revisionId);
+        if (cached != null)
+        {
+            return buildCachedResponse(request, cached);
+        }
+        EntityAccessContext entityAccessContext = entityAccessContextSupplier.get();
+        ContentWriter writer = stream -> writePureModelContextData(stream, projectId, revisionId, entityAccessContext);
+        return Response.ok(streamPureModelContextData(projectId, revisionId, (this.cache == null) ? writer : this.cache.cacheRevision(projectId, revisionId, writer))).build();
+    }
+
+    /**
+     * Get a response with the Pure model context data for a version of a project. The access validator is run first,
+     * so that an unknown version gets an error status rather than a failed stream. If the cache holds data for the
+     * version, that is served with an entity tag so that clients can make conditional requests. Otherwise, it is
+     * streamed as with {@link #streamPureModelContextData(String, String, EntityAccessContext)}, and added to the cache
+     * (if enabled) as it is sent.
+     *
+     * @param request                     request, for evaluating conditional request headers
+     * @param projectId                   project id
+     * @param versionId                   version id
+     * @param accessValidator             validates that the version exists and may be accessed (optional)
+     * @param entityAccessContextSupplier supplier of the entity access context for the version
+     * @return response
+     */
+    protected Response getVersionPureModelContextDataResponse(Request request, String projectId, VersionId versionId, Runnable accessValidator, Supplier<? extends EntityAccessContext> entityAccessContextSupplier)
+    {
+        if (accessValidator != null)
+        {
+            accessValidator.run();
+        }
+        String versionIdString = versionId.toVersionIdString();
+        CachedPureModelContextData cached = (this.cache == null) ? null : this.cache.getVersion(projectId, versionId);
+        if (cached != null)
+        {
+            return buildCachedResponse(request, cached);
+        }
+        EntityAccessContext entityAccessContext = entityAccessContextSupplier.get();
+        ContentWriter writer = stream -> writePureModelContextData(stream, projectId, versionIdString, entityAccessContext);
+        return Response.ok(streamPureModelContextData(projectId, versionIdString, (this.cache == null) ? writer : this.cache.cacheVersion(projectId, versionId, writer))).build();
+    }
+
+    /**
+     * Stream Pure model context data as JSON. This produces the same JSON as
+     * {@link #getPureModelContextData(String, String, EntityAccessContext)}, but entities are read, converted, and
+     * written one at a time when the response is written. So the full model is never held in memory, and the start of
+     * the response is sent before all entities have been read. If an error occurs once part of the response has been
+     * sent, the client will receive incomplete (and so invalid) JSON rather than an error status.
+     */
+    protected StreamingOutput streamPureModelContextData(String projectId, String revisionOrVersionId, EntityAccessContext entityAccessContext)
+    {
+        return streamPureModelContextData(projectId, revisionOrVersionId, stream -> writePureModelContextData(stream, projectId, revisionOrVersionId, entityAccessContext));
+    }
+
+    private StreamingOutput streamPureModelContextData(String projectId, String revisionOrVersionId, ContentWriter writer)
+    {
+        return output ->
+        {
+            try
+            {
+                executeWithLogging("streaming Pure model context data for project " + projectId + " at " + revisionOrVersionId, () ->
+                {
+                    try
+                    {
+                        writer.write(output);
+                    }
+                    catch (IOException e)
+                    {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            catch (UncheckedIOException e)
+            {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private static void writePureModelContextData(OutputStream stream, String projectId, String revisionOrVersionId, EntityAccessContext entityAccessContext) throws IOException
+    {
+        // the writer is deliberately only closed on success, so that the JSON is left incomplete on failure
+        PureModelContextDataWriter writer = PureModelContextDataWriter.newWriter(stream, new Protocol("pure", PureClientVersions.production), newSDLC(projectId, revisionOrVersionId));
+        entityAccessContext.forEachEntityWithLazyContent(null, null, entity ->
+        {
+            try
+            {
+                writer.writeEntityIfPossible(entity);
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.close();
+    }
+
+    private static Response buildCachedResponse(Request request, CachedPureModelContextData cached)
+    {
+        EntityTag entityTag = new EntityTag(cached.getHash());
+        Response.ResponseBuilder notModified = (request == null) ? null : request.evaluatePreconditions(entityTag);
+        return (notModified != null) ? notModified.build() : Response.ok((StreamingOutput) cached::writeTo).tag(entityTag).build();
+    }
+
+    private static AlloySDLC newSDLC(String projectId, String revisionOrVersionId)
+    {
+        AlloySDLC sdlc = new AlloySDLC();
+        sdlc.project = projectId;
+        sdlc.baseVersion = revisionOrVersionId;
+        return sdlc;
+    }
 }
@@ -19,6 +19,9 @@ import io.swagger.annotations.ApiOperation;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.sdlc.domain.model.version.VersionId;
 import org.finos.legend.sdlc.server.domain.api.entity.EntityApi;
+import org.finos.legend.sdlc.server.domain.api.version.VersionApi;
+import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
+import org.finos.legend.sdlc.server.project.PureModelContextDataCache;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
@@ -26,7 +29,11 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
 
 @Path("/projects/{projectId}/versions/{versionId}/pureModelContextData")
 @Api("Pure Model Context")
@@ -35,20 +42,35 @@ import javax.ws.rs.core.MediaType;
 public class VersionPureModelContextDataResource extends PureModelContextDataResource
 {
     private final EntityApi entityApi;
+    private final VersionApi versionApi;
 
     @Inject
-    protected VersionPureModelContextDataResource(EntityApi entityApi)
+    protected VersionPureModelContextDataResource(EntityApi entityApi, VersionApi versionApi, PureModelContextDataCache pureModelContextDataCache)
     {
+        super(pureModelContextDataCache);
         this.entityApi = entityApi;
+        this.versionApi = versionApi;
     }
 
     @GET
-    @ApiOperation("Get Pure model context data for a version of a project")
-    public PureModelContextData getPureModelContextData(@PathParam("projectId") String projectId, @PathParam("versionId") String versionId)
+    @ApiOperation(value = "Get Pure model context data for a version of a project", response = PureModelContextData.class)
+    public Response getPureModelContextData(@PathParam("projectId") String projectId, @PathParam("versionId") String versionId, @Context Request request)
     {
         return executeWithLogging(
                 "getting Pure model context data for version " + versionId + " of project " + projectId,
-                () -> getPureModelContextData(projectId, VersionId.parseVersionId(versionId).toVersionIdString(), this.entityApi.getVersionEntityAccessContext(projectId, versionId))
+                () ->
+                {
+                    VersionId parsedVersionId = VersionId.parseVersionId(versionId);
+                    return getVersionPureModelContextDataResponse(request, projectId, parsedVersionId,
+                            () ->
+                            {
+                                if (this.versionApi.getVersion(projectId, parsedVersionId) == null)
+                                {
+                                    throw new LegendSDLCServerException("Version " + versionId + " is unknown for project " + projectId, Status.NOT_FOUND);
+                                }
+                            },
+                            () -> this.entityApi.getVersionEntityAccessContext(projectId, versionId));
+                }
         );
     }
 }
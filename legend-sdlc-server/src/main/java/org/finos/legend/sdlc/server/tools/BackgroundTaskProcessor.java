@@ -14,32 +14,61 @@
 
 package org.finos.legend.sdlc.server.tools;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.Callable;
-import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
+/**
+ * Processor for tasks which run in the background. Tasks are run by a pool of worker threads in order of
+ * {@link Priority}, and in order of submission within a priority. Retryable tasks which must wait before their next
+ * attempt are held by a separate scheduler until they are due, so that no worker thread is occupied while a task
+ * waits to be retried.
+ */
 public class BackgroundTaskProcessor
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(BackgroundTaskProcessor.class);
 
-    private static final long DEFAULT_SLEEP_MILLIS = 100L;
+    private static final Comparator<Runnable> TASK_ORDER = Comparator.comparing((Runnable r) -> (TaskWrapper) r, Comparator.comparing((TaskWrapper t) -> t.priority).thenComparingLong(t -> t.sequenceNumber));
 
     private final AtomicInteger taskCounter = new AtomicInteger(0);
+    private final AtomicLong sequenceCounter = new AtomicLong(0L);
     private final ThreadPoolExecutor executor;
+    private final ScheduledThreadPoolExecutor retryScheduler;
+    private final Set<RetryableTaskWrapper> scheduledRetries = ConcurrentHashMap.newKeySet();
+    private final Timer queueLatencyTimer = new Timer();
+    private final Timer runTimeTimer = new Timer();
 
-    public BackgroundTaskProcessor(int threadPoolSize)
+    public BackgroundTaskProcessor(int threadPoolSize, MetricRegistry metricRegistry)
     {
         int realThreadPoolSize = Math.max(1, threadPoolSize);
-        this.executor = new ThreadPoolExecutor(realThreadPoolSize, realThreadPoolSize, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), Executors.defaultThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.executor = new ThreadPoolExecutor(realThreadPoolSize, realThreadPoolSize, 60, TimeUnit.SECONDS, new PriorityBlockingQueue<>(11, TASK_ORDER), newThreadFactory("background-task-"), new ThreadPoolExecutor.AbortPolicy());
         this.executor.allowCoreThreadTimeOut(true);
+        this.retryScheduler = new ScheduledThreadPoolExecutor(1, newThreadFactory("background-task-retry-"));
+        this.retryScheduler.setRemoveOnCancelPolicy(true);
+        if (metricRegistry != null)
+        {
+            registerMetrics(metricRegistry);
+        }
+    }
+
+    public BackgroundTaskProcessor(int threadPoolSize)
+    {
+        this(threadPoolSize, null);
     }
 
     /**
@@ -60,7 +89,20 @@ public class BackgroundTaskProcessor
      */
     public void submitTask(Task task, String description)
     {
-        submit(new SimpleTaskWrapper(task, description));
+        submitTask(task, Priority.NORMAL, description);
+    }
+
+    /**
+     * Submit a task for background execution with the given priority. Tasks with a higher priority are started before
+     * those with a lower priority.
+     *
+     * @param task        task
+     * @param priority    task priority
+     * @param description task description for logging and error messages
+     */
+    public void submitTask(Task task, Priority priority, String description)
+    {
+        submit(new SimpleTaskWrapper(task, priority, description));
     }
 
     /**
@@ -212,7 +254,62 @@ public class BackgroundTaskProcessor
      */
     public void submitRetryableTask(RetryableTask task, Predicate<? super Exception> isExceptionRetryable, long minWaitBetweenRetriesMillis, String description)
     {
-        submit(new RetryableTaskWrapper(task, isExceptionRetryable, minWaitBetweenRetriesMillis, description));
+        submitRetryableTask(task, isExceptionRetryable, minWaitBetweenRetriesMillis, Priority.NORMAL, description);
+    }
+
+    /**
+     * Submit a retryable task for background execution with the given priority.
+     * <p>
+     * When the task is run, it returns a boolean indicating whether it completed.
+     * If it did not complete (i.e., if it returns false), then the task is resubmitted.
+     * <p>
+     * When a task is resubmitted, it will wait at least {@code minWaitBetweenRetriesMillis}
+     * before the task is actually retried. No worker thread is used while the task waits.
+     * <p>
+     * If a task throws an exception, then the exception is tested with the predicate
+     * {@code isExceptionRetryable} to see if it is retryable. If it is, the task is
+     * resubmitted. If {@code isExceptionRetryable} is null, then no exceptions are
+     * deemed retryable.
+     *
+     * @param task                        retryable task
+     * @param isExceptionRetryable        predicate to test which exceptions are retryable (if null, no exceptions are retryable)
+     * @param minWaitBetweenRetriesMillis minimum time to wait between retries in milliseconds
+     * @param priority                    task priority
+     * @param description                 task description for logger and error messages
+     */
+    public void submitRetryableTask(RetryableTask task, Predicate<? super Exception> isExceptionRetryable, long minWaitBetweenRetriesMillis, Priority priority, String description)
+    {
+        submit(new RetryableTaskWrapper(task, isExceptionRetryable, minWaitBetweenRetriesMillis, priority, description));
+    }
+
+    /**
+     * Get the number of tasks waiting for a worker thread.
+     *
+     * @return number of queued tasks
+     */
+    public int getQueueDepth()
+    {
+        return this.executor.getQueue().size();
+    }
+
+    /**
+     * Get the number of retryable tasks waiting until they are due to be retried.
+     *
+     * @return number of scheduled retries
+     */
+    public int getScheduledRetryCount()
+    {
+        return this.scheduledRetries.size();
+    }
+
+    /**
+     * Get the approximate number of tasks currently running.
+     *
+     * @return number of running tasks
+     */
+    public int getActiveTaskCount()
+    {
+        return this.executor.getActiveCount();
     }
 
     /**
@@ -221,7 +318,8 @@ public class BackgroundTaskProcessor
      * <p>After calling this method, no new tasks will be accepted.
      * Previously submitted tasks are executed, though retryable
      * tasks will not longer be resubmitted if they do not complete.
-     * accepted.
+     * Retryable tasks waiting to be retried are run once more
+     * without waiting.
      *
      * <p>This method has no additional effect once the task processor
      * is shut down.
@@ -235,6 +333,18 @@ public class BackgroundTaskProcessor
         {
             LOGGER.info("Shutting down");
         }
+        this.retryScheduler.shutdownNow();
+        if (!this.executor.isShutdown())
+        {
+            // give retries which are waiting a final attempt
+            for (RetryableTaskWrapper retry : this.scheduledRetries)
+            {
+                if (this.scheduledRetries.remove(retry))
+                {
+                    retry.submitForRetry();
+                }
+            }
+        }
         this.executor.shutdown();
     }
 
@@ -279,7 +389,7 @@ public class BackgroundTaskProcessor
         LOGGER.debug("{} Submitting task", taskWrapper.logPrefix);
         try
         {
-            this.executor.submit(taskWrapper);
+            execute(taskWrapper);
         }
         catch (RejectedExecutionException e)
         {
@@ -294,9 +404,36 @@ public class BackgroundTaskProcessor
         LOGGER.debug("{} task submitted", taskWrapper.logPrefix);
     }
 
-    private boolean isQueueEmpty()
+    private void execute(TaskWrapper taskWrapper)
     {
-        return this.executor.getQueue().isEmpty();
+        taskWrapper.sequenceNumber = this.sequenceCounter.getAndIncrement();
+        taskWrapper.enqueueTime = System.nanoTime();
+        this.executor.execute(taskWrapper);
+    }
+
+    private void registerMetrics(MetricRegistry metricRegistry)
+    {
+        metricRegistry.register(MetricRegistry.name(BackgroundTaskProcessor.class, "queueDepth"), (Gauge<Integer>) this::getQueueDepth);
+        metricRegistry.register(MetricRegistry.name(BackgroundTaskProcessor.class, "scheduledRetries"), (Gauge<Integer>) this::getScheduledRetryCount);
+        metricRegistry.register(MetricRegistry.name(BackgroundTaskProcessor.class, "activeTasks"), (Gauge<Integer>) this::getActiveTaskCount);
+        metricRegistry.register(MetricRegistry.name(BackgroundTaskProcessor.class, "queueLatency"), this.queueLatencyTimer);
+        metricRegistry.register(MetricRegistry.name(BackgroundTaskProcessor.class, "runTime"), this.runTimeTimer);
+    }
+
+    private static ThreadFactory newThreadFactory(String namePrefix)
+    {
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        return r ->
+        {
+            Thread thread = new Thread(r, namePrefix + threadCounter.getAndIncrement());
+            thread.setDaemon(false);
+            return thread;
+        };
+    }
+
+    public enum Priority
+    {
+        HIGH, NORMAL, LOW
     }
 
     public interface Task
@@ -329,22 +466,42 @@ public class BackgroundTaskProcessor
         boolean run() throws Exception;
     }
 
-    private abstract class TaskWrapper implements Callable<Void>
+    private abstract class TaskWrapper implements Runnable
     {
         protected final int id;
+        protected final Priority priority;
         protected final String logPrefix;
+        private volatile long sequenceNumber;
+        private volatile long enqueueTime;
 
-        protected TaskWrapper(String description)
+        protected TaskWrapper(Priority priority, String description)
         {
             this.id = BackgroundTaskProcessor.this.taskCounter.incrementAndGet();
+            this.priority = (priority == null) ? Priority.NORMAL : priority;
             this.logPrefix = "[task " + this.id + (((description == null) || description.isEmpty()) ? "" : (": " + description)) + "]";
         }
 
         @Override
-        public Void call() throws Exception
+        public void run()
         {
-            runTask();
-            return null;
+            long start = System.nanoTime();
+            BackgroundTaskProcessor.this.queueLatencyTimer.update(start - this.enqueueTime, TimeUnit.NANOSECONDS);
+            try
+            {
+                runTask();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            catch (Exception e)
+            {
+                // already logged by the task wrapper
+            }
+            finally
+            {
+                BackgroundTaskProcessor.this.runTimeTimer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
         }
 
         @Override
@@ -360,9 +517,9 @@ public class BackgroundTaskProcessor
     {
         private final Task task;
 
-        private SimpleTaskWrapper(Task task, String description)
+        private SimpleTaskWrapper(Task task, Priority priority, String description)
         {
-            super(description);
+            super(priority, description);
             this.task = task;
         }
 
@@ -388,12 +545,11 @@ public class BackgroundTaskProcessor
         private final RetryableTask task;
         private final Predicate<? super Exception> isRetryableException;
         private final long minWaitBetweenRetriesMillis;
-        private long lastTime;
         private int tryCount = 1;
 
-        private RetryableTaskWrapper(RetryableTask task, Predicate<? super Exception> isRetryableException, long minWaitBetweenRetriesMillis, String description)
+        private RetryableTaskWrapper(RetryableTask task, Predicate<? super Exception> isRetryableException, long minWaitBetweenRetriesMillis, Priority priority, String description)
         {
-            super(description);
+            super(priority, description);
             this.task = task;
             this.isRetryableException = isRetryableException;
             this.minWaitBetweenRetriesMillis = minWaitBetweenRetriesMillis;
@@ -402,30 +558,6 @@ public class BackgroundTaskProcessor
         @Override
         protected void runTask() throws Exception
         {
-            long millisBeforeNextTry = getMillisBeforeNextTry();
-            while (millisBeforeNextTry > 0)
-            {
-                try
-                {
-                    Thread.sleep(Math.min(millisBeforeNextTry, DEFAULT_SLEEP_MILLIS));
-                }
-                catch (InterruptedException e)
-                {
-                    resubmit();
-                    throw e;
-                }
-                millisBeforeNextTry = getMillisBeforeNextTry();
-                if ((millisBeforeNextTry > DEFAULT_SLEEP_MILLIS) && !isQueueEmpty())
-                {
-                    // Let other tasks have a chance: try to resubmit, but if we fail then let the task run
-                    if (resubmit())
-                    {
-                        return;
-                    }
-                    millisBeforeNextTry = 0;
-                }
-            }
-
             LOGGER.debug("{} Starting task, attempt #{}", this.logPrefix, this.tryCount);
             boolean finished;
             try
@@ -437,7 +569,6 @@ public class BackgroundTaskProcessor
                 if (isExceptionRetryable(e))
                 {
                     LOGGER.warn("{} Retryable error occurred on attempt #{}, resubmitting", this.logPrefix, this.tryCount, e);
-                    this.lastTime = System.currentTimeMillis();
                     this.tryCount++;
                     resubmit();
                     return;
@@ -452,23 +583,11 @@ public class BackgroundTaskProcessor
             else
             {
                 LOGGER.debug("{} Task unfinished on attempt #{}, resubmitting", this.logPrefix, this.tryCount);
-                this.lastTime = System.currentTimeMillis();
                 this.tryCount++;
                 resubmit();
             }
         }
 
-        private long getMillisBeforeNextTry()
-        {
-            if ((this.tryCount <= 1) || (this.minWaitBetweenRetriesMillis <= 0) || isShutdown())
-            {
-                return 0L;
-            }
-
-            long millisSinceLastTime = (System.currentTimeMillis() - this.lastTime);
-            return this.minWaitBetweenRetriesMillis - millisSinceLastTime;
-        }
-
         private boolean isExceptionRetryable(Exception exception)
         {
             if (this.isRetryableException != null)
@@ -493,9 +612,47 @@ public class BackgroundTaskProcessor
                 return false;
             }
 
+            if (this.minWaitBetweenRetriesMillis <= 0)
+            {
+                return submitForRetry();
+            }
+
+            // wait for the retry in the scheduler rather than in a worker thread
+            BackgroundTaskProcessor.this.scheduledRetries.add(this);
+            try
+            {
+                BackgroundTaskProcessor.this.retryScheduler.schedule(this::retryIfScheduled, this.minWaitBetweenRetriesMillis, TimeUnit.MILLISECONDS);
+                return true;
+            }
+            catch (RejectedExecutionException e)
+            {
+                // the retry scheduler only rejects tasks once the processor is shutting down
+                BackgroundTaskProcessor.this.scheduledRetries.remove(this);
+                LOGGER.debug("{} Task processor is shutting down, not resubmitting", this.logPrefix);
+                return false;
+            }
+            catch (Exception e)
+            {
+                BackgroundTaskProcessor.this.scheduledRetries.remove(this);
+                LOGGER.warn("{} Error scheduling task for retry", this.logPrefix, e);
+                return false;
+            }
+        }
+
+        private void retryIfScheduled()
+        {
+            // the task may already have been submitted during shutdown
+            if (BackgroundTaskProcessor.this.scheduledRetries.remove(this))
+            {
+                submitForRetry();
+            }
+        }
+
+        private boolean submitForRetry()
+        {
             try
             {
-                BackgroundTaskProcessor.this.executor.submit(this);
+                execute(this);
                 return true;
             }
             catch (RejectedExecutionException e)
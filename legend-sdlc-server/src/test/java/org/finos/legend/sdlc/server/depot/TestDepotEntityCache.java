@@ -0,0 +1,102 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.depot;
+
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.server.depot.model.DepotProjectVersion;
+import org.finos.legend.sdlc.server.inmemory.domain.api.InMemoryEntity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestDepotEntityCache
+{
+    private static final List<Entity> ENTITIES = Collections.singletonList(InMemoryEntity.newEntity("SomeClass", "model::domain"));
+
+    @Test
+    public void testReleasedVersionIsCached()
+    {
+        DepotEntityCache cache = DepotEntityCache.newCache();
+        DepotProjectVersion projectVersion = DepotProjectVersion.newDepotProjectVersion("org.finos.legend", "some-project", "1.2.3");
+        AtomicInteger loadCount = new AtomicInteger(0);
+
+        Assert.assertEquals(ENTITIES, cache.getEntities(projectVersion, v -> load(loadCount)));
+        Assert.assertEquals(ENTITIES, cache.getEntities(projectVersion, v -> load(loadCount)));
+        Assert.assertEquals(ENTITIES, cache.getEntities(DepotProjectVersion.newDepotProjectVersion("org.finos.legend", "some-project", "1.2.3"), v -> load(loadCount)));
+        Assert.assertEquals(1, loadCount.get());
+        Assert.assertEquals(1, cache.size());
+        Assert.assertThrows(UnsupportedOperationException.class, () -> cache.getEntities(projectVersion, v -> load(loadCount)).clear());
+
+        cache.invalidateAll();
+        Assert.assertEquals(ENTITIES, cache.getEntities(projectVersion, v -> load(loadCount)));
+        Assert.assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void testSnapshotVersionIsNotCached()
+    {
+        DepotEntityCache cache = DepotEntityCache.newCache();
+        DepotProjectVersion projectVersion = DepotProjectVersion.newDepotProjectVersion("org.finos.legend", "some-project", "master-SNAPSHOT");
+        AtomicInteger loadCount = new AtomicInteger(0);
+
+        Assert.assertEquals(ENTITIES, cache.getEntities(projectVersion, v -> load(loadCount)));
+        Assert.assertEquals(ENTITIES, cache.getEntities(projectVersion, v -> load(loadCount)));
+        Assert.assertEquals(2, loadCount.get());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLoadFailureIsNotCached()
+    {
+        DepotEntityCache cache = DepotEntityCache.newCache();
+        DepotProjectVersion projectVersion = DepotProjectVersion.newDepotProjectVersion("org.finos.legend", "some-project", "1.2.3");
+
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, () -> cache.getEntities(projectVersion, v ->
+        {
+            throw new IllegalStateException("depot unavailable");
+        }));
+        Assert.assertEquals("depot unavailable", e.getMessage());
+        Assert.assertEquals(0, cache.size());
+
+        AtomicInteger loadCount = new AtomicInteger(0);
+        Assert.assertEquals(ENTITIES, cache.getEntities(projectVersion, v -> load(loadCount)));
+        Assert.assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void testConfiguredCache()
+    {
+        DepotEntityCache cache = DepotEntityCache.newCache(DepotEntityCacheConfiguration.newConfiguration(0L, 0L));
+        DepotProjectVersion projectVersion = DepotProjectVersion.newDepotProjectVersion("org.finos.legend", "some-project", "1.2.3");
+        AtomicInteger loadCount = new AtomicInteger(0);
+
+        Assert.assertEquals(ENTITIES, cache.getEntities(projectVersion, v -> load(loadCount)));
+        Assert.assertEquals(ENTITIES, cache.getEntities(projectVersion, v -> load(loadCount)));
+        Assert.assertEquals(1, loadCount.get());
+        Assert.assertEquals(1, cache.size());
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> DepotEntityCacheConfiguration.newConfiguration(-1L, null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> DepotEntityCacheConfiguration.newConfiguration(null, -1L));
+    }
+
+    private static List<Entity> load(AtomicInteger loadCount)
+    {
+        loadCount.incrementAndGet();
+        return ENTITIES;
+    }
+}
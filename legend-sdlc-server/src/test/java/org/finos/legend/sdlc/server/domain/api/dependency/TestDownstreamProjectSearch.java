@@ -23,6 +23,8 @@ import org.junit.Test;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class TestDownstreamProjectSearch
 {
@@ -114,4 +116,68 @@ public class TestDownstreamProjectSearch
         Set<ProjectRevision> downstreamProjects = this.dependenciesApi.getDownstreamProjects("A");
         Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), Iterate.collect(downstreamProjects, ProjectRevision::toProjectRevisionString, Sets.mutable.empty()));
     }
-}
\ No newline at end of file
+
+    /*
+        Path from x to y indicates that project y depends on project x
+
+        A
+         +-- B
+         +-- C
+        D
+     */
+    @Test
+    public void testWithExecutor()
+    {
+        this.backend.project("A").addVersionedClasses("1.0.0", "a1");
+        this.backend.project("B").addVersionedClasses("1.0.0", "b1");
+        this.backend.project("C").addVersionedClasses("1.0.0", "c1");
+        this.backend.project("D").addVersionedClasses("1.0.0", "d1");
+        this.backend.project("B").addDependency("A:1.0.0");
+        this.backend.project("C").addDependency("A:1.0.0");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            DependenciesApiImpl concurrentApi = new DependenciesApiImpl(this.backend.getProjectApi(), this.backend.getProjectConfigurationApi(), this.backend.getRevisionApi(), null, executor);
+            Set<ProjectRevision> downstreamProjects = concurrentApi.getDownstreamProjects("A");
+            Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), Iterate.collect(downstreamProjects, ProjectRevision::toProjectRevisionString, Sets.mutable.empty()));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /*
+        Path from x to y indicates that project y depends on project x
+
+        A
+         +-- B
+         +-- C (added after the first search)
+        D
+     */
+    @Test
+    public void testIndexFollowsCurrentRevisions()
+    {
+        this.backend.project("A").addVersionedClasses("1.0.0", "a1");
+        this.backend.project("B").addVersionedClasses("1.0.0", "b1");
+        this.backend.project("C").addVersionedClasses("1.0.0", "c1");
+        this.backend.project("D").addVersionedClasses("1.0.0", "d1");
+        this.backend.project("B").addDependency("A:1.0.0");
+
+        DownstreamDependencyIndex index = DownstreamDependencyIndex.newIndex();
+        DependenciesApiImpl indexedApi = new DependenciesApiImpl(this.backend.getProjectApi(), this.backend.getProjectConfigurationApi(), this.backend.getRevisionApi(), index, null);
+        Assert.assertEquals(Sets.mutable.with("B:rev~2"), Iterate.collect(indexedApi.getDownstreamProjects("A"), ProjectRevision::toProjectRevisionString, Sets.mutable.empty()));
+        Assert.assertEquals(3, index.size());
+        Assert.assertEquals(Sets.immutable.with("A"), index.getUpstreamProjectIds("B", "rev~2"));
+        Assert.assertEquals(Sets.immutable.empty(), index.getUpstreamProjectIds("C", "rev~1"));
+
+        // a new revision of C replaces its entry
+        this.backend.project("C").addDependency("A:1.0.0");
+        Assert.assertNull(index.getUpstreamProjectIds("C", "rev~2"));
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), Iterate.collect(indexedApi.getDownstreamProjects("A"), ProjectRevision::toProjectRevisionString, Sets.mutable.empty()));
+        Assert.assertEquals(Sets.immutable.with("A"), index.getUpstreamProjectIds("C", "rev~2"));
+        Assert.assertNull(index.getUpstreamProjectIds("C", "rev~1"));
+        Assert.assertEquals(3, index.size());
+    }
+}
@@ -24,6 +24,8 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class TestUpstreamProjectSearch
 {
@@ -117,6 +119,50 @@ public class TestUpstreamProjectSearch
         Assert.assertEquals(Sets.mutable.with("B:1.0.0", "C:1.0.0", "D:1.0.0", "E:1.0.0", "F:1.0.0"), toProjectRevisionStringSet(this.dependenciesApi.getProjectRevisionUpstreamProjects("A", revisionId("A"), true)));
     }
 
+    /*
+        Path from x to y indicates that project x depends on project y
+        x(*) refers to project x that has been defined elsewhere in the tree
+
+        A
+         +-- P0
+         |   +-- Z
+         +-- P1
+         |   +-- Z*
+         ...
+         +-- P19
+             +-- Z*
+     */
+    @Test
+    public void case4()
+    {
+        this.backend.project("A").addVersionedClasses("1.0.0", "a1");
+        this.backend.project("Z").addVersionedClasses("1.0.0", "z1");
+        MutableSet<String> expected = Sets.mutable.with("Z:1.0.0");
+        for (int i = 0; i < 20; i++)
+        {
+            String projectId = "P" + i;
+            this.backend.project(projectId).addVersionedClasses("1.0.0", "p" + i);
+            this.backend.project(projectId).addDependency("Z:1.0.0");
+            this.backend.project("A").addDependency(projectId + ":1.0.0");
+            expected.add(projectId + ":1.0.0");
+        }
+
+        Assert.assertEquals(expected.reject("Z:1.0.0"::equals), toProjectRevisionStringSet(this.dependenciesApi.getProjectRevisionUpstreamProjects("A", revisionId("A"), false)));
+        Assert.assertEquals(expected, toProjectRevisionStringSet(this.dependenciesApi.getProjectRevisionUpstreamProjects("A", revisionId("A"), true)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            DependenciesApiImpl concurrentApi = new DependenciesApiImpl(this.backend.getProjectApi(), this.backend.getProjectConfigurationApi(), this.backend.getRevisionApi(), null, executor);
+            Assert.assertEquals(expected.reject("Z:1.0.0"::equals), toProjectRevisionStringSet(concurrentApi.getProjectRevisionUpstreamProjects("A", revisionId("A"), false)));
+            Assert.assertEquals(expected, toProjectRevisionStringSet(concurrentApi.getProjectRevisionUpstreamProjects("A", revisionId("A"), true)));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
     private String revisionId(String projectId)
     {
         return this.backend.getRevisionApi().getProjectRevisionContext(projectId).getCurrentRevision().getId();
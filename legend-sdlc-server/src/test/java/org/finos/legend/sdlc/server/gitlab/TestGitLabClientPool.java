@@ -0,0 +1,72 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.gitlab;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.gitlab4j.api.Constants.TokenType;
+import org.gitlab4j.api.GitLabApi;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+
+public class TestGitLabClientPool
+{
+    private static final String GITLAB_URL = "https://gitlab.example.com";
+
+    private final GitLabClientPool pool = GitLabClientPool.newPool(GitLabConfiguration.ConnectionPoolConfiguration.newConnectionPoolConfiguration(10, 5, 60, 2, null));
+
+    @After
+    public void closePool()
+    {
+        this.pool.close();
+    }
+
+    @Test
+    public void testClientReusedForSameToken()
+    {
+        GitLabApi api1 = this.pool.getGitLabApi(GITLAB_URL, TokenType.OAUTH2_ACCESS, "token1");
+        GitLabApi api2 = this.pool.getGitLabApi(GITLAB_URL, TokenType.OAUTH2_ACCESS, "token2");
+        Assert.assertNotSame(api1, api2);
+        Assert.assertEquals("token1", api1.getAuthToken());
+        Assert.assertEquals("token2", api2.getAuthToken());
+
+        Assert.assertSame(api1, this.pool.getGitLabApi(GITLAB_URL, TokenType.OAUTH2_ACCESS, "token1"));
+        Assert.assertNotSame(api1, this.pool.getGitLabApi(GITLAB_URL, TokenType.PRIVATE, "token1"));
+        Assert.assertNotSame(api1, this.pool.getGitLabApi("https://other.example.com", TokenType.OAUTH2_ACCESS, "token1"));
+    }
+
+    @Test
+    public void testInvalidate()
+    {
+        GitLabApi api = this.pool.getGitLabApi(GITLAB_URL, TokenType.OAUTH2_ACCESS, "token");
+        this.pool.invalidate(GITLAB_URL, TokenType.OAUTH2_ACCESS, "token");
+        GitLabApi newApi = this.pool.getGitLabApi(GITLAB_URL, TokenType.OAUTH2_ACCESS, "token");
+        Assert.assertNotSame(api, newApi);
+        Assert.assertEquals("token", newApi.getAuthToken());
+    }
+
+    @Test
+    public void testApacheConnectorProperties()
+    {
+        // a proxy URI key is what makes gitlab4j install the Apache connector, which uses the shared connection manager
+        Map<String, Object> properties = this.pool.getClientConfigProperties();
+        Assert.assertTrue(properties.containsKey("jersey.config.client.proxy.uri"));
+        Assert.assertNull(properties.get("jersey.config.client.proxy.uri"));
+        Assert.assertTrue(properties.get("jersey.config.apache.client.connectionManager") instanceof PoolingHttpClientConnectionManager);
+        Assert.assertEquals(Boolean.TRUE, properties.get("jersey.config.apache.client.connectionManagerShared"));
+    }
+}
@@ -87,7 +87,7 @@ public class GitLabApiTestSetupUtil
         LegendSDLCWebFilter.setSessionAttributeOnServletRequest(httpServletRequest, session);
 
         GitLabAuthorizerManager authorizerManager = GitLabAuthorizerManager.newManager(Collections.emptyList());
-        return new GitLabUserContext(httpServletRequest, null, authorizerManager, gitLabAppInfo);
+        return new GitLabUserContext(httpServletRequest, null, authorizerManager, gitLabAppInfo, null);
     }
 
     protected static boolean hasOnlyBranchesWithNames(List<Branch> branchList, List<String> expectedNames)
@@ -0,0 +1,94 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.gitlab.api;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.ProjectFile;
+import org.finos.legend.sdlc.server.project.ProjectFileCache;
+import org.finos.legend.sdlc.server.project.ProjectFiles;
+import org.gitlab4j.api.models.Diff;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+public class TestGitLabApiWithFileAccess
+{
+    private static final MutableMap<String, String> FILES = Maps.mutable.with(
+            "/src/added.json", "added",
+            "/src/modified.json", "modified",
+            "/src/renamed_new.json", "renamed");
+
+    @Test
+    public void testNewFileDelta()
+    {
+        ProjectFileCache.FileDelta delta = GitLabApiWithFileAccess.newFileDelta(
+                Lists.mutable.with(
+                        newDiff(null, "src/added.json", true, false, false),
+                        newDiff("src/modified.json", "src/modified.json", false, false, false),
+                        newDiff("src/deleted.json", "src/deleted.json", false, true, false),
+                        newDiff("src/renamed_old.json", "src/renamed_new.json", false, false, true)),
+                TestGitLabApiWithFileAccess::getFile);
+        Assert.assertNotNull(delta);
+        Assert.assertEquals(Sets.mutable.with("/src/deleted.json", "/src/renamed_old.json"), delta.getDeletedPaths());
+        MutableMap<String, String> changedFiles = Maps.mutable.empty();
+        delta.getChangedFiles().forEachKeyValue((path, content) -> changedFiles.put(path, new String(content, StandardCharsets.UTF_8)));
+        Assert.assertEquals(FILES, changedFiles);
+    }
+
+    @Test
+    public void testNewFileDeltaEmpty()
+    {
+        ProjectFileCache.FileDelta delta = GitLabApiWithFileAccess.newFileDelta(Collections.emptyList(), TestGitLabApiWithFileAccess::getFile);
+        Assert.assertNotNull(delta);
+        Assert.assertTrue(delta.getDeletedPaths().isEmpty());
+        Assert.assertTrue(delta.getChangedFiles().isEmpty());
+    }
+
+    @Test
+    public void testNewFileDeltaIncomplete()
+    {
+        // a changed file which cannot be loaded
+        Assert.assertNull(GitLabApiWithFileAccess.newFileDelta(Lists.mutable.with(newDiff(null, "src/missing.json", true, false, false)), TestGitLabApiWithFileAccess::getFile));
+
+        // a rename without the old path
+        Assert.assertNull(GitLabApiWithFileAccess.newFileDelta(Lists.mutable.with(newDiff(null, "src/renamed_new.json", false, false, true)), TestGitLabApiWithFileAccess::getFile));
+
+        // a deletion without the old path
+        Assert.assertNull(GitLabApiWithFileAccess.newFileDelta(Lists.mutable.with(newDiff(null, null, false, true, false)), TestGitLabApiWithFileAccess::getFile));
+    }
+
+    private static ProjectFile getFile(String path)
+    {
+        String canonicalPath = path.startsWith("/") ? path : ("/" + path);
+        String content = FILES.get(canonicalPath);
+        return (content == null) ? null : ProjectFiles.newStringProjectFile(canonicalPath, content);
+    }
+
+    private static Diff newDiff(String oldPath, String newPath, boolean newFile, boolean deletedFile, boolean renamedFile)
+    {
+        Diff diff = new Diff();
+        diff.setOldPath(oldPath);
+        diff.setNewPath(newPath);
+        diff.setNewFile(newFile);
+        diff.setDeletedFile(deletedFile);
+        diff.setRenamedFile(renamedFile);
+        return diff;
+    }
+}
@@ -0,0 +1,164 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.project;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.ProjectFile;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public class TestCachingFileAccessContext
+{
+    private static final int THREAD_COUNT = 8;
+
+    @Test
+    public void testGetFiles()
+    {
+        CachingFileAccessContext context = CachingFileAccessContext.wrap(new BlockingFileAccessContext(newFiles(), null));
+        Assert.assertEquals(newFiles(), toMap(context.getFiles()));
+        Assert.assertEquals(Maps.mutable.with("/src/a.json", "a"), toMap(context.getFilesInDirectory("src")));
+        Assert.assertEquals("b", context.getFile("b.txt").getContentAsString());
+        Assert.assertNull(context.getFile("/c.txt"));
+        Assert.assertSame(context, CachingFileAccessContext.wrap(context));
+        Assert.assertNull(CachingFileAccessContext.wrap(null));
+    }
+
+    @Test
+    public void testConcurrentFillSharesOneLoad() throws Exception
+    {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingFileAccessContext delegate = new BlockingFileAccessContext(newFiles(), release);
+        CachingFileAccessContext context = CachingFileAccessContext.wrap(delegate);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try
+        {
+            MutableList<Future<MutableMap<String, String>>> futures = Lists.mutable.empty();
+            for (int i = 0; i < THREAD_COUNT; i++)
+            {
+                futures.add(executor.submit(() -> toMap(context.getFiles())));
+            }
+
+            // while the full load is blocked, individual files can still be loaded
+            Assert.assertTrue(delegate.fillStarted.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals("b", context.getFile("/b.txt").getContentAsString());
+
+            release.countDown();
+            for (Future<MutableMap<String, String>> future : futures)
+            {
+                Assert.assertEquals(newFiles(), future.get(10, TimeUnit.SECONDS));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, delegate.fillCount.get());
+    }
+
+    @Test
+    public void testFailedFillIsRetried()
+    {
+        BlockingFileAccessContext delegate = new BlockingFileAccessContext(newFiles(), null);
+        delegate.failNextFill = true;
+        CachingFileAccessContext context = CachingFileAccessContext.wrap(delegate);
+
+        RuntimeException e = Assert.assertThrows(RuntimeException.class, context::fillCache);
+        Assert.assertEquals("fill failed", e.getMessage());
+
+        Assert.assertEquals(newFiles(), toMap(context.getFiles()));
+        Assert.assertEquals(2, delegate.fillCount.get());
+    }
+
+    private static MutableMap<String, String> newFiles()
+    {
+        return Maps.mutable.with("/src/a.json", "a", "/b.txt", "b");
+    }
+
+    private static MutableMap<String, String> toMap(Stream<ProjectFile> files)
+    {
+        try (Stream<ProjectFile> stream = files)
+        {
+            MutableMap<String, String> map = Maps.mutable.empty();
+            stream.forEach(f -> map.put(f.getPath(), f.getContentAsString()));
+            return map;
+        }
+    }
+
+    private static class BlockingFileAccessContext extends AbstractFileAccessContext
+    {
+        private final MutableMap<String, String> files;
+        private final CountDownLatch release;
+        private final CountDownLatch fillStarted = new CountDownLatch(1);
+        private final AtomicInteger fillCount = new AtomicInteger();
+        private volatile boolean failNextFill = false;
+
+        private BlockingFileAccessContext(MutableMap<String, String> files, CountDownLatch release)
+        {
+            this.files = files;
+            this.release = release;
+        }
+
+        @Override
+        protected Stream<ProjectFile> getFilesInCanonicalDirectories(MutableList<String> directories)
+        {
+            this.fillCount.incrementAndGet();
+            this.fillStarted.countDown();
+            if (this.failNextFill)
+            {
+                this.failNextFill = false;
+                throw new RuntimeException("fill failed");
+            }
+            if (this.release != null)
+            {
+                try
+                {
+                    if (!this.release.await(10, TimeUnit.SECONDS))
+                    {
+                        throw new IllegalStateException("Timed out waiting for release");
+                    }
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+            return this.files.keysView().toList()
+                    .select(path -> directories.anySatisfy(path::startsWith))
+                    .collect(path -> ProjectFiles.newStringProjectFile(path, this.files.get(path)))
+                    .stream();
+        }
+
+        @Override
+        public ProjectFile getFile(String path)
+        {
+            String canonicalPath = ProjectPaths.canonicalizeFile(path);
+            String content = this.files.get(canonicalPath);
+            return (content == null) ? null : ProjectFiles.newStringProjectFile(canonicalPath, content);
+        }
+    }
+}
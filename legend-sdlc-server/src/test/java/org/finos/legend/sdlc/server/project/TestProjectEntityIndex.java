@@ -0,0 +1,130 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.project;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.FileAccessContext;
+import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.ProjectFile;
+import org.finos.legend.sdlc.server.project.config.ProjectFileCacheConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+public class TestProjectEntityIndex
+{
+    private static final String PROJECT_ID = "PROD-1";
+    private static final String COMMIT_ID = "0123456789abcdef0123456789abcdef01234567";
+
+    private static final String CLASS_JSON = "{\"classifierPath\": \"meta::pure::metamodel::type::Class\", \"content\": {\"_type\": \"class\", \"name\": \"MyClass\", \"package\": \"model::domain\", \"properties\": []}}";
+    private static final String ENUM_JSON = "{\"classifierPath\": \"meta::pure::metamodel::type::Enumeration\", \"content\": {\"_type\": \"Enumeration\", \"name\": \"MyEnum\", \"package\": \"model\", \"values\": []}}";
+
+    @Test
+    public void testBuild()
+    {
+        ProjectEntityIndex index = ProjectEntityIndex.build(new MapFileAccessContext(newFiles()));
+        Assert.assertEquals(3, index.size());
+
+        MutableMap<String, ProjectEntityIndex.Entry> entries = Maps.mutable.empty();
+        index.getEntries().forEach(e -> entries.put(e.getEntityPath(), e));
+        Assert.assertEquals(Lists.mutable.with("model::BadEntity", "model::MyEnum", "model::domain::MyClass"), entries.keysView().toSortedList());
+
+        ProjectEntityIndex.Entry classEntry = entries.get("model::domain::MyClass");
+        Assert.assertEquals("/entities/model/domain/MyClass.json", classEntry.getFilePath());
+        Assert.assertEquals("meta::pure::metamodel::type::Class", classEntry.getClassifierPath());
+        Assert.assertEquals("model::domain", classEntry.getPackage());
+        Assert.assertEquals(CLASS_JSON.getBytes(StandardCharsets.UTF_8).length, classEntry.getSize());
+        Assert.assertEquals(64, classEntry.getContentHash().length());
+        Assert.assertEquals(CLASS_JSON, classEntry.getFile().getContentAsString());
+
+        ProjectEntityIndex.Entry enumEntry = entries.get("model::MyEnum");
+        Assert.assertEquals("meta::pure::metamodel::type::Enumeration", enumEntry.getClassifierPath());
+        Assert.assertNotEquals(classEntry.getContentHash(), enumEntry.getContentHash());
+
+        // entity files whose header cannot be read are indexed without a header
+        ProjectEntityIndex.Entry badEntry = entries.get("model::BadEntity");
+        Assert.assertNull(badEntry.getHeader());
+        Assert.assertNull(badEntry.getClassifierPath());
+    }
+
+    @Test
+    public void testIndexHeldInCache()
+    {
+        ProjectFileCache cache = ProjectFileCache.newCache(ProjectFileCacheConfiguration.defaultConfiguration());
+        MapFileAccessContext delegate = new MapFileAccessContext(newFiles());
+
+        FileAccessContext first = cache.getRevisionFileAccessContext(PROJECT_ID, COMMIT_ID, () -> delegate, null);
+        ProjectEntityIndex index = ProjectEntityIndex.getEntityIndex(first);
+        Assert.assertNotNull(index);
+        Assert.assertEquals(3, index.size());
+
+        FileAccessContext second = cache.getRevisionFileAccessContext(PROJECT_ID, COMMIT_ID, () -> delegate, null);
+        Assert.assertSame(index, ProjectEntityIndex.getEntityIndex(second));
+        Assert.assertEquals(1, delegate.loadCount);
+
+        cache.invalidate(PROJECT_ID, COMMIT_ID);
+        FileAccessContext third = cache.getRevisionFileAccessContext(PROJECT_ID, COMMIT_ID, () -> delegate, null);
+        Assert.assertNotSame(index, ProjectEntityIndex.getEntityIndex(third));
+        Assert.assertEquals(2, delegate.loadCount);
+    }
+
+    @Test
+    public void testNoIndex()
+    {
+        Assert.assertNull(ProjectEntityIndex.getEntityIndex(new MapFileAccessContext(newFiles())));
+    }
+
+    private static MutableMap<String, String> newFiles()
+    {
+        return Maps.mutable.with(
+                "/entities/model/domain/MyClass.json", CLASS_JSON,
+                "/entities/model/MyEnum.json", ENUM_JSON,
+                "/entities/model/BadEntity.json", "not json",
+                "/entities/model/notes.txt", "not an entity",
+                "/README.md", "readme");
+    }
+
+    private static class MapFileAccessContext extends AbstractFileAccessContext
+    {
+        private final MutableMap<String, String> files;
+        private int loadCount = 0;
+
+        private MapFileAccessContext(MutableMap<String, String> files)
+        {
+            this.files = files;
+        }
+
+        @Override
+        protected Stream<ProjectFile> getFilesInCanonicalDirectories(MutableList<String> directories)
+        {
+            this.loadCount++;
+            return this.files.keysView().toList()
+                    .select(path -> directories.anySatisfy(path::startsWith))
+                    .collect(path -> ProjectFiles.newByteArrayProjectFile(path, this.files.get(path).getBytes(StandardCharsets.UTF_8)))
+                    .stream();
+        }
+
+        @Override
+        public ProjectFile getFile(String path)
+        {
+            String content = this.files.get(ProjectPaths.canonicalizeFile(path));
+            return (content == null) ? null : ProjectFiles.newStringProjectFile(ProjectPaths.canonicalizeFile(path), content);
+        }
+    }
+}
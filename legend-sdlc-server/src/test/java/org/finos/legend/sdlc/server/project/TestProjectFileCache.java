@@ -0,0 +1,292 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.project;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.sdlc.domain.model.project.workspace.WorkspaceType;
+import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.FileAccessContext;
+import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.ProjectFile;
+import org.finos.legend.sdlc.server.project.ProjectFileAccessProvider.WorkspaceAccessType;
+import org.finos.legend.sdlc.server.project.config.ProjectFileCacheConfiguration;
+import org.finos.legend.sdlc.server.project.config.ProjectSnapshotStoreConfiguration;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public class TestProjectFileCache
+{
+    private static final String PROJECT_ID = "PROD-1";
+    private static final String COMMIT_ID = "0123456789abcdef0123456789abcdef01234567";
+    private static final String OTHER_COMMIT_ID = "89abcdef0123456789abcdef0123456789abcdef";
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testIsCommitId()
+    {
+        Assert.assertTrue(ProjectFileCache.isCommitId(COMMIT_ID));
+        Assert.assertTrue(ProjectFileCache.isCommitId(COMMIT_ID.toUpperCase()));
+        Assert.assertFalse(ProjectFileCache.isCommitId(null));
+        Assert.assertFalse(ProjectFileCache.isCommitId("master"));
+        Assert.assertFalse(ProjectFileCache.isCommitId("HEAD"));
+        Assert.assertFalse(ProjectFileCache.isCommitId(COMMIT_ID.substring(0, 8)));
+        Assert.assertFalse(ProjectFileCache.isCommitId(COMMIT_ID + "0"));
+    }
+
+    @Test
+    public void testHitAndMiss()
+    {
+        ProjectFileCache cache = ProjectFileCache.newCache(ProjectFileCacheConfiguration.defaultConfiguration());
+        CountingFileAccessContext delegate = new CountingFileAccessContext(newFiles());
+        AtomicInteger validations = new AtomicInteger();
+
+        FileAccessContext first = cache.getRevisionFileAccessContext(PROJECT_ID, COMMIT_ID, () -> delegate, validations::incrementAndGet);
+        Assert.assertNotNull(first);
+        Assert.assertEquals(newFiles(), toMap(first.getFiles()));
+        Assert.assertEquals(1, delegate.loadCount.get());
+        Assert.assertEquals(0, validations.get());
+        Assert.assertEquals(1L, cache.size());
+
+        FileAccessContext second = cache.getRevisionFileAccessContext(PROJECT_ID, COMMIT_ID.toUpperCase(), () -> delegate, validations::incrementAndGet);
+        Assert.assertEquals(newFiles(), toMap(second.getFiles()));
+        Assert.assertEquals(Maps.mutable.with("/src/a.json", "a"), toMap(second.getFilesInDirectory("src")));
+        Assert.assertEquals("b", second.getFile("/b.txt").getContentAsString());
+        Assert.assertTrue(second.fileExists("src/a.json"));
+        Assert.assertFalse(second.fileExists("src/c.json"));
+        Assert.assertEquals(1, delegate.loadCount.get());
+        Assert.assertEquals(1, validations.get());
+    }
+
+    @Test
+    public void testNonCommitRevisionNotCached()
+    {
+        ProjectFileCache cache = ProjectFileCache.newCache(ProjectFileCacheConfiguration.defaultConfiguration());
+        CountingFileAccessContext delegate = new CountingFileAccessContext(newFiles());
+        Assert.assertNull(cache.getRevisionFileAccessContext(PROJECT_ID, "master", () -> delegate, null));
+        Assert.assertNull(cache.getRevisionFileAccessContext(PROJECT_ID, null, () -> delegate, null));
+        Assert.assertEquals(0L, cache.size());
+    }
+
+    @Test
+    public void testDisabled()
+    {
+        ProjectFileCache cache = ProjectFileCache.disabledCache();
+        Assert.assertFalse(cache.isEnabled());
+        Assert.assertNull(cache.getRevisionFileAccessContext(PROJECT_ID, COMMIT_ID, () -> new CountingFileAccessContext(newFiles()), null));
+        Assert.assertNull(cache.getVersionFileAccessContext(PROJECT_ID, VersionId.newVersionId(1, 0, 0), () -> new CountingFileAccessContext(newFiles()), null));
+    }
+
+    @Test
+    public void testAccessValidationFailure()
+    {
+        ProjectFileCache cache = ProjectFileCache.newCache(ProjectFileCacheConfiguration.defaultConfiguration());
+        CountingFileAccessContext delegate = new CountingFileAccessContext(newFiles());
+        cache.getVersionFileAccessContext(PROJECT_ID, VersionId.newVersionId(1, 2, 3), () -> delegate, null).getFiles().close();
+        Assert.assertEquals(1, delegate.loadCount.get());
+
+        FileAccessContext context = cache.getVersionFileAccessContext(PROJECT_ID, VersionId.newVersionId(1, 2, 3), () -> delegate, () ->
+        {
+            throw new IllegalStateException("no access");
+        });
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, context::getFiles);
+        Assert.assertEquals("no access", e.getMessage());
+        Assert.assertThrows(IllegalStateException.class, () -> context.getFile("/b.txt"));
+        Assert.assertEquals(1, delegate.loadCount.get());
+    }
+
+    @Test
+    public void testInvalidate()
+    {
+        ProjectFileCache cache = ProjectFileCache.newCache(ProjectFileCacheConfiguration.defaultConfiguration());
+        CountingFileAccessContext delegate = new CountingFileAccessContext(newFiles());
+        cache.getRevisionFileAccessContext(PROJECT_ID, COMMIT_ID, () -> delegate, null).getFiles().close();
+        cache.getRevisionFileAccessContext(PROJECT_ID, OTHER_COMMIT_ID, () -> delegate, null).getFiles().close();
+        Assert.assertEquals(2L, cache.size());
+
+        cache.invalidate(PROJECT_ID, COMMIT_ID);
+        Assert.assertEquals(1L, cache.size());
+
+        cache.invalidateAll();
+        Assert.assertEquals(0L, cache.size());
+    }
+
+    @Test
+    public void testEvictionByEntries()
+    {
+        ProjectFileCache cache = ProjectFileCache.newCache(ProjectFileCacheConfiguration.newConfiguration(true, 1L, 0L, null));
+        CountingFileAccessContext delegate = new CountingFileAccessContext(newFiles());
+        cache.getRevisionFileAccessContext(PROJECT_ID, COMMIT_ID, () -> delegate, null).getFiles().close();
+        cache.getRevisionFileAccessContext(PROJECT_ID, OTHER_COMMIT_ID, () -> delegate, null).getFiles().close();
+        Assert.assertEquals(1L, cache.size());
+
+        cache.getRevisionFileAccessContext(PROJECT_ID, COMMIT_ID, () -> delegate, null).getFiles().close();
+        Assert.assertEquals(3, delegate.loadCount.get());
+    }
+
+    @Test
+    public void testEvictionBySize()
+    {
+        // each entry is 2 bytes, so only one fits
+        ProjectFileCache cache = ProjectFileCache.newCache(ProjectFileCacheConfiguration.newConfiguration(true, null, 3L, null));
+        CountingFileAccessContext delegate = new CountingFileAccessContext(newFiles());
+        cache.getRevisionFileAccessContext(PROJECT_ID, COMMIT_ID, () -> delegate, null).getFiles().close();
+        cache.getRevisionFileAccessContext(PROJECT_ID, OTHER_COMMIT_ID, () -> delegate, null).getFiles().close();
+        Assert.assertEquals(1L, cache.size());
+    }
+
+    @Test
+    public void testIncrementalWorkspaceLoading()
+    {
+        ProjectFileCache cache = ProjectFileCache.newCache(ProjectFileCacheConfiguration.newConfiguration(true, null, null, null, null, true));
+        Assert.assertTrue(cache.isIncrementalWorkspaceLoadingEnabled());
+        CountingFileAccessContext delegate = new CountingFileAccessContext(newFiles());
+        AtomicInteger deltaCount = new AtomicInteger();
+
+        FileAccessContext first = cache.getWorkspaceRevisionFileAccessContext(PROJECT_ID, "ws", WorkspaceType.USER, WorkspaceAccessType.WORKSPACE, COMMIT_ID, () -> delegate, r ->
+        {
+            deltaCount.incrementAndGet();
+            return null;
+        }, null);
+        Assert.assertEquals(newFiles(), toMap(first.getFiles()));
+        Assert.assertEquals(1, delegate.loadCount.get());
+        Assert.assertEquals(0, deltaCount.get());
+
+        FileAccessContext second = cache.getWorkspaceRevisionFileAccessContext(PROJECT_ID, "ws", WorkspaceType.USER, WorkspaceAccessType.WORKSPACE, OTHER_COMMIT_ID, () -> delegate, r ->
+        {
+            Assert.assertEquals(COMMIT_ID, r);
+            deltaCount.incrementAndGet();
+            return ProjectFileCache.FileDelta.newFileDelta(
+                    Lists.fixedSize.with("b.txt"),
+                    Lists.fixedSize.with(ProjectFiles.newStringProjectFile("src/c.json", "c"), ProjectFiles.newStringProjectFile("/src/a.json", "aa")));
+        }, null);
+        Assert.assertEquals(Maps.mutable.with("/src/a.json", "aa", "/src/c.json", "c"), toMap(second.getFiles()));
+        Assert.assertEquals(1, delegate.loadCount.get());
+        Assert.assertEquals(1, deltaCount.get());
+
+        // the previous revision is still available
+        Assert.assertEquals(newFiles(), toMap(cache.getRevisionFileAccessContext(PROJECT_ID, COMMIT_ID, () -> delegate, null).getFiles()));
+
+        // a different workspace does not use the delta
+        FileAccessContext other = cache.getWorkspaceRevisionFileAccessContext(PROJECT_ID, "ws2", WorkspaceType.USER, WorkspaceAccessType.WORKSPACE, "fedcba9876543210fedcba9876543210fedcba98", () -> delegate, r ->
+        {
+            throw new AssertionError("unexpected delta for " + r);
+        }, null);
+        Assert.assertEquals(newFiles(), toMap(other.getFiles()));
+        Assert.assertEquals(2, delegate.loadCount.get());
+    }
+
+    @Test
+    public void testIncrementalWorkspaceLoadingNotPersisted() throws IOException
+    {
+        Path directory = this.tempFolder.newFolder().toPath();
+        ProjectFileCache cache = ProjectFileCache.newCache(ProjectFileCacheConfiguration.newConfiguration(true, null, null, null, ProjectSnapshotStoreConfiguration.newConfiguration(directory.toString(), null), true));
+        CountingFileAccessContext delegate = new CountingFileAccessContext(newFiles());
+
+        cache.getWorkspaceRevisionFileAccessContext(PROJECT_ID, "ws", WorkspaceType.USER, WorkspaceAccessType.WORKSPACE, COMMIT_ID, () -> delegate, r -> null, null).getFiles().close();
+        cache.getWorkspaceRevisionFileAccessContext(PROJECT_ID, "ws", WorkspaceType.USER, WorkspaceAccessType.WORKSPACE, OTHER_COMMIT_ID, () -> delegate, r -> ProjectFileCache.FileDelta.newFileDelta(
+                Lists.fixedSize.with("b.txt"),
+                Lists.fixedSize.empty()), null).getFiles().close();
+        Assert.assertEquals(1, delegate.loadCount.get());
+
+        // only the fully loaded revision is persisted
+        ProjectSnapshotStore store = ProjectSnapshotStore.newStore(directory, null);
+        Assert.assertNotNull(store.readRevision(PROJECT_ID, COMMIT_ID));
+        Assert.assertNull(store.readRevision(PROJECT_ID, OTHER_COMMIT_ID));
+    }
+
+    @Test
+    public void testIncrementalWorkspaceLoadingDisabled()
+    {
+        ProjectFileCache cache = ProjectFileCache.newCache(ProjectFileCacheConfiguration.defaultConfiguration());
+        Assert.assertFalse(cache.isIncrementalWorkspaceLoadingEnabled());
+        CountingFileAccessContext delegate = new CountingFileAccessContext(newFiles());
+        cache.getWorkspaceRevisionFileAccessContext(PROJECT_ID, "ws", WorkspaceType.USER, WorkspaceAccessType.WORKSPACE, COMMIT_ID, () -> delegate, null, null).getFiles().close();
+        cache.getWorkspaceRevisionFileAccessContext(PROJECT_ID, "ws", WorkspaceType.USER, WorkspaceAccessType.WORKSPACE, OTHER_COMMIT_ID, () -> delegate, r ->
+        {
+            throw new AssertionError("unexpected delta for " + r);
+        }, null).getFiles().close();
+        Assert.assertEquals(2, delegate.loadCount.get());
+    }
+
+    @Test
+    public void testCachingProjectFileAccessProvider()
+    {
+        ProjectFileCache cache = ProjectFileCache.newCache(ProjectFileCacheConfiguration.defaultConfiguration());
+        Assert.assertNull(CachingProjectFileAccessProvider.wrap(null, cache, null));
+
+        InMemoryProjectFileAccessProvider inMemoryProvider = new InMemoryProjectFileAccessProvider("author", "committer");
+        Assert.assertSame(inMemoryProvider, CachingProjectFileAccessProvider.wrap(inMemoryProvider, null, null));
+        Assert.assertSame(inMemoryProvider, CachingProjectFileAccessProvider.wrap(inMemoryProvider, ProjectFileCache.disabledCache(), null));
+
+        ProjectFileAccessProvider wrapped = CachingProjectFileAccessProvider.wrap(inMemoryProvider, cache, null);
+        Assert.assertTrue(wrapped instanceof CachingProjectFileAccessProvider);
+        Assert.assertSame(wrapped, CachingProjectFileAccessProvider.wrap(wrapped, cache, null));
+    }
+
+    private static MutableMap<String, String> newFiles()
+    {
+        return Maps.mutable.with("/src/a.json", "a", "/b.txt", "b");
+    }
+
+    private static MutableMap<String, String> toMap(Stream<ProjectFile> files)
+    {
+        try (Stream<ProjectFile> stream = files)
+        {
+            MutableMap<String, String> map = Maps.mutable.empty();
+            stream.forEach(f -> map.put(f.getPath(), f.getContentAsString()));
+            return map;
+        }
+    }
+
+    private static class CountingFileAccessContext extends AbstractFileAccessContext
+    {
+        private final MutableMap<String, String> files;
+        private final AtomicInteger loadCount = new AtomicInteger();
+
+        private CountingFileAccessContext(MutableMap<String, String> files)
+        {
+            this.files = files;
+        }
+
+        @Override
+        protected Stream<ProjectFile> getFilesInCanonicalDirectories(MutableList<String> directories)
+        {
+            this.loadCount.incrementAndGet();
+            return this.files.keysView().toList()
+                    .select(path -> directories.anySatisfy(path::startsWith))
+                    .collect(path -> ProjectFiles.newByteArrayProjectFile(path, this.files.get(path).getBytes(StandardCharsets.UTF_8)))
+                    .stream();
+        }
+
+        @Override
+        public ProjectFile getFile(String path)
+        {
+            String content = this.files.get(ProjectPaths.canonicalizeFile(path));
+            return (content == null) ? null : ProjectFiles.newStringProjectFile(ProjectPaths.canonicalizeFile(path), content);
+        }
+    }
+}
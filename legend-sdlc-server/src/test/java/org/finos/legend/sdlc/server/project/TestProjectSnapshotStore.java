@@ -0,0 +1,118 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.project;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+public class TestProjectSnapshotStore
+{
+    private static final String PROJECT_ID = "PROD-1";
+    private static final String COMMIT_ID = "0123456789abcdef0123456789abcdef01234567";
+    private static final String OTHER_COMMIT_ID = "89abcdef0123456789abcdef0123456789abcdef";
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testReadWrite() throws IOException
+    {
+        Path directory = this.tempFolder.newFolder().toPath();
+        ProjectSnapshotStore store = ProjectSnapshotStore.newStore(directory, null);
+
+        Assert.assertNull(store.readRevision(PROJECT_ID, COMMIT_ID));
+        Assert.assertNull(store.readVersion(PROJECT_ID, VersionId.newVersionId(1, 0, 0)));
+
+        store.writeRevision(PROJECT_ID, COMMIT_ID, newFiles("a"));
+        store.writeVersion(PROJECT_ID, VersionId.newVersionId(1, 0, 0), newFiles("b"));
+        assertFiles(newFiles("a"), store.readRevision(PROJECT_ID, COMMIT_ID));
+        assertFiles(newFiles("a"), store.readRevision(PROJECT_ID, COMMIT_ID.toUpperCase()));
+        assertFiles(newFiles("b"), store.readVersion(PROJECT_ID, VersionId.newVersionId(1, 0, 0)));
+        Assert.assertNull(store.readRevision(PROJECT_ID, OTHER_COMMIT_ID));
+        Assert.assertNull(store.readRevision("PROD-2", COMMIT_ID));
+
+        // snapshots are immutable, so a second write is ignored
+        store.writeRevision(PROJECT_ID, COMMIT_ID, newFiles("c"));
+        assertFiles(newFiles("a"), store.readRevision(PROJECT_ID, COMMIT_ID));
+
+        // the store survives being recreated
+        assertFiles(newFiles("a"), ProjectSnapshotStore.newStore(directory, null).readRevision(PROJECT_ID, COMMIT_ID));
+
+        // no temporary files are left behind
+        try (Stream<Path> stream = Files.walk(directory))
+        {
+            Assert.assertEquals(0L, stream.filter(p -> p.getFileName().toString().endsWith(".tmp")).count());
+        }
+    }
+
+    @Test
+    public void testInvalidRevisionId() throws IOException
+    {
+        ProjectSnapshotStore store = ProjectSnapshotStore.newStore(this.tempFolder.newFolder().toPath(), null);
+        Assert.assertThrows(IllegalArgumentException.class, () -> store.readRevision(PROJECT_ID, "master"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> store.writeRevision(PROJECT_ID, "../" + COMMIT_ID, newFiles("a")));
+    }
+
+    @Test
+    public void testCorruptSnapshot() throws IOException
+    {
+        Path directory = this.tempFolder.newFolder().toPath();
+        ProjectSnapshotStore store = ProjectSnapshotStore.newStore(directory, null);
+        store.writeRevision(PROJECT_ID, COMMIT_ID, newFiles("a"));
+        try (Stream<Path> stream = Files.walk(directory))
+        {
+            Path snapshot = stream.filter(p -> p.getFileName().toString().endsWith(".zip")).findAny().orElseThrow(AssertionError::new);
+            Files.write(snapshot, "not a zip file".getBytes(StandardCharsets.UTF_8));
+        }
+        Assert.assertNull(store.readRevision(PROJECT_ID, COMMIT_ID));
+
+        store.writeRevision(PROJECT_ID, COMMIT_ID, newFiles("a"));
+        assertFiles(newFiles("a"), store.readRevision(PROJECT_ID, COMMIT_ID));
+    }
+
+    @Test
+    public void testPrune() throws IOException
+    {
+        Path directory = this.tempFolder.newFolder().toPath();
+        ProjectSnapshotStore store = ProjectSnapshotStore.newStore(directory, 1L);
+        store.writeRevision(PROJECT_ID, COMMIT_ID, newFiles("a"));
+        Assert.assertNull(store.readRevision(PROJECT_ID, COMMIT_ID));
+    }
+
+    private static MutableMap<String, byte[]> newFiles(String content)
+    {
+        return Maps.mutable.with(
+                "/src/a.json", content.getBytes(StandardCharsets.UTF_8),
+                "/b.txt", ("b" + content).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertFiles(MutableMap<String, byte[]> expected, MutableMap<String, byte[]> actual)
+    {
+        Assert.assertNotNull(actual);
+        Assert.assertEquals(expected.keysView().toSortedList(), actual.keysView().toSortedList());
+        expected.forEachKeyValue((path, bytes) -> Assert.assertArrayEquals(path, bytes, actual.get(path)));
+    }
+}
@@ -0,0 +1,184 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.project;
+
+import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.server.project.PureModelContextDataCache.CachedPureModelContextData;
+import org.finos.legend.sdlc.server.project.config.PureModelContextDataCacheConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestPureModelContextDataCache
+{
+    private static final String PROJECT_ID = "PROD-1";
+    private static final String COMMIT_ID = "0123456789abcdef0123456789abcdef01234567";
+    private static final String JSON = "{\"_type\":\"data\",\"elements\":[]}";
+
+    @Test
+    public void testHitAndMiss() throws IOException
+    {
+        PureModelContextDataCache cache = PureModelContextDataCache.newCache(PureModelContextDataCacheConfiguration.defaultConfiguration());
+        CountingWriter writer = new CountingWriter(JSON);
+
+        Assert.assertNull(cache.getRevision(PROJECT_ID, COMMIT_ID));
+        Assert.assertEquals(JSON, write(cache.cacheRevision(PROJECT_ID, COMMIT_ID, writer)));
+        Assert.assertEquals(1, writer.writeCount.get());
+        Assert.assertEquals(1L, cache.size());
+
+        CachedPureModelContextData first = cache.getRevision(PROJECT_ID, COMMIT_ID);
+        Assert.assertNotNull(first);
+        Assert.assertFalse(first.isCompressed());
+        Assert.assertEquals(JSON, toString(first));
+
+        CachedPureModelContextData second = cache.getRevision(PROJECT_ID, COMMIT_ID);
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, writer.writeCount.get());
+
+        VersionId versionId = VersionId.newVersionId(1, 2, 3);
+        Assert.assertNull(cache.getVersion(PROJECT_ID, versionId));
+        Assert.assertEquals(JSON, write(cache.cacheVersion(PROJECT_ID, versionId, writer)));
+        CachedPureModelContextData version = cache.getVersion(PROJECT_ID, versionId);
+        Assert.assertNotSame(first, version);
+        Assert.assertEquals(first.getHash(), version.getHash());
+        Assert.assertEquals(2, writer.writeCount.get());
+        Assert.assertEquals(2L, cache.size());
+
+        write(cache.cacheRevision("PROD-2", COMMIT_ID, new CountingWriter(JSON + " ")));
+        Assert.assertNotEquals(first.getHash(), cache.getRevision("PROD-2", COMMIT_ID).getHash());
+    }
+
+    @Test
+    public void testWriteFailureNotCached()
+    {
+        PureModelContextDataCache cache = PureModelContextDataCache.newCache(PureModelContextDataCacheConfiguration.defaultConfiguration());
+        PureModelContextDataCache.ContentWriter writer = cache.cacheRevision(PROJECT_ID, COMMIT_ID, stream ->
+        {
+            stream.write(JSON.getBytes(StandardCharsets.UTF_8), 0, 10);
+            throw new IOException("write failed");
+        });
+        IOException e = Assert.assertThrows(IOException.class, () -> write(writer));
+        Assert.assertEquals("write failed", e.getMessage());
+        Assert.assertEquals(0L, cache.size());
+        Assert.assertNull(cache.getRevision(PROJECT_ID, COMMIT_ID));
+    }
+
+    @Test
+    public void testStreamedWhileCaching() throws IOException
+    {
+        PureModelContextDataCache cache = PureModelContextDataCache.newCache(PureModelContextDataCacheConfiguration.defaultConfiguration());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        cache.cacheRevision(PROJECT_ID, COMMIT_ID, stream ->
+        {
+            stream.write(JSON.getBytes(StandardCharsets.UTF_8), 0, 10);
+            // the data is sent as it is written, and only cached once it is complete
+            Assert.assertEquals(JSON.substring(0, 10), new String(output.toByteArray(), StandardCharsets.UTF_8));
+            Assert.assertEquals(0L, cache.size());
+            stream.write(JSON.substring(10).getBytes(StandardCharsets.UTF_8));
+        }).write(output);
+        Assert.assertEquals(JSON, new String(output.toByteArray(), StandardCharsets.UTF_8));
+        Assert.assertEquals(JSON, toString(cache.getRevision(PROJECT_ID, COMMIT_ID)));
+    }
+
+    @Test
+    public void testOversizeEntryNotCached() throws IOException
+    {
+        PureModelContextDataCache cache = PureModelContextDataCache.newCache(PureModelContextDataCacheConfiguration.newConfiguration(true, null, null, (long) JSON.length(), null, false));
+        Assert.assertEquals(JSON, write(cache.cacheVersion(PROJECT_ID, VersionId.newVersionId(1, 0, 0), new CountingWriter(JSON))));
+        Assert.assertNotNull(cache.getVersion(PROJECT_ID, VersionId.newVersionId(1, 0, 0)));
+
+        String largeJson = JSON + "    ";
+        Assert.assertEquals(largeJson, write(cache.cacheVersion(PROJECT_ID, VersionId.newVersionId(2, 0, 0), new CountingWriter(largeJson))));
+        Assert.assertNull(cache.getVersion(PROJECT_ID, VersionId.newVersionId(2, 0, 0)));
+        Assert.assertEquals(1L, cache.size());
+    }
+
+    @Test
+    public void testCompressed() throws IOException
+    {
+        PureModelContextDataCache cache = PureModelContextDataCache.newCache(PureModelContextDataCacheConfiguration.newConfiguration(true, null, null, null, null, true));
+        Assert.assertEquals(JSON, write(cache.cacheVersion(PROJECT_ID, VersionId.newVersionId(1, 0, 0), new CountingWriter(JSON))));
+        CachedPureModelContextData data = cache.getVersion(PROJECT_ID, VersionId.newVersionId(1, 0, 0));
+        Assert.assertTrue(data.isCompressed());
+        Assert.assertEquals(JSON, toString(data));
+
+        PureModelContextDataCache uncompressedCache = PureModelContextDataCache.newCache(PureModelContextDataCacheConfiguration.defaultConfiguration());
+        write(uncompressedCache.cacheVersion(PROJECT_ID, VersionId.newVersionId(1, 0, 0), new CountingWriter(JSON)));
+        CachedPureModelContextData uncompressed = uncompressedCache.getVersion(PROJECT_ID, VersionId.newVersionId(1, 0, 0));
+        Assert.assertFalse(uncompressed.isCompressed());
+        Assert.assertEquals(uncompressed.getHash(), data.getHash());
+    }
+
+    @Test
+    public void testNonCommitRevisionNotCached() throws IOException
+    {
+        PureModelContextDataCache cache = PureModelContextDataCache.newCache(PureModelContextDataCacheConfiguration.defaultConfiguration());
+        CountingWriter writer = new CountingWriter(JSON);
+        Assert.assertSame(writer, cache.cacheRevision(PROJECT_ID, "latest", writer));
+        Assert.assertSame(writer, cache.cacheRevision(PROJECT_ID, null, writer));
+        write(cache.cacheRevision(PROJECT_ID, "latest", writer));
+        Assert.assertNull(cache.getRevision(PROJECT_ID, "latest"));
+        Assert.assertEquals(0L, cache.size());
+    }
+
+    @Test
+    public void testDisabled()
+    {
+        PureModelContextDataCache cache = PureModelContextDataCache.disabledCache();
+        Assert.assertFalse(cache.isEnabled());
+        CountingWriter writer = new CountingWriter(JSON);
+        Assert.assertSame(writer, cache.cacheRevision(PROJECT_ID, COMMIT_ID, writer));
+        Assert.assertSame(writer, cache.cacheVersion(PROJECT_ID, VersionId.newVersionId(1, 0, 0), writer));
+        Assert.assertNull(cache.getRevision(PROJECT_ID, COMMIT_ID));
+        Assert.assertNull(cache.getVersion(PROJECT_ID, VersionId.newVersionId(1, 0, 0)));
+    }
+
+    private static String write(PureModelContextDataCache.ContentWriter writer) throws IOException
+    {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        writer.write(stream);
+        return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String toString(CachedPureModelContextData data) throws IOException
+    {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        data.writeTo(stream);
+        return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static class CountingWriter implements PureModelContextDataCache.ContentWriter
+    {
+        private final byte[] content;
+        private final AtomicInteger writeCount = new AtomicInteger();
+
+        private CountingWriter(String content)
+        {
+            this.content = content.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void write(OutputStream stream) throws IOException
+        {
+            this.writeCount.incrementAndGet();
+            stream.write(this.content);
+        }
+    }
+}
@@ -14,7 +14,9 @@
 
 package org.finos.legend.sdlc.server.resources;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.client.HttpResponseException;
+import org.eclipse.collections.api.factory.Lists;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.domain.model.project.workspace.Workspace;
 import org.finos.legend.sdlc.domain.model.project.workspace.WorkspaceType;
@@ -122,6 +124,41 @@ public class TestWorkspaceEntitiesResource extends AbstractLegendSDLCServerResou
         Assert.assertEquals(entityPackageName + EntityPaths.PACKAGE_SEPARATOR + entityTwoName, entityTwo.getPath());
     }
 
+    @Test
+    public void testStreamUserWorkspaceEntities() throws Exception
+    {
+        String projectId = "A";
+        String workspaceOneId = "entityw5";
+        String entityOneName = "testentityone";
+        String entityTwoName = "testentitytwo";
+        String entityPackageName = "testpkg";
+
+        this.backend.project(projectId).addEntities(workspaceOneId, InMemoryEntity.newEntity(entityOneName, entityPackageName), InMemoryEntity.newEntity(entityTwoName, entityPackageName));
+
+        Response response = this.clientFor("/api/projects/A/workspaces/entityw5/entities").request("application/x-ndjson").get();
+
+        if (response.getStatus() != 200)
+        {
+            throw new HttpResponseException(response.getStatus(), "Error during streaming entities in user workspace with status: " + response.getStatus() + ", entity: " + response.readEntity(String.class));
+        }
+        Assert.assertEquals("application/x-ndjson", response.getMediaType().getType() + "/" + response.getMediaType().getSubtype());
+
+        String content = response.readEntity(String.class);
+        Assert.assertTrue(content, content.endsWith("\n"));
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Entity> entities = Lists.mutable.empty();
+        for (String line : content.split("\n"))
+        {
+            entities.add(objectMapper.readValue(line, InMemoryEntity.class));
+        }
+
+        Assert.assertEquals(2, entities.size());
+        Entity entityOne = findEntity(entities, entityOneName, entityPackageName);
+        Entity entityTwo = findEntity(entities, entityTwoName, entityPackageName);
+        Assert.assertEquals(entityPackageName + EntityPaths.PACKAGE_SEPARATOR + entityOneName, entityOne.getPath());
+        Assert.assertEquals(entityPackageName + EntityPaths.PACKAGE_SEPARATOR + entityTwoName, entityTwo.getPath());
+    }
+
     @Test
     public void testGetAndUpdateUserWorkspaceEntity() throws HttpResponseException
     {
@@ -19,6 +19,10 @@ import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -79,4 +83,61 @@ public class TestBackgroundTaskProcessor
         Assert.assertTrue(latch.await(2, TimeUnit.SECONDS));
         Assert.assertEquals(expected, i.get());
     }
+
+    @Test
+    public void testRetryWaitDoesNotBlockOtherTasks() throws Exception
+    {
+        AtomicInteger i = new AtomicInteger(0);
+        CountDownLatch retryLatch = new CountDownLatch(1);
+        backgroundTaskProcessor.submitRetryableTask(() ->
+        {
+            if (i.incrementAndGet() < 2)
+            {
+                return false;
+            }
+            retryLatch.countDown();
+            return true;
+        }, 1000L, "test slow retryable task");
+
+        // while the retryable task waits, other tasks should still run
+        CountDownLatch latch = new CountDownLatch(1);
+        backgroundTaskProcessor.submitTask(latch::countDown, "test task");
+        Assert.assertTrue(latch.await(500, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1L, retryLatch.getCount());
+
+        Assert.assertTrue(retryLatch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(2, i.get());
+    }
+
+    @Test
+    public void testPriority() throws Exception
+    {
+        // occupy the single worker thread so that the following tasks are queued
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        backgroundTaskProcessor.submitTask(() ->
+        {
+            startedLatch.countDown();
+            blockingLatch.await();
+        }, "test blocking task");
+        Assert.assertTrue(startedLatch.await(2, TimeUnit.SECONDS));
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(4);
+        backgroundTaskProcessor.submitTask(() -> record(order, "low", latch), BackgroundTaskProcessor.Priority.LOW, "test low priority task");
+        backgroundTaskProcessor.submitTask(() -> record(order, "normal1", latch), "test normal priority task 1");
+        backgroundTaskProcessor.submitTask(() -> record(order, "high", latch), BackgroundTaskProcessor.Priority.HIGH, "test high priority task");
+        backgroundTaskProcessor.submitTask(() -> record(order, "normal2", latch), "test normal priority task 2");
+        Assert.assertEquals(4, backgroundTaskProcessor.getQueueDepth());
+
+        blockingLatch.countDown();
+        Assert.assertTrue(latch.await(2, TimeUnit.SECONDS));
+        Assert.assertEquals(Arrays.asList("high", "normal1", "normal2", "low"), order);
+    }
+
+    private static void record(List<String> order, String name, CountDownLatch latch)
+    {
+        order.add(name);
+        latch.countDown();
+    }
 }
@@ -22,6 +22,7 @@ import org.finos.legend.sdlc.tools.entity.EntityPaths;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -31,7 +32,10 @@ import java.util.Collections;
 import java.util.Formatter;
 import java.util.List;
 import java.util.Map;
-import java.util.function.BiConsumer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 public class EntityValidator
@@ -50,11 +54,82 @@ public class EntityValidator
         return validateEntities(Arrays.asList(directories));
     }
 
+    /**
+     * Validate the entities in the given directories sequentially. To validate them in parallel, use
+     * {@link #validateEntities(Iterable, int, int, Consumer)}.
+     *
+     * @param directories directories to validate
+     * @return validation report
+     * @throws IOException if an error occurs reading entity files
+     */
     public static ValidationReport validateEntities(Iterable<? extends Path> directories) throws IOException
     {
-        List<String> violations = new ArrayList<>();
-        int entityCount = forEachEntity(directories, EntityValidator::validateEntity, violations::add);
-        return new ValidationReport(entityCount, violations);
+        return validateEntities(directories, 1, 0, null);
+    }
+
+    /**
+     * Validate the entities in the given directories. Entity files are read and validated using up to parallelism
+     * threads. Each violation is passed to violationConsumer (if it is non-null) as soon as it is found; the consumer
+     * is never called concurrently, but when parallelism is greater than 1 the order in which it receives violations
+     * is not deterministic. The violations in the returned report are always in the same order as for a sequential
+     * validation.
+     * <p>
+     * If violationLimit is positive, validation stops once that many violations have been found (the report will
+     * indicate this via {@link ValidationReport#isViolationLimitReached()}). In that case, the entity count of the
+     * report only includes the entities which were validated before stopping. If violationLimit is 0 or less, all
+     * entities are validated.
+     *
+     * @param directories       directories to validate
+     * @param parallelism       maximum number of threads to use
+     * @param violationLimit    maximum number of violations to find before stopping (0 or less for no limit)
+     * @param violationConsumer optional consumer of violations as they are found
+     * @return validation report
+     * @throws IOException if an error occurs reading entity files
+     */
+    public static ValidationReport validateEntities(Iterable<? extends Path> directories, int parallelism, int violationLimit, Consumer<? super String> violationConsumer) throws IOException
+    {
+        if (parallelism <= 0)
+        {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
+
+        ValidationState state = new ValidationState(violationConsumer, violationLimit, parallelism > 1);
+        List<DirectoryValidationTask> tasks = new ArrayList<>();
+        for (Path directory : directories)
+        {
+            Path entitiesDirectory = directory.resolve(ENTITY_DIRECTORY);
+            if (Files.isDirectory(entitiesDirectory))
+            {
+                tasks.add(new DirectoryValidationTask(entitiesDirectory, entitiesDirectory, state));
+            }
+        }
+
+        ValidationResult result = new ValidationResult();
+        try
+        {
+            if (state.parallel && !tasks.isEmpty())
+            {
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                try
+                {
+                    tasks.forEach(pool::execute);
+                    tasks.forEach(t -> result.add(t.join()));
+                }
+                finally
+                {
+                    pool.shutdownNow();
+                }
+            }
+            else
+            {
+                tasks.forEach(t -> result.add(t.compute()));
+            }
+        }
+        catch (UncheckedIOException e)
+        {
+            throw e.getCause();
+        }
+        return new ValidationReport(result.entityCount, result.violations, state.violationLimitReached);
     }
 
     public static String formatViolationMessage(List<String> violations)
@@ -157,80 +232,208 @@ public class EntityValidator
         return !"meta".equals(pkg) && !pkg.startsWith("meta::") && EntityPaths.isValidPackagePath(pkg);
     }
 
-    private static int forEachEntity(Iterable<? extends Path> directories, BiConsumer<? super Entity, Consumer<String>> validator, Consumer<String> violationConsumer) throws IOException
+    private static class ValidationState
     {
-        int violationCount = 0;
-        for (Path directory : directories)
+        private final Consumer<? super String> violationConsumer;
+        private final int violationLimit;
+        private final boolean parallel;
+        private final AtomicInteger violationCount = new AtomicInteger();
+        private volatile boolean violationLimitReached = false;
+
+        private ValidationState(Consumer<? super String> violationConsumer, int violationLimit, boolean parallel)
         {
-            violationCount += forEachEntity(directory, validator, violationConsumer);
+            this.violationConsumer = violationConsumer;
+            this.violationLimit = violationLimit;
+            this.parallel = parallel;
         }
-        return violationCount;
-    }
 
-    private static int forEachEntity(Path directory, BiConsumer<? super Entity, Consumer<String>> validator, Consumer<String> violationConsumer) throws IOException
-    {
-        Path entitiesDirectory = directory.resolve(ENTITY_DIRECTORY);
-        return Files.isDirectory(entitiesDirectory) ? forEachEntityInDirectory(entitiesDirectory, entitiesDirectory, validator, violationConsumer) : 0;
+        boolean shouldStop()
+        {
+            return this.violationLimitReached;
+        }
+
+        /**
+         * Record a violation, passing it to the violation consumer (if any). Returns whether the violation was
+         * accepted: once the violation limit has been reached, further violations are dropped.
+         */
+        boolean recordViolation(String violation)
+        {
+            int count = this.violationCount.incrementAndGet();
+            if (this.violationLimit > 0)
+            {
+                if (count > this.violationLimit)
+                {
+                    this.violationLimitReached = true;
+                    return false;
+                }
+                if (count == this.violationLimit)
+                {
+                    this.violationLimitReached = true;
+                }
+            }
+            if (this.violationConsumer != null)
+            {
+                synchronized (this.violationConsumer)
+                {
+                    this.violationConsumer.accept(violation);
+                }
+            }
+            return true;
+        }
     }
 
-    private static int forEachEntityInDirectory(Path directory, Path root, BiConsumer<? super Entity, Consumer<String>> validator, Consumer<String> violationConsumer) throws IOException
+    private static class ValidationResult
     {
-        int count = 0;
-        List<Path> subdirectories = new ArrayList<>();
-        try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(directory))
+        private int entityCount = 0;
+        private List<String> violations = null;
+
+        void addViolation(String violation)
         {
-            for (Path entry : dirStream)
+            if (this.violations == null)
             {
-                if (Files.isDirectory(entry))
+                this.violations = new ArrayList<>();
+            }
+            this.violations.add(violation);
+        }
+
+        void add(ValidationResult other)
+        {
+            this.entityCount += other.entityCount;
+            if (other.violations != null)
+            {
+                if (this.violations == null)
                 {
-                    subdirectories.add(entry);
+                    this.violations = other.violations;
                 }
-                else if (entry.toString().endsWith(ENTITY_EXTENSION))
+                else
+                {
+                    this.violations.addAll(other.violations);
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates the entity files in a directory and (recursively) its subdirectories. When run in parallel, each file
+     * and each subdirectory is a separate task; results are always combined in walk order (files in the directory,
+     * then subdirectories), so the order of the violations in the final report does not depend on the parallelism.
+     */
+    private static class DirectoryValidationTask extends RecursiveTask<ValidationResult>
+    {
+        private final Path directory;
+        private final Path root;
+        private final ValidationState state;
+
+        private DirectoryValidationTask(Path directory, Path root, ValidationState state)
+        {
+            this.directory = directory;
+            this.root = root;
+            this.state = state;
+        }
+
+        @Override
+        protected ValidationResult compute()
+        {
+            ValidationResult result = new ValidationResult();
+            if (this.state.shouldStop())
+            {
+                return result;
+            }
+
+            List<Path> entityFiles = new ArrayList<>();
+            List<Path> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(this.directory))
+            {
+                for (Path entry : dirStream)
                 {
-                    Path relativePath = root.relativize(entry);
-                    String relativePathString = relativePath.toString();
-                    String entityPath = relativePathString.substring(0, relativePathString.length() - ENTITY_EXTENSION.length()).replace(relativePath.getFileSystem().getSeparator(), EntityPaths.PACKAGE_SEPARATOR);
-                    String violationPrefix = "Entity " + entityPath + " - ";
-                    Entity entity;
-                    try (InputStream stream = Files.newInputStream(entry))
+                    if (Files.isDirectory(entry))
                     {
-                        entity = ENTITY_SERIALIZER.deserialize(stream);
+                        subdirectories.add(entry);
                     }
-                    catch (JsonProcessingException e)
+                    else if (entry.toString().endsWith(ENTITY_EXTENSION))
                     {
-                        StringBuilder builder = new StringBuilder(violationPrefix).append(" error deserializing from ").append(entry.toAbsolutePath());
-                        String message = e.getMessage();
-                        if (message != null)
-                        {
-                            builder.append(": ").append(message);
-                        }
-                        violationConsumer.accept(builder.toString());
-                        continue;
+                        entityFiles.add(entry);
                     }
-                    validator.accept(entity, v -> violationConsumer.accept(violationPrefix + v));
-                    count++;
                 }
             }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+
+            if (this.state.parallel)
+            {
+                List<ForkJoinTask<ValidationResult>> tasks = new ArrayList<>(entityFiles.size() + subdirectories.size());
+                entityFiles.forEach(f -> tasks.add(ForkJoinTask.adapt(() -> validateEntityFile(f, this.root, this.state))));
+                subdirectories.forEach(d -> tasks.add(new DirectoryValidationTask(d, this.root, this.state)));
+                invokeAll(tasks);
+                tasks.forEach(t -> result.add(t.join()));
+            }
+            else
+            {
+                entityFiles.forEach(f -> result.add(validateEntityFile(f, this.root, this.state)));
+                subdirectories.forEach(d -> result.add(new DirectoryValidationTask(d, this.root, this.state).compute()));
+            }
+            return result;
+        }
+    }
+
+    private static ValidationResult validateEntityFile(Path entry, Path root, ValidationState state)
+    {
+        ValidationResult result = new ValidationResult();
+        if (state.shouldStop())
+        {
+            return result;
+        }
+
+        Path relativePath = root.relativize(entry);
+        String relativePathString = relativePath.toString();
+        String entityPath = relativePathString.substring(0, relativePathString.length() - ENTITY_EXTENSION.length()).replace(relativePath.getFileSystem().getSeparator(), EntityPaths.PACKAGE_SEPARATOR);
+        String violationPrefix = "Entity " + entityPath + " - ";
+        Consumer<String> violationConsumer = v ->
+        {
+            String violation = violationPrefix + v;
+            if (state.recordViolation(violation))
+            {
+                result.addViolation(violation);
+            }
+        };
+        Entity entity;
+        try (InputStream stream = Files.newInputStream(entry))
+        {
+            entity = ENTITY_SERIALIZER.deserialize(stream);
         }
-        if (!subdirectories.isEmpty())
+        catch (JsonProcessingException e)
         {
-            for (Path subdirectory : subdirectories)
+            StringBuilder builder = new StringBuilder(" error deserializing from ").append(entry.toAbsolutePath());
+            String message = e.getMessage();
+            if (message != null)
             {
-                count += forEachEntityInDirectory(subdirectory, root, validator, violationConsumer);
+                builder.append(": ").append(message);
             }
+            violationConsumer.accept(builder.toString());
+            return result;
         }
-        return count;
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        validateEntity(entity, violationConsumer);
+        result.entityCount++;
+        return result;
     }
 
     public static class ValidationReport
     {
         private final int entityCount;
         private final List<String> violationMessages;
+        private final boolean violationLimitReached;
 
-        private ValidationReport(int entityCount, List<String> violationMessages)
+        private ValidationReport(int entityCount, List<String> violationMessages, boolean violationLimitReached)
         {
             this.entityCount = entityCount;
             this.violationMessages = (violationMessages == null) ? Collections.emptyList() : Collections.unmodifiableList(violationMessages);
+            this.violationLimitReached = violationLimitReached;
         }
 
         public int getEntityCount()
@@ -248,6 +451,17 @@ public class EntityValidator
             return this.violationMessages;
         }
 
+        /**
+         * Whether validation stopped early because the violation limit was reached. If so, there may be entities which
+         * were not validated, and further violations which are not reported.
+         *
+         * @return whether the violation limit was reached
+         */
+        public boolean isViolationLimitReached()
+        {
+            return this.violationLimitReached;
+        }
+
         public String getFormattedViolationMessage()
         {
             return formatViolationMessage(this.violationMessages);
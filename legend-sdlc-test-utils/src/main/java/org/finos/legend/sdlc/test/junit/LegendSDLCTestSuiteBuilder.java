@@ -57,12 +57,37 @@ public class LegendSDLCTestSuiteBuilder
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(LegendSDLCTestSuiteBuilder.class);
 
+    /**
+     * System property which may be used to set the default parallelism for test suites. If it is not set, tests are
+     * run sequentially. A value of 0 or less means to use the number of available processors.
+     */
+    public static final String PARALLELISM_PROPERTY = "org.finos.legend.sdlc.test.parallelism";
+
     private final String pureVersion;
+    private final int parallelism;
     private final Map<String, ? extends TestableRunnerExtension> classifierPathToTestableRunnerMap = TestableRunnerExtensionLoader.getClassifierPathToTestableRunnerMap();
 
-    public LegendSDLCTestSuiteBuilder(String pureVersion)
+    /**
+     * Create a test suite builder. If parallelism is greater than 1, the test cases of the suites built will be run
+     * concurrently using up to that many threads, sharing the same PureModel and PureModelContextData. Results are
+     * still reported in test order (see {@link ParallelTestSuite}).
+     *
+     * @param pureVersion Pure version
+     * @param parallelism maximum number of test cases to run concurrently
+     */
+    public LegendSDLCTestSuiteBuilder(String pureVersion, int parallelism)
     {
+        if (parallelism <= 0)
+        {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
         this.pureVersion = pureVersion;
+        this.parallelism = parallelism;
+    }
+
+    public LegendSDLCTestSuiteBuilder(String pureVersion)
+    {
+        this(pureVersion, getDefaultParallelism());
     }
 
     public LegendSDLCTestSuiteBuilder()
@@ -109,7 +134,7 @@ public class LegendSDLCTestSuiteBuilder
     public TestSuite buildSuite(String name, Collection<? extends Entity> entitiesForTesting, ClassLoader classLoader)
     {
         Map<Class<? extends PackageableElement>, TestSuiteBuilder> testSuiteBuilders = getTestSuiteBuilderByTypeMap(TestableTestCase.class, MappingTestCase.class, ServiceTestCase.class);
-        TestSuite suite = new TestSuite();
+        TestSuite suite = (this.parallelism > 1) ? new ParallelTestSuite(this.parallelism) : new TestSuite();
         suite.setName(name);
         Set<String> entitiesForTestingPaths = entitiesForTesting.stream().map(Entity::getPath).collect(Collectors.toSet());
         PureModelContextData pureModelContextData;
@@ -184,6 +209,26 @@ public class LegendSDLCTestSuiteBuilder
         return suite;
     }
 
+    private static int getDefaultParallelism()
+    {
+        String property = System.getProperty(PARALLELISM_PROPERTY);
+        if ((property == null) || property.trim().isEmpty())
+        {
+            return 1;
+        }
+
+        int parallelism;
+        try
+        {
+            parallelism = Integer.parseInt(property.trim());
+        }
+        catch (NumberFormatException e)
+        {
+            throw new IllegalArgumentException("Invalid value for " + PARALLELISM_PROPERTY + ": " + property, e);
+        }
+        return (parallelism > 0) ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
     private Map<Class<? extends PackageableElement>, TestSuiteBuilder> getTestSuiteBuilderByTypeMap(Class<?>... classes)
     {
         return getTestSuiteBuilderByTypeMap(Arrays.asList(classes));
@@ -0,0 +1,158 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.test.junit;
+
+import junit.framework.AssertionFailedError;
+import junit.framework.Test;
+import junit.framework.TestListener;
+import junit.framework.TestResult;
+import junit.framework.TestSuite;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+
+import java.util.Enumeration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A test suite which runs its tests concurrently. Each leaf test (i.e., each test which is not itself a
+ * {@link TestSuite}) is run as a separate task in a fork-join pool, and records its results in its own
+ * {@link TestResult}. Those results are then reported to the {@link TestResult} passed to {@link #run} in the order
+ * in which the tests appear in the suite, so listeners see the same sequence of events as they would for a sequential
+ * run. Note, though, that events for a test are only reported once it has completed, so the time between the start
+ * and end events for a test does not reflect its actual duration.
+ */
+public class ParallelTestSuite extends TestSuite
+{
+    private final int parallelism;
+
+    public ParallelTestSuite(int parallelism)
+    {
+        if (parallelism <= 0)
+        {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism()
+    {
+        return this.parallelism;
+    }
+
+    @Override
+    public void run(TestResult result)
+    {
+        MutableList<Test> leafTests = Lists.mutable.empty();
+        collectLeafTests(this, leafTests);
+        if ((this.parallelism == 1) || (leafTests.size() <= 1))
+        {
+            super.run(result);
+            return;
+        }
+
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        ForkJoinPool pool = new ForkJoinPool(Math.min(this.parallelism, leafTests.size()));
+        try
+        {
+            MutableList<ForkJoinTask<RecordingTestListener>> tasks = leafTests.collect(test -> pool.submit(() -> runTest(test, contextClassLoader)));
+            for (ForkJoinTask<RecordingTestListener> task : tasks)
+            {
+                if (result.shouldStop())
+                {
+                    break;
+                }
+                task.join().replay(result);
+            }
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    private static RecordingTestListener runTest(Test test, ClassLoader contextClassLoader)
+    {
+        Thread currentThread = Thread.currentThread();
+        ClassLoader previousClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(contextClassLoader);
+        try
+        {
+            RecordingTestListener listener = new RecordingTestListener();
+            TestResult testResult = new TestResult();
+            testResult.addListener(listener);
+            test.run(testResult);
+            return listener;
+        }
+        finally
+        {
+            currentThread.setContextClassLoader(previousClassLoader);
+        }
+    }
+
+    private static void collectLeafTests(Test test, MutableList<Test> leafTests)
+    {
+        if (test instanceof TestSuite)
+        {
+            for (Enumeration<Test> tests = ((TestSuite) test).tests(); tests.hasMoreElements(); )
+            {
+                collectLeafTests(tests.nextElement(), leafTests);
+            }
+        }
+        else
+        {
+            leafTests.add(test);
+        }
+    }
+
+    private static class RecordingTestListener implements TestListener
+    {
+        private final MutableList<TestEvent> events = Lists.mutable.empty();
+
+        @Override
+        public synchronized void startTest(Test test)
+        {
+            this.events.add(result -> result.startTest(test));
+        }
+
+        @Override
+        public synchronized void addError(Test test, Throwable t)
+        {
+            this.events.add(result -> result.addError(test, t));
+        }
+
+        @Override
+        public synchronized void addFailure(Test test, AssertionFailedError e)
+        {
+            this.events.add(result -> result.addFailure(test, e));
+        }
+
+        @Override
+        public synchronized void endTest(Test test)
+        {
+            this.events.add(result -> result.endTest(test));
+        }
+
+        synchronized void replay(TestResult result)
+        {
+            this.events.forEach(event -> event.replay(result));
+        }
+    }
+
+    private interface TestEvent
+    {
+        void replay(TestResult result);
+    }
+}
@@ -14,21 +14,101 @@
 
 package org.finos.legend.sdlc.test.junit;
 
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.serialization.EntitySerializer;
+import org.finos.legend.sdlc.serialization.EntitySerializers;
 import org.finos.legend.sdlc.test.EntityValidator;
 import org.finos.legend.sdlc.test.PathTools;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class TestEntityValidator
 {
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
     @Test
     public void testM2MMappingModelValidation() throws Exception
     {
         testEntityValidator("legend-sdlc-test-m2m-mapping-model-with-tests", 10, 0);
     }
 
+    @Test
+    public void testParallelValidation() throws Exception
+    {
+        Path directory = writeSyntheticEntities(1000, 100);
+
+        EntityValidator.ValidationReport sequentialReport = EntityValidator.validateEntities(Collections.singletonList(directory), 1, 0, null);
+        assertEntityValidationReport(sequentialReport, 1000, 11);
+        Assert.assertFalse(sequentialReport.isViolationLimitReached());
+
+        List<String> streamedViolations = new ArrayList<>();
+        EntityValidator.ValidationReport parallelReport = EntityValidator.validateEntities(Collections.singletonList(directory), 4, 0, streamedViolations::add);
+        assertEntityValidationReport(parallelReport, 1000, 11);
+        Assert.assertFalse(parallelReport.isViolationLimitReached());
+        Assert.assertEquals(sequentialReport.getViolationMessages(), parallelReport.getViolationMessages());
+        Assert.assertEquals(sequentialReport.getViolationMessages().size(), streamedViolations.size());
+        Assert.assertTrue(streamedViolations.containsAll(sequentialReport.getViolationMessages()));
+    }
+
+    @Test
+    public void testViolationLimit() throws Exception
+    {
+        Path directory = writeSyntheticEntities(1000, 10);
+        for (int parallelism : new int[]{1, 4})
+        {
+            List<String> streamedViolations = new ArrayList<>();
+            EntityValidator.ValidationReport report = EntityValidator.validateEntities(Collections.singletonList(directory), parallelism, 5, streamedViolations::add);
+            Assert.assertTrue(report.isViolationLimitReached());
+            Assert.assertTrue(report.hasViolations());
+            Assert.assertEquals(5, report.getViolationMessages().size());
+            Assert.assertEquals(report.getViolationMessages().size(), streamedViolations.size());
+            Assert.assertTrue(streamedViolations.containsAll(report.getViolationMessages()));
+            Assert.assertTrue(report.getEntityCount() < 1000);
+        }
+
+        EntityValidator.ValidationReport unreachedReport = EntityValidator.validateEntities(Collections.singletonList(directory), 4, 1000, null);
+        Assert.assertFalse(unreachedReport.isViolationLimitReached());
+        assertEntityValidationReport(unreachedReport, 1000, 101);
+    }
+
+    private Path writeSyntheticEntities(int entityCount, int invalidEvery) throws IOException
+    {
+        EntitySerializer serializer = EntitySerializers.getDefaultJsonSerializer();
+        Path directory = this.tempFolder.newFolder().toPath();
+        Path entitiesDirectory = directory.resolve("entities");
+        for (int i = 0; i < entityCount; i++)
+        {
+            String pkg = "model::pkg" + (i % 10) + "::sub" + (i % 3);
+            String name = "Class" + i;
+            Map<String, Object> content = new HashMap<>();
+            content.put("_type", "class");
+            content.put("package", (i % invalidEvery == 0) ? "meta::invalid" : pkg);
+            content.put("name", name);
+            Path file = entitiesDirectory.resolve(pkg.replace("::", "/")).resolve(name + ".json");
+            Files.createDirectories(file.getParent());
+            try (OutputStream stream = Files.newOutputStream(file))
+            {
+                serializer.serialize(Entity.newEntity(pkg + "::" + name, "meta::pure::metamodel::type::Class", content), stream);
+            }
+        }
+        Files.write(entitiesDirectory.resolve("model").resolve("Invalid.json"), "{\"classifierPath\":".getBytes(StandardCharsets.UTF_8));
+        return directory;
+    }
+
     private void testEntityValidator(String entitiesResourceName, int expectedEntityCount, int expectedViolationCount) throws IOException
     {
         EntityValidator.ValidationReport report = EntityValidator.validateEntities(PathTools.resourceToPath(entitiesResourceName));
@@ -50,7 +130,7 @@ public class TestEntityValidator
         }
         else
         {
-            Assert.assertEquals(String.format("There are %,d violations: \n\t%s", expectedViolationCount, String.join("\n\t", report.getViolationMessages())), report.getFormattedViolationMessage());
+            Assert.assertEquals(String.format("There are %,d violations:\n\t%s", expectedViolationCount, String.join("\n\t", report.getViolationMessages())), report.getFormattedViolationMessage());
         }
     }
 }
@@ -68,14 +68,31 @@ public class TestLegendSDLCTestSuiteBuilder
         testTestSuiteBuilder("legend-sdlc-test-mapping-with-testTestSuites", expectedTestState);
     }
 
+    @Test
+    public void testBuildM2MMappingWithTestsParallelTestSuite() throws Exception
+    {
+        Map<String, Set<String>> expectedTestCasesByTestSuite = Maps.mutable.with(
+                "legend::demo::AB { Specific }", Sets.immutable.with("legend::demo::AB Test #1").castToSet(),
+                "model::domain::inmemm2m::mapping::M2MMapping { Specific }", Sets.immutable.with("model::domain::inmemm2m::mapping::M2MMapping Test #1", "model::domain::inmemm2m::mapping::M2MMapping Test #2").castToSet());
+        ExpectedTestState expectedTestState = new ExpectedTestState("legend-sdlc-test-m2m-mapping-model-with-tests", 2, 3, 0, 0, expectedTestCasesByTestSuite);
+
+        testTestSuiteBuilder("legend-sdlc-test-m2m-mapping-model-with-tests", 4, expectedTestState);
+    }
+
     protected void testTestSuiteBuilder(String entitiesResourceName, ExpectedTestState expectedTestState) throws Exception
+    {
+        testTestSuiteBuilder(entitiesResourceName, 1, expectedTestState);
+    }
+
+    protected void testTestSuiteBuilder(String entitiesResourceName, int parallelism, ExpectedTestState expectedTestState) throws Exception
     {
         TestSuite suite;
         try (EntityLoader entityLoader = EntityLoader.newEntityLoader(PathTools.resourceToPath(entitiesResourceName)))
         {
-            suite = new LegendSDLCTestSuiteBuilder("vX_X_X")
+            suite = new LegendSDLCTestSuiteBuilder("vX_X_X", parallelism)
                     .buildSuite(entitiesResourceName, entityLoader);
         }
+        Assert.assertEquals(parallelism > 1, suite instanceof ParallelTestSuite);
         expectedTestState.assertTestSuite(suite);
     }
 
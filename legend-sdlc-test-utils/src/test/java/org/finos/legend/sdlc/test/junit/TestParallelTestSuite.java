@@ -0,0 +1,145 @@
+// Copyright 2023 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.test.junit;
+
+import junit.framework.AssertionFailedError;
+import junit.framework.TestCase;
+import junit.framework.TestListener;
+import junit.framework.TestResult;
+import junit.framework.TestSuite;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class TestParallelTestSuite
+{
+    @Test
+    public void testInvalidParallelism()
+    {
+        IllegalArgumentException e = Assert.assertThrows(IllegalArgumentException.class, () -> new ParallelTestSuite(0));
+        Assert.assertEquals("Invalid parallelism: 0", e.getMessage());
+    }
+
+    @Test
+    public void testOrderedReporting()
+    {
+        // The first test can only complete once the last has started, so this would deadlock if run sequentially
+        CountDownLatch lastStarted = new CountDownLatch(1);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        ParallelTestSuite suite = new ParallelTestSuite(3);
+        suite.setName("parallel");
+        TestSuite first = new TestSuite("first");
+        first.addTest(new SimpleTestCase("a", () ->
+        {
+            threads.add(Thread.currentThread().getName());
+            Assert.assertTrue(lastStarted.await(30, TimeUnit.SECONDS));
+        }));
+        first.addTest(new SimpleTestCase("b", () ->
+        {
+            threads.add(Thread.currentThread().getName());
+            junit.framework.Assert.fail("expected failure");
+        }));
+        suite.addTest(first);
+        TestSuite second = new TestSuite("second");
+        second.addTest(new SimpleTestCase("c", () ->
+        {
+            threads.add(Thread.currentThread().getName());
+            throw new RuntimeException("expected error");
+        }));
+        second.addTest(new SimpleTestCase("d", () ->
+        {
+            threads.add(Thread.currentThread().getName());
+            lastStarted.countDown();
+        }));
+        suite.addTest(second);
+
+        MutableList<String> events = Lists.mutable.empty();
+        TestResult result = new TestResult();
+        result.addListener(new TestListener()
+        {
+            @Override
+            public void startTest(junit.framework.Test test)
+            {
+                events.add("start " + test);
+            }
+
+            @Override
+            public void addError(junit.framework.Test test, Throwable t)
+            {
+                events.add("error " + test + ": " + t.getMessage());
+            }
+
+            @Override
+            public void addFailure(junit.framework.Test test, AssertionFailedError e)
+            {
+                events.add("failure " + test + ": " + e.getMessage());
+            }
+
+            @Override
+            public void endTest(junit.framework.Test test)
+            {
+                events.add("end " + test);
+            }
+        });
+        suite.run(result);
+
+        Assert.assertEquals(
+                Lists.mutable.with(
+                        "start a", "end a",
+                        "start b", "failure b: expected failure", "end b",
+                        "start c", "error c: expected error", "end c",
+                        "start d", "end d"),
+                events);
+        Assert.assertEquals(4, result.runCount());
+        Assert.assertEquals(1, result.failureCount());
+        Assert.assertEquals(1, result.errorCount());
+        Assert.assertTrue(threads.size() > 1);
+    }
+
+    private static class SimpleTestCase extends TestCase
+    {
+        private final TestBody body;
+
+        private SimpleTestCase(String name, TestBody body)
+        {
+            super(name);
+            this.body = body;
+        }
+
+        @Override
+        protected void runTest() throws Throwable
+        {
+            this.body.run();
+        }
+
+        @Override
+        public String toString()
+        {
+            return getName();
+        }
+    }
+
+    private interface TestBody
+    {
+        void run() throws Throwable;
+    }
+}
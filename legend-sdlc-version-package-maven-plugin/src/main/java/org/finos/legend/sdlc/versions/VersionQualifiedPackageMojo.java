@@ -25,6 +25,7 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.serialization.EntityIndex;
 import org.finos.legend.sdlc.serialization.EntityLoader;
 import org.finos.legend.sdlc.serialization.EntitySerializer;
 import org.finos.legend.sdlc.serialization.EntitySerializers;
@@ -32,6 +33,7 @@ import org.finos.legend.sdlc.tools.entity.EntityPaths;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -214,6 +216,11 @@ public class VersionQualifiedPackageMojo extends AbstractMojo
         {
             entitySerializer.serializeToFile(entity, entitiesDir);
         }
+        if (Files.exists(entitiesDir.resolve(EntityIndex.INDEX_FILE_NAME)))
+        {
+            // keep the entity index up to date with the entities
+            EntityIndex.writeIndex(entitiesDir);
+        }
         getLog().info(String.format("Done serializing %,d entities to %s (%.9fs)", entities.size(), this.outputDirectory, (System.nanoTime() - serializeStart) / 1_000_000_000.0));
     }
 